@@ -0,0 +1,42 @@
+package com.api.automation.cache;
+
+import lombok.Getter;
+
+/**
+ * Immutable view of {@link ResponseCache} counters.
+ * Hits include responses confirmed by a 304 revalidation; misses are full fetches.
+ */
+@Getter
+public class CacheStats {
+    private final long hits;
+    private final long revalidations;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+    private final int size;
+
+    public CacheStats(long hits, long revalidations, long misses, long evictions, long invalidations, int size) {
+        this.hits = hits;
+        this.revalidations = revalidations;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.size = size;
+    }
+
+    /**
+     * Fraction of cacheable requests answered from the cache
+     * @return hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d (revalidated %d), misses=%d, hitRate=%.1f%%, evictions=%d, "
+                        + "invalidations=%d, size=%d",
+                hits, revalidations, misses, getHitRate() * 100, evictions, invalidations, size);
+    }
+}
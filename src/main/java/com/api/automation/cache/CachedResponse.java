@@ -0,0 +1,65 @@
+package com.api.automation.cache;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+/**
+ * A buffered GET response held by {@link ResponseCache}, with its validators and freshness window
+ */
+final class CachedResponse {
+    private final Response response;
+    private final String etag;
+    private final String lastModified;
+    private final long storedAtNanos;
+    private final long freshNanos;
+
+    CachedResponse(Response response, long storedAtNanos, long freshNanos) {
+        this(buffered(response), response.getHeader("ETag"), response.getHeader("Last-Modified"),
+                storedAtNanos, freshNanos);
+    }
+
+    private CachedResponse(Response response, String etag, String lastModified, long storedAtNanos,
+                           long freshNanos) {
+        this.response = response;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.storedAtNanos = storedAtNanos;
+        this.freshNanos = freshNanos;
+    }
+
+    private static Response buffered(Response response) {
+        // read the body first so the clone shares the bytes instead of consuming the stream
+        response.asByteArray();
+        return new ResponseBuilder().clone(response).build();
+    }
+
+    boolean isFresh(long nowNanos) {
+        return nowNanos - storedAtNanos < freshNanos;
+    }
+
+    boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Same response, fresh again after the server confirmed it with 304 Not Modified
+     */
+    CachedResponse revalidated(long nowNanos, long freshNanos) {
+        return new CachedResponse(response, etag, lastModified, nowNanos, freshNanos);
+    }
+
+    /**
+     * Copy of the cached response for one caller; the body bytes are shared, not copied
+     */
+    Response toResponse() {
+        return new ResponseBuilder().clone(response).build();
+    }
+}
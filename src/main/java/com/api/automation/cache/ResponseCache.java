@@ -0,0 +1,159 @@
+package com.api.automation.cache;
+
+import com.api.automation.config.ConfigManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded LRU store of GET responses keyed by full request URI, used by {@link ResponseCacheFilter}.
+ *
+ * An entry is served without a request while it is fresh (at most {@code http.cache.ttl.ms}, less if
+ * the server sends {@code Cache-Control: max-age} or {@code no-cache}). Once stale it is revalidated
+ * with {@code If-None-Match}/{@code If-Modified-Since} if the server sent an ETag or Last-Modified.
+ * The map is guarded by the cache's monitor; lookups are short, so contention stays low.
+ *
+ * Every invalidation advances a generation counter. A GET reads it before sending its request and
+ * stores the response only if no invalidation happened meanwhile, so a slow GET cannot put back
+ * data that a concurrent write has already made stale.
+ */
+public class ResponseCache {
+    private static ResponseCache instance;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, CachedResponse> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private long generation;
+
+    public ResponseCache(int maxEntries, long ttlMs) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttlMs));
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                if (size() > ResponseCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the shared cache sized by {@code http.cache.max.entries} and {@code http.cache.ttl.ms}
+     * @return ResponseCache instance
+     */
+    public static synchronized ResponseCache getInstance() {
+        if (instance == null) {
+            ConfigManager config = ConfigManager.getInstance();
+            instance = new ResponseCache(config.getHttpCacheMaxEntries(), config.getHttpCacheTtlMs());
+        }
+        return instance;
+    }
+
+    /**
+     * Drop every entry whose resource was changed by a write to the given URI: the resource itself,
+     * its sub-resources and its parent collection, with any query string
+     * @param uri full URI of a POST, PUT, PATCH or DELETE request
+     * @return number of entries removed
+     */
+    public synchronized int invalidate(String uri) {
+        String path = stripQuery(uri);
+        String parent = parentOf(path);
+        int removed = 0;
+        Iterator<String> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            String cachedPath = stripQuery(keys.next());
+            if (cachedPath.equals(path) || cachedPath.startsWith(path + "/") || cachedPath.equals(parent)) {
+                keys.remove();
+                removed++;
+            }
+        }
+        invalidations.add(removed);
+        generation++;
+        return removed;
+    }
+
+    /**
+     * Remove all entries; counters are kept
+     */
+    public synchronized void clear() {
+        entries.clear();
+        generation++;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get cache counters
+     * @return snapshot of hits, misses, evictions and invalidations
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), revalidations.sum(), misses.sum(), evictions.sum(),
+                invalidations.sum(), size());
+    }
+
+    long getTtlNanos() {
+        return ttlNanos;
+    }
+
+    synchronized CachedResponse get(String uri) {
+        return entries.get(uri);
+    }
+
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Store a response unless the cache was invalidated after it was requested
+     * @param generation {@link #getGeneration()} read before the request was sent
+     * @return true if stored
+     */
+    synchronized boolean put(String uri, CachedResponse response, long generation) {
+        if (this.generation != generation) {
+            return false;
+        }
+        entries.put(uri, response);
+        return true;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordRevalidation() {
+        hits.increment();
+        revalidations.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    private static String stripQuery(String uri) {
+        int query = uri.indexOf('?');
+        String path = query < 0 ? uri : uri.substring(0, query);
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static String parentOf(String path) {
+        int schemeEnd = path.indexOf("://");
+        int lastSlash = path.lastIndexOf('/');
+        return lastSlash > (schemeEnd < 0 ? 0 : schemeEnd + 2) ? path.substring(0, lastSlash) : path;
+    }
+}
@@ -0,0 +1,115 @@
+package com.api.automation.cache;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers repeated GETs from a {@link ResponseCache}.
+ *
+ * A fresh entry is returned without a request. A stale entry with an ETag or Last-Modified is
+ * revalidated with a conditional request and returned as-is on 304 Not Modified. Only 200 responses
+ * without {@code Cache-Control: no-store} are stored, and requests that already carry their own
+ * conditional headers bypass the cache. Every POST, PUT, PATCH or DELETE invalidates the entries
+ * of the resource it targets once it completes, and a GET whose request overlapped an invalidation
+ * is not stored.
+ */
+public class ResponseCacheFilter implements Filter {
+    private final ResponseCache cache;
+
+    /**
+     * Create a filter backed by the shared {@link ResponseCache}
+     */
+    public ResponseCacheFilter() {
+        this(ResponseCache.getInstance());
+    }
+
+    public ResponseCacheFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        if (!"GET".equals(method)) {
+            if ("HEAD".equals(method) || "OPTIONS".equals(method)) {
+                return ctx.next(requestSpec, responseSpec);
+            }
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                cache.invalidate(uri);
+            }
+        }
+        if (requestSpec.getHeaders().hasHeaderWithName("If-None-Match")
+                || requestSpec.getHeaders().hasHeaderWithName("If-Modified-Since")) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        long now = System.nanoTime();
+        long generation = cache.getGeneration();
+        CachedResponse cached = cache.get(uri);
+        if (cached != null) {
+            if (cached.isFresh(now)) {
+                cache.recordHit();
+                return cached.toResponse();
+            }
+            if (cached.getEtag() != null) {
+                requestSpec.header("If-None-Match", cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                requestSpec.header("If-Modified-Since", cached.getLastModified());
+            }
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && cached.hasValidators() && response.getStatusCode() == 304) {
+            cache.recordRevalidation();
+            cache.put(uri, cached.revalidated(now, freshNanos(response)), generation);
+            return cached.toResponse();
+        }
+        cache.recordMiss();
+        if (response.getStatusCode() == 200 && !hasDirective(response, "no-store")) {
+            cache.put(uri, new CachedResponse(response, now, freshNanos(response)), generation);
+        }
+        return response;
+    }
+
+    /**
+     * The configured TTL, shortened by the server's Cache-Control no-cache or max-age
+     */
+    private long freshNanos(Response response) {
+        if (hasDirective(response, "no-cache")) {
+            return 0;
+        }
+        long ttl = cache.getTtlNanos();
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null) {
+            for (String directive : cacheControl.split(",")) {
+                directive = directive.trim().toLowerCase(Locale.ROOT);
+                if (directive.startsWith("max-age=")) {
+                    try {
+                        long maxAgeSeconds = Long.parseLong(directive.substring(8).trim());
+                        ttl = Math.min(ttl, TimeUnit.SECONDS.toNanos(Math.max(0, maxAgeSeconds)));
+                    } catch (NumberFormatException e) {
+                        // ignore a malformed max-age and keep the configured TTL
+                    }
+                }
+            }
+        }
+        return ttl;
+    }
+
+    private static boolean hasDirective(Response response, String directive) {
+        String cacheControl = response.getHeader("Cache-Control");
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains(directive);
+    }
+}
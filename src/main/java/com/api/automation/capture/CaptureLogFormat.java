@@ -0,0 +1,114 @@
+package com.api.automation.capture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binary layout of a capture log.
+ *
+ * <pre>
+ * header:  int magic "RACP" | byte version | byte flags (bit 0 = records are deflated)
+ * record:  int length | payload[length]
+ * payload: long timestampMicros | long latencyNanos | short status | string method | string uri
+ *          | short headerCount | (string name | string value)* | bytes requestBody | bytes responseBody
+ * </pre>
+ * Strings and byte arrays are an int length followed by the (UTF-8) bytes. A deflated payload is
+ * prefixed with its inflated length. All integers are big-endian.
+ */
+final class CaptureLogFormat {
+    static final int MAGIC = 0x52414350;
+    static final byte VERSION = 1;
+    static final byte FLAG_COMPRESSED = 1;
+    static final int HEADER_SIZE = 6;
+
+    private CaptureLogFormat() {
+    }
+
+    static ByteBuffer header(boolean compressed) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put(VERSION).put(compressed ? FLAG_COMPRESSED : 0).flip();
+        return header;
+    }
+
+    /**
+     * Validate a log header
+     * @param header buffer positioned at the start of the log; advanced past the header
+     * @param file log file, for error messages
+     * @return whether the log's records are deflated
+     */
+    static boolean readHeader(ByteBuffer header, Path file) throws IOException {
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IOException("Not a capture log: " + file);
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported capture log version " + version + ": " + file);
+        }
+        return (header.get() & FLAG_COMPRESSED) != 0;
+    }
+
+    static byte[] encode(CapturedExchange exchange) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+                128 + exchange.getRequestBody().length + exchange.getResponseBody().length);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(exchange.getTimestampMicros());
+            out.writeLong(exchange.getLatencyNanos());
+            out.writeShort(exchange.getStatusCode());
+            writeString(out, exchange.getMethod());
+            writeString(out, exchange.getUri());
+            out.writeShort(exchange.getRequestHeaders().size());
+            for (Map.Entry<String, String> header : exchange.getRequestHeaders().entrySet()) {
+                writeString(out, header.getKey());
+                writeString(out, header.getValue());
+            }
+            writeBytes(out, exchange.getRequestBody());
+            writeBytes(out, exchange.getResponseBody());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static CapturedExchange decode(ByteBuffer payload) {
+        long timestampMicros = payload.getLong();
+        long latencyNanos = payload.getLong();
+        int status = payload.getShort() & 0xFFFF;
+        String method = readString(payload);
+        String uri = readString(payload);
+        int headerCount = payload.getShort() & 0xFFFF;
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put(readString(payload), readString(payload));
+        }
+        byte[] requestBody = readBytes(payload);
+        byte[] responseBody = readBytes(payload);
+        return new CapturedExchange(timestampMicros, method, uri, headers, requestBody, status, responseBody,
+                latencyNanos);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static String readString(ByteBuffer in) {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] value = new byte[in.getInt()];
+        in.get(value);
+        return value;
+    }
+}
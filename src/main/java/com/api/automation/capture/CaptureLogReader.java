@@ -0,0 +1,146 @@
+package com.api.automation.capture;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads a capture log written by {@link CaptureLogWriter} through a read-only memory mapping.
+ *
+ * Records are decoded lazily as they are iterated, so replaying a large log never holds more than
+ * one exchange at a time. A record cut short by a crash while it was being written ends the
+ * iteration instead of failing it. Each {@link #iterator()} is independent and may be used from
+ * its own thread. Logs larger than 2 GB are not supported.
+ */
+public class CaptureLogReader implements Closeable, Iterable<CapturedExchange> {
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final boolean compressed;
+
+    public CaptureLogReader(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Capture log larger than 2 GB: " + file);
+            }
+            this.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            this.compressed = CaptureLogFormat.readHeader(mapped.duplicate(), file);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Read every exchange into memory
+     * @return exchanges in the order they were recorded
+     */
+    public List<CapturedExchange> readAll() {
+        List<CapturedExchange> exchanges = new ArrayList<>();
+        forEach(exchanges::add);
+        return exchanges;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    @Override
+    public Iterator<CapturedExchange> iterator() {
+        ByteBuffer records = mapped.duplicate();
+        records.position(CaptureLogFormat.HEADER_SIZE);
+        return new RecordIterator(records);
+    }
+
+    /**
+     * Close the channel. The mapping itself is released once it is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private final class RecordIterator implements Iterator<CapturedExchange> {
+        private final ByteBuffer records;
+        private final Inflater inflater = compressed ? new Inflater() : null;
+        private ByteBuffer next;
+
+        RecordIterator(ByteBuffer records) {
+            this.records = records;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = nextPayload();
+            }
+            return next != null;
+        }
+
+        @Override
+        public CapturedExchange next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ByteBuffer payload = next;
+            next = null;
+            return CaptureLogFormat.decode(compressed ? inflate(payload) : payload);
+        }
+
+        private ByteBuffer nextPayload() {
+            if (records.remaining() >= Integer.BYTES) {
+                int offset = records.position();
+                int length = records.getInt();
+                if (length > 0 && length <= records.remaining()) {
+                    ByteBuffer payload = records.slice(records.position(), length);
+                    records.position(records.position() + length);
+                    return payload;
+                }
+                records.position(offset);
+            }
+            if (inflater != null) {
+                inflater.end();
+            }
+            return null;
+        }
+
+        private ByteBuffer inflate(ByteBuffer payload) {
+            byte[] raw = new byte[payload.getInt()];
+            inflater.reset();
+            inflater.setInput(payload);
+            try {
+                int length = 0;
+                while (length < raw.length && !inflater.finished()) {
+                    int inflated = inflater.inflate(raw, length, raw.length - length);
+                    if (inflated == 0 && inflater.needsInput()) {
+                        break;
+                    }
+                    length += inflated;
+                }
+                if (length != raw.length) {
+                    throw new IllegalStateException("Truncated compressed record in " + file);
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Corrupt compressed record in " + file, e);
+            }
+            return ByteBuffer.wrap(raw);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.api.automation.capture;
+
+import com.api.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+
+/**
+ * Appends {@link CapturedExchange records} to a capture log (see {@link CaptureLogFormat}).
+ *
+ * Records are framed into a heap buffer and written to the file channel only when the buffer
+ * fills up, on {@link #flush()} and on {@link #close()}, so recording costs no system call per
+ * request. Opening an existing log appends to it; the compression flag of the existing log wins.
+ * A record left half-written by a crash is cut off first, so it cannot swallow the records
+ * appended after it. All methods are thread-safe.
+ */
+public class CaptureLogWriter implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(CaptureLogWriter.class);
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static CaptureLogWriter instance;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean compressed;
+    private final Deflater deflater;
+    private final byte[] deflateChunk;
+    private long recordCount;
+    private boolean closed;
+
+    public CaptureLogWriter(Path file, boolean compress) throws IOException {
+        this(file, compress, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CaptureLogWriter(Path file, boolean compress, int bufferSize) throws IOException {
+        this.file = file;
+        boolean existing = Files.exists(file) && Files.size(file) > 0;
+        if (existing) {
+            try (FileChannel log = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(CaptureLogFormat.HEADER_SIZE);
+                while (header.hasRemaining() && log.read(header) >= 0) {
+                    // read the complete header
+                }
+                header.flip();
+                if (isTornHeader(header)) {
+                    logger.warn("Capture log {} has an incomplete header; starting it over", file);
+                    log.truncate(0);
+                    existing = false;
+                } else {
+                    compress = CaptureLogFormat.readHeader(header, file);
+                    truncateTornRecord(log);
+                }
+            }
+        }
+        this.compressed = compress;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.buffer = ByteBuffer.allocate(Math.max(bufferSize, CaptureLogFormat.HEADER_SIZE));
+        this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        this.deflateChunk = compress ? new byte[8192] : null;
+        if (!existing) {
+            buffer.put(CaptureLogFormat.header(compress));
+        }
+    }
+
+    /**
+     * Get the shared writer for {@code capture.file}. It is flushed and closed on JVM shutdown.
+     * @return CaptureLogWriter instance
+     */
+    public static synchronized CaptureLogWriter getInstance() {
+        if (instance == null) {
+            ConfigManager config = ConfigManager.getInstance();
+            String captureFile = config.getCaptureFile();
+            if (captureFile == null) {
+                throw new IllegalStateException("capture.file is not configured");
+            }
+            CaptureLogWriter writer;
+            try {
+                writer = new CaptureLogWriter(Paths.get(captureFile), config.isCaptureCompress());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open capture log " + captureFile, e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(writer::closeQuietly, "capture-log-shutdown"));
+            instance = writer;
+        }
+        return instance;
+    }
+
+    /**
+     * Append one exchange to the log
+     * @param exchange recorded exchange
+     */
+    public synchronized void append(CapturedExchange exchange) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Capture log is closed: " + file);
+        }
+        byte[] payload = CaptureLogFormat.encode(exchange);
+        if (compressed) {
+            payload = deflate(payload);
+        }
+        int frameLength = Integer.BYTES + payload.length;
+        if (buffer.remaining() < frameLength) {
+            writeBuffer();
+        }
+        if (frameLength > buffer.capacity()) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).putInt(payload.length).flip();
+            writeFully(length, ByteBuffer.wrap(payload));
+        } else {
+            buffer.putInt(payload.length).put(payload);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Write buffered records to the file
+     */
+    public synchronized void flush() throws IOException {
+        if (!closed) {
+            writeBuffer();
+        }
+    }
+
+    /**
+     * Get the number of records appended through this writer
+     * @return record count
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            writeBuffer();
+        } finally {
+            closed = true;
+            if (deflater != null) {
+                deflater.end();
+            }
+            channel.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            logger.error("Failed to close capture log {}", file, e);
+        }
+    }
+
+    /**
+     * Whether the log is shorter than a header and what is there is the start of one
+     */
+    private static boolean isTornHeader(ByteBuffer header) {
+        if (header.remaining() >= CaptureLogFormat.HEADER_SIZE) {
+            return false;
+        }
+        ByteBuffer expected = CaptureLogFormat.header(false);
+        for (int i = 0; i < Math.min(header.remaining(), Integer.BYTES); i++) {
+            if (header.get(i) != expected.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Walk the record lengths and cut the log after the last complete record
+     */
+    private void truncateTornRecord(FileChannel log) throws IOException {
+        long size = log.size();
+        long end = CaptureLogFormat.HEADER_SIZE;
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        while (end + Integer.BYTES <= size) {
+            length.clear();
+            while (length.hasRemaining() && log.read(length, end + length.position()) >= 0) {
+                // read the complete length prefix
+            }
+            int payloadLength = length.getInt(0);
+            if (payloadLength < 0 || end + Integer.BYTES + payloadLength > size) {
+                break;
+            }
+            end += Integer.BYTES + payloadLength;
+        }
+        if (end < size) {
+            logger.warn("Capture log {} ends with an incomplete record; truncating {} bytes", file, size - end);
+            log.truncate(end);
+        }
+    }
+
+    private byte[] deflate(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+        out.write(raw.length >>> 24);
+        out.write(raw.length >>> 16);
+        out.write(raw.length >>> 8);
+        out.write(raw.length);
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(deflateChunk);
+            out.write(deflateChunk, 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer... buffers) throws IOException {
+        for (ByteBuffer source : buffers) {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.api.automation.capture;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One recorded request/response pair as stored in a capture log
+ */
+@Getter
+public final class CapturedExchange {
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * When the request was sent, in microseconds since the epoch
+     */
+    private final long timestampMicros;
+    private final String method;
+    private final String uri;
+    private final Map<String, String> requestHeaders;
+    private final byte[] requestBody;
+    private final int statusCode;
+    private final byte[] responseBody;
+    private final long latencyNanos;
+
+    public CapturedExchange(long timestampMicros, String method, String uri, Map<String, String> requestHeaders,
+                            byte[] requestBody, int statusCode, byte[] responseBody, long latencyNanos) {
+        this.timestampMicros = timestampMicros;
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = Collections.unmodifiableMap(new LinkedHashMap<>(requestHeaders));
+        this.requestBody = requestBody != null ? requestBody : EMPTY;
+        this.statusCode = statusCode;
+        this.responseBody = responseBody != null ? responseBody : EMPTY;
+        this.latencyNanos = latencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri + " -> " + statusCode;
+    }
+}
@@ -0,0 +1,113 @@
+package com.api.automation.capture;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import com.api.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records every request/response exchange to a {@link CaptureLogWriter} for later replay with
+ * {@link com.api.automation.load.TrafficReplayer}.
+ *
+ * Send times come from a monotonic clock anchored to the wall clock when the filter is created,
+ * so inter-arrival gaps are exact. A failure to record is logged once and never fails the request.
+ *
+ * Credentials stay out of the log: the values of Authorization, Cookie, API key and similar
+ * request headers are recorded as {@value #REDACTED} unless the header is listed in
+ * {@code capture.headers.unredacted}.
+ */
+public class RecordingFilter implements Filter {
+    private static final Logger logger = LoggerFactory.getLogger(RecordingFilter.class);
+    static final String REDACTED = "[REDACTED]";
+    private static final Set<String> SENSITIVE_HEADERS = Set.of("authorization", "proxy-authorization",
+            "cookie", "set-cookie", "x-api-key", "api-key", "x-auth-token", "x-csrf-token", "x-xsrf-token");
+
+    private final CaptureLogWriter writer;
+    private final Set<String> redactedHeaders;
+    private final long epochMicros;
+    private final long epochNanos;
+    private final AtomicBoolean failureLogged = new AtomicBoolean();
+
+    /**
+     * Create a filter writing to the shared {@link CaptureLogWriter} for {@code capture.file}
+     */
+    public RecordingFilter() {
+        this(CaptureLogWriter.getInstance());
+    }
+
+    public RecordingFilter(CaptureLogWriter writer) {
+        this(writer, ConfigManager.getInstance().getCaptureUnredactedHeaders());
+    }
+
+    /**
+     * @param writer log to record to
+     * @param unredactedHeaders sensitive headers to record in clear, matched ignoring case
+     */
+    public RecordingFilter(CaptureLogWriter writer, Set<String> unredactedHeaders) {
+        this.writer = writer;
+        Set<String> unredacted = unredactedHeaders.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        this.redactedHeaders = SENSITIVE_HEADERS.stream()
+                .filter(name -> !unredacted.contains(name))
+                .collect(Collectors.toUnmodifiableSet());
+        Instant now = Instant.now();
+        this.epochNanos = System.nanoTime();
+        this.epochMicros = now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long latency = System.nanoTime() - start;
+        try {
+            writer.append(new CapturedExchange(epochMicros + (start - epochNanos) / 1_000,
+                    requestSpec.getMethod(), requestSpec.getURI(), headers(requestSpec), body(requestSpec),
+                    response.getStatusCode(), response.asByteArray(), latency));
+        } catch (IOException | RuntimeException e) {
+            if (failureLogged.compareAndSet(false, true)) {
+                logger.warn("Failed to record exchange to {}, further failures are not logged: {}",
+                        writer.getFile(), e.toString());
+            }
+        }
+        return response;
+    }
+
+    private Map<String, String> headers(FilterableRequestSpecification requestSpec) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : requestSpec.getHeaders()) {
+            if (redactedHeaders.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                headers.put(header.getName(), REDACTED);
+            } else {
+                headers.merge(header.getName(), header.getValue(), (first, second) -> first + ", " + second);
+            }
+        }
+        return headers;
+    }
+
+    private static byte[] body(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] ? (byte[]) body : String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,59 +1,554 @@
 package com.api.automation.config;
 
-import java.io.FileInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Configuration manager to load and manage application properties
+ *
+ * Properties are layered, later layers overriding earlier ones: built-in defaults,
+ * {@code config.properties} from the classpath, the file named by the {@code config.file} system
+ * property (or CONFIG_FILE environment variable), environment variables named after a key in upper
+ * case with dots as underscores (BASE_URI for base.uri), and finally system properties.
+ *
+ * The result is an immutable {@link ConfigSnapshot} held in a volatile reference, so concurrent
+ * readers always see one complete configuration. {@link #reload()} swaps in a fresh snapshot; with
+ * config.watch=true (or after {@link #startWatching()}) the configuration files are watched and
+ * reloaded when they change. Components that build long-lived objects from the configuration
+ * register a {@link #addReloadListener reload listener} to rebuild them: RestClient recreates its
+ * connection pool, async executor and request specs, so http.pool.*, async.max.concurrency,
+ * logging.mode and the other transport filter settings can be retuned without a restart.
+ * Settings read once by a shared instance only take effect at startup: http.cache.max.entries,
+ * http.cache.ttl.ms, capture.file, capture.compress, logging.queue.capacity and workflow.*.
+ *
+ * The watched copy of {@code config.properties} is the one on the classpath, which under Maven is
+ * {@code target/test-classes}; editing {@code src/test/resources/config.properties} mid-run changes
+ * nothing. Retune a running test by editing the overlay named by {@code -Dconfig.file}, which is
+ * watched where it lies.
  */
 public class ConfigManager {
-    private static ConfigManager instance;
-    private Properties properties;
+    private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
+    private static final String CONFIG_RESOURCE = "config.properties";
+    private static final Path CONFIG_SOURCE_FILE = Paths.get("src/test/resources/config.properties");
+    private static final String CONFIG_FILE_PROPERTY = "config.file";
+    private static final String CONFIG_FILE_VARIABLE = "CONFIG_FILE";
+    private static final long WATCH_SETTLE_MS = 100;
+
+    private volatile ConfigSnapshot snapshot;
+    private final List<Consumer<ConfigSnapshot>> reloadListeners = new CopyOnWriteArrayList<>();
+    private WatchService watchService;
+    private Thread watcher;
 
     private ConfigManager() {
-        loadProperties();
+        snapshot = load(System.getenv(), System.getProperties());
+        if (snapshot.isConfigWatch()) {
+            startWatching();
+        }
+    }
+
+    private static final class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
     }
 
     public static ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Get the current configuration. Read several related settings from one snapshot to see
+     * them consistently even if a reload happens in between.
+     * @return current immutable snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Re-read every configuration layer and atomically replace the current snapshot
+     * @return the new snapshot
+     * @throws IllegalArgumentException if a value is malformed; the current snapshot is kept
+     */
+    public ConfigSnapshot reload() {
+        ConfigSnapshot reloaded = load(System.getenv(), System.getProperties());
+        snapshot = reloaded;
+        logger.info("Configuration reloaded");
+        for (Consumer<ConfigSnapshot> listener : reloadListeners) {
+            try {
+                listener.accept(reloaded);
+            } catch (RuntimeException e) {
+                logger.warn("Configuration reload listener failed: {}", e.getMessage(), e);
+            }
+        }
+        return reloaded;
+    }
+
+    /**
+     * Register a callback run after every {@link #reload()}, once the new snapshot is current
+     * @param listener receives the new snapshot
+     */
+    public void addReloadListener(Consumer<ConfigSnapshot> listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Remove a callback registered with {@link #addReloadListener}
+     * @param listener the callback to remove
+     */
+    public void removeReloadListener(Consumer<ConfigSnapshot> listener) {
+        reloadListeners.remove(listener);
+    }
+
+    /**
+     * Watch the configuration files on disk and reload whenever one of them changes.
+     * Does nothing if already watching.
+     */
+    public synchronized void startWatching() {
+        if (watcher != null) {
+            return;
+        }
+        Set<Path> files = getConfigFiles(System.getenv(), System.getProperties());
+        if (files.isEmpty()) {
+            logger.warn("No configuration file on disk to watch");
+            return;
+        }
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path file : files) {
+                file.getParent().register(service,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            watchService = service;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to watch configuration files " + files, e);
+        }
+        WatchService service = watchService;
+        watcher = new Thread(() -> watch(service, files), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching configuration files {}", files);
+    }
+
+    /**
+     * Stop watching the configuration files
+     */
+    public synchronized void stopWatching() {
+        if (watcher == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close configuration watcher: {}", e.getMessage());
+        }
+        watcher.interrupt();
+        watcher = null;
+        watchService = null;
+    }
+
+    public synchronized boolean isWatching() {
+        return watcher != null;
+    }
+
+    static ConfigSnapshot load(Map<String, String> environment, Properties systemProperties) {
+        Properties properties = new Properties();
+        setDefaultProperties(properties);
+        URL resource = ConfigManager.class.getClassLoader().getResource(CONFIG_RESOURCE);
+        if (resource != null) {
+            load(resource, properties);
+        } else if (Files.isRegularFile(CONFIG_SOURCE_FILE)) {
+            load(toUrl(CONFIG_SOURCE_FILE), properties);
+        }
+        Path overlay = getOverlayFile(environment, systemProperties);
+        if (overlay != null) {
+            load(toUrl(overlay), properties);
         }
-        return instance;
+        for (String key : properties.stringPropertyNames()) {
+            String value = environment.get(key.toUpperCase().replace('.', '_'));
+            if (value != null) {
+                properties.setProperty(key, value);
+            }
+        }
+        for (String key : systemProperties.stringPropertyNames()) {
+            properties.setProperty(key, systemProperties.getProperty(key));
+        }
+        return new ConfigSnapshot(properties);
+    }
+
+    /**
+     * Get the files a reload reads: the classpath config.properties when it is a plain file (the
+     * build output copy, not the source under src/test/resources) and the config.file overlay
+     */
+    static Set<Path> getConfigFiles(Map<String, String> environment, Properties systemProperties) {
+        Set<Path> files = new LinkedHashSet<>();
+        URL resource = ConfigManager.class.getClassLoader().getResource(CONFIG_RESOURCE);
+        if (resource != null && "file".equals(resource.getProtocol())) {
+            try {
+                files.add(Paths.get(resource.toURI()).toAbsolutePath().normalize());
+            } catch (URISyntaxException e) {
+                logger.warn("Cannot watch configuration resource {}", resource);
+            }
+        } else if (resource == null && Files.isRegularFile(CONFIG_SOURCE_FILE)) {
+            files.add(CONFIG_SOURCE_FILE.toAbsolutePath().normalize());
+        }
+        Path overlay = getOverlayFile(environment, systemProperties);
+        if (overlay != null) {
+            files.add(overlay.toAbsolutePath().normalize());
+        }
+        return files;
+    }
+
+    private static Path getOverlayFile(Map<String, String> environment, Properties systemProperties) {
+        String overlay = systemProperties.getProperty(CONFIG_FILE_PROPERTY, environment.get(CONFIG_FILE_VARIABLE));
+        return overlay != null && !overlay.isBlank() ? Paths.get(overlay.trim()) : null;
     }
 
-    private void loadProperties() {
-        properties = new Properties();
+    private static void load(URL source, Properties properties) {
+        try (InputStream in = source.openStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read configuration from " + source, e);
+        }
+    }
+
+    private static URL toUrl(Path file) {
         try {
-            // Try to load from config.properties file
-            FileInputStream fis = new FileInputStream("src/test/resources/config.properties");
-            properties.load(fis);
-            fis.close();
+            return file.toUri().toURL();
         } catch (IOException e) {
-            // Load default values if file not found
-            setDefaultProperties();
+            throw new UncheckedIOException("Invalid configuration file path " + file, e);
         }
     }
 
-    private void setDefaultProperties() {
+    private static void setDefaultProperties(Properties properties) {
         properties.setProperty("base.uri", "https://jsonplaceholder.typicode.com");
         properties.setProperty("timeout", "30");
         properties.setProperty("environment", "dev");
     }
 
+    private void watch(WatchService service, Set<Path> files) {
+        try {
+            while (true) {
+                boolean changed = isConfigChange(service.take(), files);
+                // Editors often save in several steps; let the file settle, then reload once
+                Thread.sleep(WATCH_SETTLE_MS);
+                WatchKey pending;
+                while ((pending = service.poll()) != null) {
+                    changed |= isConfigChange(pending, files);
+                }
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (RuntimeException e) {
+                        logger.warn("Configuration reload failed, keeping the previous configuration: {}", e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watching stopped
+        }
+    }
+
+    private static boolean isConfigChange(WatchKey key, Set<Path> files) {
+        Path directory = (Path) key.watchable();
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || files.contains(directory.resolve((Path) event.context()))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
     public String getBaseUri() {
-        return properties.getProperty("base.uri");
+        return snapshot.getBaseUri();
     }
 
     public int getTimeout() {
-        return Integer.parseInt(properties.getProperty("timeout", "30"));
+        return snapshot.getTimeout();
     }
 
     public String getEnvironment() {
-        return properties.getProperty("environment", "dev");
+        return snapshot.getEnvironment();
+    }
+
+    /**
+     * Base URI of the restful-api.dev object API
+     */
+    public String getObjectsBaseUri() {
+        return snapshot.getObjectsBaseUri();
     }
 
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return snapshot.getProperty(key);
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        return snapshot.getProperty(key, defaultValue);
+    }
+
+    public int getIntProperty(String key, int defaultValue) {
+        return snapshot.getIntProperty(key, defaultValue);
+    }
+
+    public long getLongProperty(String key, long defaultValue) {
+        return snapshot.getLongProperty(key, defaultValue);
+    }
+
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        return snapshot.getBooleanProperty(key, defaultValue);
+    }
+
+    /**
+     * Maximum number of pooled HTTP connections across all routes
+     */
+    public int getHttpPoolMaxTotal() {
+        return snapshot.getHttpPoolMaxTotal();
+    }
+
+    /**
+     * Maximum number of pooled HTTP connections per host:port route
+     */
+    public int getHttpPoolMaxPerRoute() {
+        return snapshot.getHttpPoolMaxPerRoute();
+    }
+
+    /**
+     * Time after which an unused pooled connection is evicted
+     */
+    public long getHttpPoolIdleTimeoutMs() {
+        return snapshot.getHttpPoolIdleTimeoutMs();
+    }
+
+    /**
+     * Maximum time a connection is kept alive, whatever the server advertises
+     */
+    public long getHttpPoolKeepAliveMs() {
+        return snapshot.getHttpPoolKeepAliveMs();
+    }
+
+    /**
+     * Maximum number of asynchronous requests allowed in flight at once
+     */
+    public int getAsyncMaxConcurrency() {
+        return snapshot.getAsyncMaxConcurrency();
+    }
+
+    /**
+     * Whether GET responses are cached and revalidated with ETag/Last-Modified
+     */
+    public boolean isHttpCacheEnabled() {
+        return snapshot.isHttpCacheEnabled();
+    }
+
+    /**
+     * Maximum number of cached responses; the least recently used entry is evicted first
+     */
+    public int getHttpCacheMaxEntries() {
+        return snapshot.getHttpCacheMaxEntries();
+    }
+
+    /**
+     * How long a cached response is served without revalidation, in milliseconds
+     */
+    public long getHttpCacheTtlMs() {
+        return snapshot.getHttpCacheTtlMs();
+    }
+
+    /**
+     * Base paths of the services that coalesce concurrent identical GETs, e.g. /users; * for all
+     */
+    public Set<String> getCoalescingServices() {
+        return snapshot.getCoalescingServices();
+    }
+
+    /**
+     * Request/response logging mode: off, headers, sampled or full
+     */
+    public LoggingMode getLoggingMode() {
+        return snapshot.getLoggingMode();
+    }
+
+    /**
+     * In sampled mode, log one exchange out of this many
+     */
+    public int getLoggingSampleInterval() {
+        return snapshot.getLoggingSampleInterval();
+    }
+
+    /**
+     * Request and response bodies longer than this are truncated in logs
+     */
+    public int getLoggingMaxBodyChars() {
+        return snapshot.getLoggingMaxBodyChars();
+    }
+
+    /**
+     * Number of log entries buffered for the background writer before new entries are dropped
+     */
+    public int getLoggingQueueCapacity() {
+        return snapshot.getLoggingQueueCapacity();
+    }
+
+    /**
+     * Executor used for parallel workflow execution: "virtual" or "fixed"
+     */
+    public String getWorkflowExecutorType() {
+        return snapshot.getWorkflowExecutorType();
+    }
+
+    /**
+     * Number of threads for the fixed workflow executor (also the fallback size for virtual threads)
+     */
+    public int getWorkflowExecutorThreads() {
+        return snapshot.getWorkflowExecutorThreads();
+    }
+
+    /**
+     * Global timeout for one parallel run of all enabled workflows; 0 disables the timeout
+     */
+    public long getWorkflowExecutionTimeoutMs() {
+        return snapshot.getWorkflowExecutionTimeoutMs();
+    }
+
+    /**
+     * Maximum number of workflow execution results kept in history
+     */
+    public int getWorkflowHistoryMaxEntries() {
+        return snapshot.getWorkflowHistoryMaxEntries();
+    }
+
+    /**
+     * Maximum age of a workflow execution result kept in history; 0 keeps results regardless of age
+     */
+    public long getWorkflowHistoryMaxAgeMs() {
+        return snapshot.getWorkflowHistoryMaxAgeMs();
+    }
+
+    /**
+     * Whether workflow listeners are notified on the executing thread ("sync") or on background threads ("async")
+     */
+    public boolean isWorkflowListenerAsync() {
+        return snapshot.isWorkflowListenerAsync();
+    }
+
+    /**
+     * Number of background threads delivering workflow listener events
+     */
+    public int getWorkflowListenerConsumers() {
+        return snapshot.getWorkflowListenerConsumers();
+    }
+
+    /**
+     * Capacity of each workflow listener event queue
+     */
+    public int getWorkflowListenerQueueCapacity() {
+        return snapshot.getWorkflowListenerQueueCapacity();
+    }
+
+    /**
+     * What to do with listener events when a queue is full: block, drop or sample
+     */
+    public String getWorkflowListenerOverflowPolicy() {
+        return snapshot.getWorkflowListenerOverflowPolicy();
+    }
+
+    /**
+     * With the sample overflow policy, keep one overflowing listener event out of this many
+     */
+    public int getWorkflowListenerSampleInterval() {
+        return snapshot.getWorkflowListenerSampleInterval();
+    }
+
+    /**
+     * Whether cached test data files are re-read when their modification time or size changes
+     */
+    public boolean isTestDataReloadOnChange() {
+        return snapshot.isTestDataReloadOnChange();
+    }
+
+    /**
+     * Size of the TestNG thread pool running invocations of parallel data providers
+     */
+    public int getDataProviderThreadCount() {
+        return snapshot.getDataProviderThreadCount();
+    }
+
+    /**
+     * Zero-based shard this JVM runs when data provider rows are split across JVMs
+     */
+    public int getShardIndex() {
+        return snapshot.getShardIndex();
+    }
+
+    /**
+     * Number of shards data provider rows are split into, 1 = no sharding
+     */
+    public int getShardCount() {
+        return snapshot.getShardCount();
+    }
+
+    /**
+     * Whether test suites run against the embedded stub server instead of the public APIs
+     */
+    public boolean isStubEnabled() {
+        return snapshot.isStubEnabled();
+    }
+
+    /**
+     * Port the stub server listens on; 0 picks a free port
+     */
+    public int getStubPort() {
+        return snapshot.getStubPort();
+    }
+
+    /**
+     * Number of stub server event-loop threads
+     */
+    public int getStubThreads() {
+        return snapshot.getStubThreads();
+    }
+
+    /**
+     * File that request/response exchanges are recorded to, or null if traffic capture is off
+     */
+    public String getCaptureFile() {
+        return snapshot.getCaptureFile();
+    }
+
+    /**
+     * Whether newly created capture logs compress each record
+     */
+    public boolean isCaptureCompress() {
+        return snapshot.isCaptureCompress();
+    }
+
+    /**
+     * Sensitive request headers recorded in clear instead of redacted
+     */
+    public Set<String> getCaptureUnredactedHeaders() {
+        return snapshot.getCaptureUnredactedHeaders();
     }
 }
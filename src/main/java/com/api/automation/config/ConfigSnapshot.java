@@ -0,0 +1,178 @@
+package com.api.automation.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable, fully parsed view of the configuration at one point in time.
+ *
+ * Every typed setting is parsed once when the snapshot is built, so a malformed value fails the
+ * load (or reload) instead of a test halfway through a run, and reading a setting is a field read.
+ * A snapshot never changes; {@link ConfigManager} swaps in a new one when the configuration reloads.
+ */
+@Getter
+public final class ConfigSnapshot {
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> properties;
+
+    private final String baseUri;
+    private final int timeout;
+    private final String environment;
+    private final String objectsBaseUri;
+
+    private final int httpPoolMaxTotal;
+    private final int httpPoolMaxPerRoute;
+    private final long httpPoolIdleTimeoutMs;
+    private final long httpPoolKeepAliveMs;
+    private final int asyncMaxConcurrency;
+
+    private final boolean httpCacheEnabled;
+    private final int httpCacheMaxEntries;
+    private final long httpCacheTtlMs;
+    private final Set<String> coalescingServices;
+
+    private final LoggingMode loggingMode;
+    private final int loggingSampleInterval;
+    private final int loggingMaxBodyChars;
+    private final int loggingQueueCapacity;
+
+    private final String workflowExecutorType;
+    private final int workflowExecutorThreads;
+    private final long workflowExecutionTimeoutMs;
+    private final int workflowHistoryMaxEntries;
+    private final long workflowHistoryMaxAgeMs;
+    private final boolean workflowListenerAsync;
+    private final int workflowListenerConsumers;
+    private final int workflowListenerQueueCapacity;
+    private final String workflowListenerOverflowPolicy;
+    private final int workflowListenerSampleInterval;
+
+    private final boolean testDataReloadOnChange;
+    private final int dataProviderThreadCount;
+    private final int shardIndex;
+    private final int shardCount;
+
+    private final boolean stubEnabled;
+    private final int stubPort;
+    private final int stubThreads;
+
+    private final String captureFile;
+    private final boolean captureCompress;
+    private final Set<String> captureUnredactedHeaders;
+
+    private final boolean configWatch;
+
+    ConfigSnapshot(Properties source) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : source.stringPropertyNames()) {
+            values.put(key, source.getProperty(key));
+        }
+        this.properties = Collections.unmodifiableMap(values);
+
+        this.baseUri = getProperty("base.uri");
+        this.timeout = getIntProperty("timeout", 30);
+        this.environment = getProperty("environment", "dev");
+        this.objectsBaseUri = getProperty("objects.base.uri", "https://api.restful-api.dev");
+
+        this.httpPoolMaxTotal = getIntProperty("http.pool.max.total", 200);
+        this.httpPoolMaxPerRoute = getIntProperty("http.pool.max.per.route", 50);
+        this.httpPoolIdleTimeoutMs = getLongProperty("http.pool.idle.timeout.ms", 30_000L);
+        this.httpPoolKeepAliveMs = getLongProperty("http.pool.keep.alive.ms", 60_000L);
+        this.asyncMaxConcurrency = getIntProperty("async.max.concurrency", 1024);
+
+        this.httpCacheEnabled = getBooleanProperty("http.cache.enabled", false);
+        this.httpCacheMaxEntries = getIntProperty("http.cache.max.entries", 1000);
+        this.httpCacheTtlMs = getLongProperty("http.cache.ttl.ms", 30_000L);
+        this.coalescingServices = parseList(getProperty("request.coalescing.services", ""));
+
+        this.loggingMode = LoggingMode.fromString(getProperty("logging.mode", "off"));
+        this.loggingSampleInterval = getIntProperty("logging.sample.interval", 100);
+        this.loggingMaxBodyChars = getIntProperty("logging.max.body.chars", 2048);
+        this.loggingQueueCapacity = getIntProperty("logging.queue.capacity", 1024);
+
+        this.workflowExecutorType = getProperty("workflow.executor.type", "virtual").trim().toLowerCase();
+        this.workflowExecutorThreads = getIntProperty("workflow.executor.threads",
+                Runtime.getRuntime().availableProcessors() * 2);
+        this.workflowExecutionTimeoutMs = getLongProperty("workflow.execution.timeout.ms", 0L);
+        this.workflowHistoryMaxEntries = getIntProperty("workflow.history.max.entries", 10_000);
+        this.workflowHistoryMaxAgeMs = getLongProperty("workflow.history.max.age.ms", 0L);
+        this.workflowListenerAsync = "async".equalsIgnoreCase(getProperty("workflow.listener.dispatch", "sync").trim());
+        this.workflowListenerConsumers = getIntProperty("workflow.listener.consumers", 2);
+        this.workflowListenerQueueCapacity = getIntProperty("workflow.listener.queue.capacity", 1024);
+        this.workflowListenerOverflowPolicy = getProperty("workflow.listener.overflow", "block");
+        this.workflowListenerSampleInterval = getIntProperty("workflow.listener.sample.interval", 10);
+
+        this.testDataReloadOnChange = getBooleanProperty("testdata.reload.on.change", false);
+        this.dataProviderThreadCount = getIntProperty("dataprovider.thread.count", 8);
+        this.shardIndex = getIntProperty("shard.index", 0);
+        this.shardCount = getIntProperty("shard.count", 1);
+
+        this.stubEnabled = getBooleanProperty("stub.enabled", false);
+        this.stubPort = getIntProperty("stub.port", 0);
+        this.stubThreads = getIntProperty("stub.threads", Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
+        String capture = getProperty("capture.file", "").trim();
+        this.captureFile = capture.isEmpty() ? null : capture;
+        this.captureCompress = getBooleanProperty("capture.compress", true);
+        this.captureUnredactedHeaders = parseList(getProperty("capture.headers.unredacted", ""));
+
+        this.configWatch = getBooleanProperty("config.watch", false);
+    }
+
+    public String getProperty(String key) {
+        return properties.get(key);
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        return properties.getOrDefault(key, defaultValue);
+    }
+
+    public int getIntProperty(String key, int defaultValue) {
+        String value = properties.get(key);
+        return value != null ? parse(key, value, Integer::parseInt) : defaultValue;
+    }
+
+    public long getLongProperty(String key, long defaultValue) {
+        String value = properties.get(key);
+        return value != null ? parse(key, value, Long::parseLong) : defaultValue;
+    }
+
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = properties.get(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    /**
+     * Get every configured key and value
+     * @return unmodifiable map of all properties after overlays
+     */
+    public Map<String, String> asMap() {
+        return properties;
+    }
+
+    private static Set<String> parseList(String value) {
+        Set<String> items = new LinkedHashSet<>();
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return Collections.unmodifiableSet(items);
+    }
+
+    private static <T> T parse(String key, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": '" + value + "'", e);
+        }
+    }
+}
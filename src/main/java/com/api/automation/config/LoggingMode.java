@@ -0,0 +1,29 @@
+package com.api.automation.config;
+
+/**
+ * Request/response logging modes, selected with the {@code logging.mode} property
+ */
+public enum LoggingMode {
+    /** No request/response logging */
+    OFF,
+    /** Method, URI, status line and headers of every exchange, without bodies */
+    HEADERS,
+    /** Full logging (headers and truncated bodies) of one exchange in every {@code logging.sample.interval} */
+    SAMPLED,
+    /** Headers and truncated bodies of every exchange */
+    FULL;
+
+    /**
+     * Parse a logging mode, ignoring case and surrounding whitespace
+     * @param value mode name, e.g. "headers"
+     * @return LoggingMode
+     */
+    public static LoggingMode fromString(String value) {
+        for (LoggingMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown logging mode '" + value + "', expected one of off, headers, sampled, full");
+    }
+}
@@ -0,0 +1,80 @@
+package com.api.automation.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Closed-model load engine: a population of virtual users, each running the scenario in a loop
+ * with think time between iterations. During ramp-up and ramp-down only a proportional share
+ * of the users is active.
+ *
+ * Because a virtual user cannot issue its next request while the current one is stalled,
+ * latencies longer than the user's normal cycle (think time plus mean latency) are corrected
+ * for coordinated omission by back-filling the samples the user would otherwise have produced.
+ */
+public class ClosedModelLoadEngine extends LoadEngine {
+    private static final long IDLE_POLL_NANOS = 10_000_000L;
+
+    private final int virtualUsers;
+    private final Duration thinkTime;
+
+    ClosedModelLoadEngine(Scenario scenario, int virtualUsers, Duration thinkTime, LoadProfile profile) {
+        super(scenario, profile);
+        if (virtualUsers <= 0) {
+            throw new IllegalArgumentException("Number of virtual users must be positive");
+        }
+        this.virtualUsers = virtualUsers;
+        this.thinkTime = thinkTime;
+    }
+
+    @Override
+    protected void generateLoad(long startNanos) throws InterruptedException {
+        long durationNanos = profile.getTotalDuration().toNanos();
+        List<Thread> users = new ArrayList<>(virtualUsers);
+        for (int i = 0; i < virtualUsers; i++) {
+            int userIndex = i;
+            Thread user = new Thread(() -> runVirtualUser(userIndex, startNanos, durationNanos),
+                    "load-vu-" + (i + 1));
+            user.setDaemon(true);
+            users.add(user);
+            user.start();
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+    }
+
+    @Override
+    protected String getLoadModel() {
+        return String.format("closed (%d virtual users, think time %dms)", virtualUsers, thinkTime.toMillis());
+    }
+
+    private void runVirtualUser(int userIndex, long startNanos, long durationNanos) {
+        long thinkTimeNanos = thinkTime.toNanos();
+        while (!Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            long elapsed = now - startNanos;
+            if (elapsed >= durationNanos) {
+                return;
+            }
+            if (userIndex >= virtualUsers * profile.loadFactorAt(elapsed)) {
+                sleepNanos(Math.min(IDLE_POLL_NANOS, durationNanos - elapsed));
+                continue;
+            }
+            runIteration(now, thinkTimeNanos);
+            sleepNanos(thinkTimeNanos);
+        }
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000L, (int) (nanos % 1_000_000L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
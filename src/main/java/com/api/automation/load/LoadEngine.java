@@ -0,0 +1,120 @@
+package com.api.automation.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for load engines that drive a {@link Scenario} of service-method invocations
+ * through a {@link LoadProfile} and collect per-operation statistics.
+ *
+ * Use {@link #openModel} for a constant arrival rate or {@link #closedModel} for a fixed
+ * population of virtual users with think time.
+ */
+public abstract class LoadEngine {
+    private static final Logger logger = LoggerFactory.getLogger(LoadEngine.class);
+
+    protected final Scenario scenario;
+    protected final LoadProfile profile;
+    private final Map<String, OperationRecorder> recorders = new LinkedHashMap<>();
+
+    protected LoadEngine(Scenario scenario, LoadProfile profile) {
+        this.scenario = scenario;
+        this.profile = profile;
+        for (LoadOperation operation : scenario.getOperations()) {
+            recorders.computeIfAbsent(operation.getName(), OperationRecorder::new);
+        }
+    }
+
+    /**
+     * Create an open-model engine that starts scenario iterations at a constant rate,
+     * independent of how quickly earlier iterations complete
+     * @param scenario scenario to run
+     * @param arrivalsPerSecond scenario iterations started per second at steady state
+     * @param profile ramp-up / steady / ramp-down profile
+     * @return open-model load engine
+     */
+    public static OpenModelLoadEngine openModel(Scenario scenario, double arrivalsPerSecond, LoadProfile profile) {
+        return new OpenModelLoadEngine(scenario, arrivalsPerSecond, profile);
+    }
+
+    /**
+     * Create a closed-model engine where each virtual user runs the scenario in a loop
+     * @param scenario scenario to run
+     * @param virtualUsers number of virtual users at steady state
+     * @param thinkTime pause between iterations of one virtual user
+     * @param profile ramp-up / steady / ramp-down profile
+     * @return closed-model load engine
+     */
+    public static ClosedModelLoadEngine closedModel(Scenario scenario, int virtualUsers, Duration thinkTime,
+                                                    LoadProfile profile) {
+        return new ClosedModelLoadEngine(scenario, virtualUsers, thinkTime, profile);
+    }
+
+    /**
+     * Run the load test to completion
+     * @return load report
+     */
+    public LoadReport run() {
+        logger.info("Starting {} load run for scenario '{}' ({})",
+                getLoadModel(), scenario.getName(), profile.getTotalDuration());
+        long startNanos = System.nanoTime();
+        try {
+            generateLoad(startNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Load run for scenario '{}' was interrupted", scenario.getName());
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        List<OperationStats> stats = new ArrayList<>();
+        for (OperationRecorder recorder : recorders.values()) {
+            stats.add(recorder.toStats(elapsedNanos));
+        }
+        LoadReport report = new LoadReport(scenario.getName(), getLoadModel(), elapsedNanos, stats);
+        logger.info("\n{}", report.getSummary());
+        return report;
+    }
+
+    /**
+     * Generate load until the profile ends and all started iterations have completed
+     * @param startNanos {@link System#nanoTime()} at the start of the run
+     */
+    protected abstract void generateLoad(long startNanos) throws InterruptedException;
+
+    /**
+     * Describe the load model for the report
+     */
+    protected abstract String getLoadModel();
+
+    /**
+     * Run all scenario operations once. The first operation's latency is measured from
+     * the intended start time rather than the actual one, so any delay in getting the
+     * iteration started is charged to the system under test instead of being omitted.
+     * @param intendedStartNanos when this iteration should have started
+     * @param thinkTimeNanos think time of the caller, used for coordinated omission correction;
+     *                       negative disables correction
+     */
+    protected void runIteration(long intendedStartNanos, long thinkTimeNanos) {
+        long operationStart = intendedStartNanos;
+        for (LoadOperation operation : scenario.getOperations()) {
+            OperationRecorder recorder = recorders.get(operation.getName());
+            boolean success;
+            try {
+                success = operation.getSuccessCondition().test(operation.getCall().get());
+            } catch (RuntimeException e) {
+                logger.debug("Operation '{}' failed: {}", operation.getName(), e.getMessage());
+                success = false;
+            }
+            long operationEnd = System.nanoTime();
+            long expectedInterval = thinkTimeNanos < 0 ? 0 : thinkTimeNanos + recorder.meanMeasuredLatencyNanos();
+            recorder.record(operationEnd - operationStart, expectedInterval, success);
+            operationStart = operationEnd;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.api.automation.load;
+
+import io.restassured.response.Response;
+import lombok.Getter;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A single named service-method invocation inside a load scenario,
+ * e.g. {@code LoadOperation.of("getUserById", () -> userService.getUserById(1))}
+ */
+@Getter
+public class LoadOperation {
+    private final String name;
+    private final Supplier<Response> call;
+    private final Predicate<Response> successCondition;
+
+    public LoadOperation(String name, Supplier<Response> call, Predicate<Response> successCondition) {
+        this.name = name;
+        this.call = call;
+        this.successCondition = successCondition;
+    }
+
+    /**
+     * Create an operation that succeeds on any non-error (below 400) status code
+     * @param name operation name used in the report
+     * @param call service-method invocation
+     * @return load operation
+     */
+    public static LoadOperation of(String name, Supplier<Response> call) {
+        return new LoadOperation(name, call, response -> response != null && response.getStatusCode() < 400);
+    }
+
+    /**
+     * Create an operation that succeeds when the given status code is returned
+     * @param name operation name used in the report
+     * @param call service-method invocation
+     * @param expectedStatusCode expected HTTP status code
+     * @return load operation
+     */
+    public static LoadOperation of(String name, Supplier<Response> call, int expectedStatusCode) {
+        return new LoadOperation(name, call,
+                response -> response != null && response.getStatusCode() == expectedStatusCode);
+    }
+}
@@ -0,0 +1,91 @@
+package com.api.automation.load;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Ramp-up / steady / ramp-down shape of a load run.
+ * The load factor rises linearly from 0 to 1 during ramp-up, stays at 1 while steady
+ * and falls linearly back to 0 during ramp-down.
+ */
+@Getter
+public class LoadProfile {
+    private final Duration rampUp;
+    private final Duration steady;
+    private final Duration rampDown;
+
+    public LoadProfile(Duration rampUp, Duration steady, Duration rampDown) {
+        if (rampUp.isNegative() || steady.isNegative() || rampDown.isNegative()) {
+            throw new IllegalArgumentException("Load profile phases must not be negative");
+        }
+        if (rampUp.plus(steady).plus(rampDown).isZero()) {
+            throw new IllegalArgumentException("Load profile must have a non-zero duration");
+        }
+        this.rampUp = rampUp;
+        this.steady = steady;
+        this.rampDown = rampDown;
+    }
+
+    /**
+     * Profile with no ramps
+     * @param steady steady-state duration
+     * @return load profile
+     */
+    public static LoadProfile steady(Duration steady) {
+        return new LoadProfile(Duration.ZERO, steady, Duration.ZERO);
+    }
+
+    public Duration getTotalDuration() {
+        return rampUp.plus(steady).plus(rampDown);
+    }
+
+    /**
+     * Fraction of the target load to apply at the given point of the run
+     * @param elapsedNanos time since the run started
+     * @return load factor between 0 and 1
+     */
+    public double loadFactorAt(long elapsedNanos) {
+        long up = rampUp.toNanos();
+        long flat = steady.toNanos();
+        long down = rampDown.toNanos();
+        if (elapsedNanos < 0 || elapsedNanos >= up + flat + down) {
+            return 0.0;
+        }
+        if (elapsedNanos < up) {
+            return (double) elapsedNanos / up;
+        }
+        if (elapsedNanos < up + flat) {
+            return 1.0;
+        }
+        return 1.0 - (double) (elapsedNanos - up - flat) / down;
+    }
+
+    /**
+     * Inverse of the cumulative arrival curve: when the n-th arrival is due for a
+     * constant-arrival-rate run that follows this profile
+     * @param arrivals number of arrivals so far (n)
+     * @param ratePerSecond steady-state arrival rate
+     * @return seconds since the start of the run, or a negative value if the run ends first
+     */
+    double secondsUntilArrival(double arrivals, double ratePerSecond) {
+        double up = rampUp.toNanos() / 1e9;
+        double flat = steady.toNanos() / 1e9;
+        double down = rampDown.toNanos() / 1e9;
+
+        double rampUpArrivals = ratePerSecond * up / 2;
+        if (arrivals <= rampUpArrivals) {
+            return up == 0 ? 0 : Math.sqrt(2 * arrivals * up / ratePerSecond);
+        }
+        double steadyArrivals = ratePerSecond * flat;
+        if (arrivals <= rampUpArrivals + steadyArrivals) {
+            return up + (arrivals - rampUpArrivals) / ratePerSecond;
+        }
+        double rampDownArrivals = ratePerSecond * down / 2;
+        double remaining = arrivals - rampUpArrivals - steadyArrivals;
+        if (remaining < rampDownArrivals) {
+            return up + flat + down - Math.sqrt(down * down - 2 * down * remaining / ratePerSecond);
+        }
+        return -1;
+    }
+}
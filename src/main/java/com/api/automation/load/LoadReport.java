@@ -0,0 +1,69 @@
+package com.api.automation.load;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a load run with per-operation statistics
+ */
+@Getter
+public class LoadReport {
+    private final String scenarioName;
+    private final String loadModel;
+    private final long elapsedNanos;
+    private final List<OperationStats> operations;
+
+    public LoadReport(String scenarioName, String loadModel, long elapsedNanos, List<OperationStats> operations) {
+        this.scenarioName = scenarioName;
+        this.loadModel = loadModel;
+        this.elapsedNanos = elapsedNanos;
+        this.operations = Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * Get statistics for one operation
+     * @param operationName the operation name
+     * @return operation statistics, or null if not found
+     */
+    public OperationStats getOperation(String operationName) {
+        return operations.stream()
+                .filter(stats -> stats.getOperationName().equals(operationName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Get load report summary
+     * @return string summary with one line per operation
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Load Report: ").append(scenarioName).append(" ===\n");
+        sb.append("Model: ").append(loadModel).append("\n");
+        sb.append(String.format("Elapsed: %.1fs%n", elapsedNanos / 1e9));
+        sb.append(String.format("%-30s %10s %8s %8s %10s %10s %10s %10s %10s %10s%n",
+                "Operation", "Requests", "Errors", "Err%", "Req/s",
+                "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (OperationStats stats : operations) {
+            sb.append(String.format("%-30s %10d %8d %8.2f %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    stats.getOperationName(),
+                    stats.getRequestCount(),
+                    stats.getErrorCount(),
+                    stats.getErrorRate() * 100,
+                    stats.getThroughputPerSecond(),
+                    stats.getLatency().getP50() / 1e6,
+                    stats.getLatency().getP90() / 1e6,
+                    stats.getLatency().getP99() / 1e6,
+                    stats.getLatency().getP999() / 1e6,
+                    stats.getLatency().getMax() / 1e6));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.automation.load;
+
+import com.api.automation.utils.RestClient;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model (constant arrival rate) load engine.
+ *
+ * Iterations are started on a fixed schedule derived from the arrival rate and profile and run on
+ * {@link RestClient}'s async executor. Latency is measured from each iteration's scheduled start,
+ * so a slow system cannot hide its delays by slowing down the load generator.
+ */
+public class OpenModelLoadEngine extends LoadEngine {
+    private final double arrivalsPerSecond;
+
+    OpenModelLoadEngine(Scenario scenario, double arrivalsPerSecond, LoadProfile profile) {
+        super(scenario, profile);
+        if (arrivalsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        this.arrivalsPerSecond = arrivalsPerSecond;
+    }
+
+    @Override
+    protected void generateLoad(long startNanos) throws InterruptedException {
+        AtomicLong inFlight = new AtomicLong();
+        long endNanos = startNanos + profile.getTotalDuration().toNanos();
+
+        for (long arrival = 0; ; arrival++) {
+            double dueSeconds = profile.secondsUntilArrival(arrival, arrivalsPerSecond);
+            long intendedStart = startNanos + (long) (dueSeconds * 1e9);
+            if (dueSeconds < 0 || intendedStart >= endNanos) {
+                break;
+            }
+            waitUntil(intendedStart);
+
+            inFlight.incrementAndGet();
+            RestClient.executeAsync(() -> {
+                try {
+                    runIteration(intendedStart, -1);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        while (inFlight.get() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Override
+    protected String getLoadModel() {
+        return String.format("open (%.1f arrivals/s)", arrivalsPerSecond);
+    }
+
+    static void waitUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
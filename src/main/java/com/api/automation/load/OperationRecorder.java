@@ -0,0 +1,47 @@
+package com.api.automation.load;
+
+import com.api.automation.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe per-operation latency and error accounting used by the load engines
+ */
+class OperationRecorder {
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong measuredLatencyTotal = new AtomicLong();
+
+    OperationRecorder(String name) {
+        this.name = name;
+    }
+
+    void record(long latencyNanos, long expectedIntervalNanos, boolean success) {
+        histogram.recordValueWithExpectedInterval(latencyNanos, expectedIntervalNanos);
+        requests.incrementAndGet();
+        measuredLatencyTotal.addAndGet(latencyNanos);
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Mean of the measured (not back-filled) latencies
+     */
+    long meanMeasuredLatencyNanos() {
+        long count = requests.get();
+        return count == 0 ? 0 : measuredLatencyTotal.get() / count;
+    }
+
+    OperationStats toStats(long elapsedNanos) {
+        long count = requests.get();
+        long errorCount = errors.get();
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        return new OperationStats(name, count, errorCount,
+                count == 0 ? 0.0 : (double) errorCount / count,
+                count / seconds,
+                histogram.snapshot());
+    }
+}
@@ -0,0 +1,27 @@
+package com.api.automation.load;
+
+import com.api.automation.metrics.LatencySnapshot;
+import lombok.Getter;
+
+/**
+ * Throughput, error rate and latency distribution of one operation in a load run
+ */
+@Getter
+public class OperationStats {
+    private final String operationName;
+    private final long requestCount;
+    private final long errorCount;
+    private final double errorRate;
+    private final double throughputPerSecond;
+    private final LatencySnapshot latency;
+
+    public OperationStats(String operationName, long requestCount, long errorCount,
+                          double errorRate, double throughputPerSecond, LatencySnapshot latency) {
+        this.operationName = operationName;
+        this.requestCount = requestCount;
+        this.errorCount = errorCount;
+        this.errorRate = errorRate;
+        this.throughputPerSecond = throughputPerSecond;
+        this.latency = latency;
+    }
+}
@@ -0,0 +1,56 @@
+package com.api.automation.load;
+
+import io.restassured.response.Response;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Ordered list of operations executed once per scenario iteration
+ * (one arrival in the open model, one loop of a virtual user in the closed model)
+ */
+@Getter
+public class Scenario {
+    private final String name;
+    private final List<LoadOperation> operations;
+
+    private Scenario(String name, List<LoadOperation> operations) {
+        this.name = name;
+        this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Builder for scenarios
+     */
+    public static class Builder {
+        private final String name;
+        private final List<LoadOperation> operations = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder operation(String operationName, Supplier<Response> call) {
+            return operation(LoadOperation.of(operationName, call));
+        }
+
+        public Builder operation(LoadOperation operation) {
+            operations.add(operation);
+            return this;
+        }
+
+        public Scenario build() {
+            if (operations.isEmpty()) {
+                throw new IllegalStateException("Scenario '" + name + "' must contain at least one operation");
+            }
+            return new Scenario(name, operations);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.api.automation.load;
+
+import com.api.automation.cache.ResponseCacheFilter;
+import com.api.automation.capture.CaptureLogReader;
+import com.api.automation.capture.CapturedExchange;
+import com.api.automation.capture.RecordingFilter;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.metrics.EndpointLatencyRegistry;
+import com.api.automation.utils.RestClient;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Reissues the exchanges of a capture log recorded by {@link RecordingFilter}, preserving their
+ * original inter-arrival timing scaled by a speed factor: 1 replays in real time, N compresses
+ * every gap N times and {@link #MAX_SPEED} sends each request as soon as a slot is free.
+ *
+ * Requests run on {@link RestClient}'s async executor with at most {@code async.max.concurrency}
+ * in flight. Timed replays measure latency from each request's scheduled send time, like
+ * {@link OpenModelLoadEngine}. A replayed request counts as an error when its status differs from
+ * the recorded one. Every request goes to the server: the response cache and traffic capture are
+ * bypassed. Operations are named by method and normalized path, e.g. {@code GET /users/{id}}.
+ * Gaps between sessions appended to the same log are replayed as well.
+ */
+public class TrafficReplayer {
+    public static final double ORIGINAL_SPEED = 1.0;
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplayer.class);
+    private static final Set<String> TRANSPORT_HEADERS = Set.of("content-length", "host", "connection",
+            "transfer-encoding");
+
+    private final Path captureLog;
+    private final double speed;
+    private final String targetBaseUri;
+    private final Map<String, OperationRecorder> recorders = new ConcurrentHashMap<>();
+
+    public TrafficReplayer(Path captureLog, double speed) {
+        this(captureLog, speed, null);
+    }
+
+    /**
+     * @param captureLog capture log to replay
+     * @param speed speed factor, {@link #ORIGINAL_SPEED}, any positive multiple or {@link #MAX_SPEED}
+     * @param targetBaseUri scheme, host and port to send requests to instead of the recorded ones,
+     *                      e.g. a stub server; null keeps the recorded hosts
+     */
+    public TrafficReplayer(Path captureLog, double speed, String targetBaseUri) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Replay speed must be positive");
+        }
+        this.captureLog = captureLog;
+        this.speed = speed;
+        this.targetBaseUri = targetBaseUri != null && targetBaseUri.endsWith("/")
+                ? targetBaseUri.substring(0, targetBaseUri.length() - 1)
+                : targetBaseUri;
+    }
+
+    /**
+     * Replay the whole log and wait for every request to complete
+     * @return load report with one operation per endpoint
+     */
+    public LoadReport run() {
+        logger.info("Replaying {} at {}", captureLog, getLoadModel());
+        long startNanos = System.nanoTime();
+        try (CaptureLogReader reader = new CaptureLogReader(captureLog)) {
+            replay(reader, startNanos);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read capture log " + captureLog, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Replay of {} was interrupted", captureLog);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        List<OperationStats> stats = new ArrayList<>();
+        for (OperationRecorder recorder : new TreeMap<>(recorders).values()) {
+            stats.add(recorder.toStats(elapsedNanos));
+        }
+        LoadReport report = new LoadReport(String.valueOf(captureLog.getFileName()), getLoadModel(),
+                elapsedNanos, stats);
+        logger.info("\n{}", report.getSummary());
+        return report;
+    }
+
+    private void replay(CaptureLogReader reader, long startNanos) throws InterruptedException {
+        int maxInFlight = ConfigManager.getInstance().getAsyncMaxConcurrency();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long firstTimestampMicros = Long.MIN_VALUE;
+        for (CapturedExchange exchange : reader) {
+            if (firstTimestampMicros == Long.MIN_VALUE) {
+                firstTimestampMicros = exchange.getTimestampMicros();
+            }
+            long intendedStart;
+            if (speed == MAX_SPEED) {
+                inFlight.acquire();
+                intendedStart = System.nanoTime();
+            } else {
+                long gapNanos = Math.max(0, exchange.getTimestampMicros() - firstTimestampMicros) * 1_000L;
+                intendedStart = startNanos + (long) (gapNanos / speed);
+                OpenModelLoadEngine.waitUntil(intendedStart);
+                inFlight.acquire();
+            }
+            RestClient.executeAsync(() -> {
+                try {
+                    replayExchange(exchange, intendedStart);
+                } finally {
+                    inFlight.release();
+                }
+                return null;
+            });
+        }
+        inFlight.acquire(maxInFlight);
+    }
+
+    private void replayExchange(CapturedExchange exchange, long intendedStartNanos) {
+        String uri = retarget(exchange.getUri());
+        OperationRecorder recorder = recorders.computeIfAbsent(
+                exchange.getMethod() + " " + EndpointLatencyRegistry.normalizePath(uri), OperationRecorder::new);
+        boolean success;
+        try {
+            RequestSpecification request = given()
+                    .spec(RestClient.getPooledTransportSpec())
+                    .noFiltersOfType(RecordingFilter.class)
+                    .noFiltersOfType(ResponseCacheFilter.class)
+                    .urlEncodingEnabled(false);
+            exchange.getRequestHeaders().forEach((name, value) -> {
+                if (!TRANSPORT_HEADERS.contains(name.toLowerCase())) {
+                    request.header(name, value);
+                }
+            });
+            if (exchange.getRequestBody().length > 0) {
+                request.body(exchange.getRequestBody());
+            }
+            Response response = request.request(exchange.getMethod(), uri);
+            success = response.getStatusCode() == exchange.getStatusCode();
+        } catch (Exception e) {
+            // REST Assured rethrows connection failures as undeclared checked exceptions
+            logger.debug("Replay of {} failed: {}", exchange, e.getMessage());
+            success = false;
+        }
+        recorder.record(System.nanoTime() - intendedStartNanos, 0, success);
+    }
+
+    private String retarget(String uri) {
+        if (targetBaseUri == null) {
+            return uri;
+        }
+        int schemeEnd = uri.indexOf("://");
+        int pathStart = schemeEnd < 0 ? 0 : uri.indexOf('/', schemeEnd + 3);
+        return targetBaseUri + (pathStart < 0 ? "" : uri.substring(pathStart));
+    }
+
+    private String getLoadModel() {
+        return speed == MAX_SPEED ? "replay (max speed)" : String.format("replay (%.1fx)", speed);
+    }
+}
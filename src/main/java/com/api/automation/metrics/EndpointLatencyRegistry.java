@@ -0,0 +1,229 @@
+package com.api.automation.metrics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint latency histograms keyed by HTTP method and normalized path,
+ * e.g. {@code GET /objects/{id}}.
+ *
+ * Each method keeps the normalized paths it has seen as templates. A raw request URI is
+ * matched against them in place, without building its normalized path, so once an endpoint
+ * has been seen, recording a latency allocates nothing however many distinct ids it is called with.
+ */
+public class EndpointLatencyRegistry {
+    private static final EndpointLatencyRegistry INSTANCE = new EndpointLatencyRegistry();
+    private static final String ID_PLACEHOLDER = "{id}";
+    private static final EndpointTemplate[] NO_TEMPLATES = new EndpointTemplate[0];
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, EndpointTemplate[]> templatesByMethod = new ConcurrentHashMap<>();
+
+    /**
+     * Get singleton instance of EndpointLatencyRegistry
+     * @return EndpointLatencyRegistry instance
+     */
+    public static EndpointLatencyRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record the latency of one request
+     * @param method HTTP method
+     * @param uri full request URI, including query string if any
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void record(String method, String uri, long latencyNanos) {
+        histogramFor(method, uri).recordValue(latencyNanos);
+    }
+
+    /**
+     * Snapshot all endpoints
+     * @return snapshots keyed by "METHOD /normalized/path", sorted by key
+     */
+    public Map<String, LatencySnapshot> snapshot() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshots.put(key, histogram.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Snapshot a single endpoint
+     * @param method HTTP method
+     * @param normalizedPath normalized path, e.g. /objects/{id}
+     * @return latency snapshot, or null if the endpoint has not been called
+     */
+    public LatencySnapshot snapshot(String method, String normalizedPath) {
+        LatencyHistogram histogram = histograms.get(method + " " + normalizedPath);
+        return histogram != null ? histogram.snapshot() : null;
+    }
+
+    /**
+     * Reset all recorded latencies
+     */
+    public void reset() {
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Get latency summary
+     * @return string summary with one line per endpoint
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Endpoint Latency Summary ===\n");
+        snapshot().forEach((endpoint, snapshot) ->
+                sb.append("  ").append(endpoint).append(": ").append(snapshot).append("\n"));
+        return sb.toString();
+    }
+
+    /**
+     * Strip scheme, host and query string from a URI and replace identifier
+     * segments (numbers, UUIDs, long hex ids) with {id}
+     * @param uri request URI or path
+     * @return normalized path
+     */
+    public static String normalizePath(String uri) {
+        int start = pathStart(uri);
+        int end = pathEnd(uri, start);
+
+        StringBuilder path = new StringBuilder();
+        int segmentStart = start;
+        while (segmentStart < end) {
+            if (uri.charAt(segmentStart) == '/') {
+                segmentStart++;
+                continue;
+            }
+            int segmentEnd = segmentEnd(uri, segmentStart, end);
+            path.append('/');
+            if (isIdentifier(uri, segmentStart, segmentEnd)) {
+                path.append(ID_PLACEHOLDER);
+            } else {
+                path.append(uri, segmentStart, segmentEnd);
+            }
+            segmentStart = segmentEnd;
+        }
+        return path.length() == 0 ? "/" : path.toString();
+    }
+
+    private LatencyHistogram histogramFor(String method, String uri) {
+        for (EndpointTemplate template : templatesByMethod.getOrDefault(method, NO_TEMPLATES)) {
+            if (template.matches(uri)) {
+                return template.histogram;
+            }
+        }
+        return addTemplate(method, uri);
+    }
+
+    private synchronized LatencyHistogram addTemplate(String method, String uri) {
+        String path = normalizePath(uri);
+        EndpointTemplate[] templates = templatesByMethod.getOrDefault(method, NO_TEMPLATES);
+        for (EndpointTemplate template : templates) {
+            if (template.path.equals(path)) {
+                return template.histogram;
+            }
+        }
+        LatencyHistogram histogram = histograms.computeIfAbsent(method + " " + path, key -> new LatencyHistogram());
+        EndpointTemplate[] grown = Arrays.copyOf(templates, templates.length + 1);
+        grown[templates.length] = new EndpointTemplate(path, histogram);
+        templatesByMethod.put(method, grown);
+        return histogram;
+    }
+
+    private static int pathStart(String uri) {
+        int schemeEnd = uri.indexOf("://");
+        if (schemeEnd < 0) {
+            return 0;
+        }
+        int pathStart = uri.indexOf('/', schemeEnd + 3);
+        return pathStart >= 0 ? pathStart : uri.length();
+    }
+
+    private static int pathEnd(String uri, int start) {
+        int end = uri.indexOf('?', start);
+        return end >= 0 ? end : uri.length();
+    }
+
+    private static int segmentEnd(String uri, int segmentStart, int end) {
+        int segmentEnd = uri.indexOf('/', segmentStart);
+        return segmentEnd < 0 || segmentEnd > end ? end : segmentEnd;
+    }
+
+    private static boolean isIdentifier(String uri, int from, int to) {
+        boolean allDigits = true;
+        boolean allHex = true;
+        int dashes = 0;
+        for (int i = from; i < to; i++) {
+            char c = uri.charAt(i);
+            if (c == '-') {
+                dashes++;
+                allDigits = false;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                allDigits = false;
+                if (Character.digit(c, 16) < 0) {
+                    allHex = false;
+                }
+            }
+        }
+        if (allDigits) {
+            return true;
+        }
+        int length = to - from;
+        boolean uuid = dashes == 4 && length == 36 && allHex;
+        boolean longHexId = dashes == 0 && length >= 16 && allHex;
+        return uuid || longHexId;
+    }
+
+    /**
+     * A normalized path split into segments, null standing for an identifier segment
+     */
+    private static final class EndpointTemplate {
+        private final String path;
+        private final String[] segments;
+        private final LatencyHistogram histogram;
+
+        private EndpointTemplate(String path, LatencyHistogram histogram) {
+            this.path = path;
+            this.segments = path.equals("/") ? new String[0] : path.substring(1).split("/");
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(ID_PLACEHOLDER)) {
+                    segments[i] = null;
+                }
+            }
+            this.histogram = histogram;
+        }
+
+        /**
+         * Whether the URI normalizes to this template, decided segment by segment in place
+         */
+        private boolean matches(String uri) {
+            int segmentStart = pathStart(uri);
+            int end = pathEnd(uri, segmentStart);
+            int index = 0;
+            while (segmentStart < end) {
+                if (uri.charAt(segmentStart) == '/') {
+                    segmentStart++;
+                    continue;
+                }
+                if (index == segments.length) {
+                    return false;
+                }
+                int segmentEnd = segmentEnd(uri, segmentStart, end);
+                String segment = segments[index++];
+                boolean match = segment == null
+                        ? isIdentifier(uri, segmentStart, segmentEnd)
+                        : segment.length() == segmentEnd - segmentStart
+                                && uri.regionMatches(segmentStart, segment, 0, segment.length());
+                if (!match) {
+                    return false;
+                }
+                segmentStart = segmentEnd;
+            }
+            return index == segments.length;
+        }
+    }
+}
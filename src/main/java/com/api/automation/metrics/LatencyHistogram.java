@@ -0,0 +1,145 @@
+package com.api.automation.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, fixed-memory latency histogram with HDR-style log-linear buckets.
+ *
+ * Values are nanoseconds. Each power-of-two range is split into 64 linear
+ * sub-buckets, giving roughly 1.5% relative precision from 1ns up to ~73 minutes.
+ * Recording is a couple of atomic increments and never allocates.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 42;
+    private static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT
+            + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Record a single latency value
+     * @param valueNanos latency in nanoseconds; negative values are recorded as 0
+     */
+    public void recordValue(long valueNanos) {
+        long value = Math.min(Math.max(valueNanos, 0L), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(indexFor(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+        updateMin(value);
+        updateMax(value);
+    }
+
+    /**
+     * Record a latency value and correct for coordinated omission: when the value exceeds
+     * the expected interval between samples, the samples that a stalled caller failed to
+     * issue are back-filled (value - interval, value - 2 * interval, ...).
+     * @param valueNanos latency in nanoseconds
+     * @param expectedIntervalNanos expected time between samples; 0 disables correction
+     */
+    public void recordValueWithExpectedInterval(long valueNanos, long expectedIntervalNanos) {
+        recordValue(valueNanos);
+        if (expectedIntervalNanos <= 0) {
+            return;
+        }
+        for (long missing = valueNanos - expectedIntervalNanos; missing >= expectedIntervalNanos;
+             missing -= expectedIntervalNanos) {
+            recordValue(missing);
+        }
+    }
+
+    /**
+     * Take a consistent-enough point-in-time view of the recorded distribution
+     * @return snapshot with count, mean and percentiles
+     */
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        if (count == 0) {
+            return LatencySnapshot.EMPTY;
+        }
+        long max = maxValue.get();
+        return new LatencySnapshot(
+                count,
+                minValue.get(),
+                max,
+                (double) totalValue.get() / Math.max(1, totalCount.get()),
+                valueAtPercentile(copy, count, 50.0, max),
+                valueAtPercentile(copy, count, 90.0, max),
+                valueAtPercentile(copy, count, 99.0, max),
+                valueAtPercentile(copy, count, 99.9, max));
+    }
+
+    /**
+     * Clear all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalValue.set(0);
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0);
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    private static long valueAtPercentile(long[] copy, long count, double percentile, long max) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < copy.length; i++) {
+            seen += copy[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int indexFor(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private void updateMin(long value) {
+        long current = minValue.get();
+        while (value < current && !minValue.compareAndSet(current, value)) {
+            current = minValue.get();
+        }
+    }
+
+    private void updateMax(long value) {
+        long current = maxValue.get();
+        while (value > current && !maxValue.compareAndSet(current, value)) {
+            current = maxValue.get();
+        }
+    }
+}
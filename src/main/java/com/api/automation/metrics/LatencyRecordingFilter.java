@@ -0,0 +1,35 @@
+package com.api.automation.metrics;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Records the nanosecond latency of every request into {@link EndpointLatencyRegistry}.
+ * Failed requests (e.g. connection errors) are recorded as well.
+ */
+public class LatencyRecordingFilter implements Filter {
+    private final EndpointLatencyRegistry registry;
+
+    public LatencyRecordingFilter() {
+        this(EndpointLatencyRegistry.getInstance());
+    }
+
+    public LatencyRecordingFilter(EndpointLatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            registry.record(requestSpec.getMethod(), requestSpec.getURI(), System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.api.automation.metrics;
+
+import lombok.Getter;
+
+/**
+ * Immutable view of a latency distribution. All values are nanoseconds.
+ */
+@Getter
+public class LatencySnapshot {
+    static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final long count;
+    private final long min;
+    private final long max;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+
+    public LatencySnapshot(long count, long min, long max, double mean,
+                           long p50, long p90, long p99, long p999) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%.3fms, p90=%.3fms, p99=%.3fms, p99.9=%.3fms, max=%.3fms",
+                count, toMillis(p50), toMillis(p90), toMillis(p99), toMillis(p999), toMillis(max));
+    }
+
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.api.automation.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,12 +9,14 @@ import lombok.NoArgsConstructor;
 import java.util.Map;
 
 /**
- * POJO for Object entity from restful-api.dev
+ * POJO for Object entity from restful-api.dev.
+ * Write responses also carry createdAt/updatedAt timestamps, which are ignored.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class ApiObject {
     private String id;
     private String name;
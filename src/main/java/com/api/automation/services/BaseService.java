@@ -1,84 +1,149 @@
 package com.api.automation.services;
 
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.utils.JsonUtils;
+import com.api.automation.utils.RequestCoalescer;
 import com.api.automation.utils.RestClient;
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 import static io.restassured.RestAssured.given;
 
 /**
- * Base service class for common API operations
+ * Base service class for common API operations.
+ * Requests start from {@link RestClient}'s shared spec for {@link #getBaseUri()}.
+ * When coalescing is on, concurrent identical GETs share one in-flight request through {@link RequestCoalescer}.
  */
 public abstract class BaseService {
     protected String basePath;
+    private volatile Boolean coalescing;
 
     protected BaseService(String basePath) {
         this.basePath = basePath;
     }
 
-    protected Response get(String endpoint) {
+    /**
+     * Turn coalescing of concurrent identical GETs on or off for this service instance,
+     * overriding request.coalescing.services
+     * @param enabled whether GETs are coalesced
+     */
+    public void setCoalescing(boolean enabled) {
+        this.coalescing = enabled;
+    }
+
+    /**
+     * Whether concurrent identical GETs share one in-flight request
+     * @return the value set with {@link #setCoalescing}, otherwise whether request.coalescing.services
+     *         lists this service's base path or *
+     */
+    public boolean isCoalescing() {
+        Boolean enabled = coalescing;
+        if (enabled != null) {
+            return enabled;
+        }
+        Set<String> services = ConfigManager.getInstance().getCoalescingServices();
+        return services.contains(basePath) || services.contains("*");
+    }
+
+    /**
+     * Get the base URI requests are sent to; read on every request so configuration reloads apply
+     * @return the configured base.uri
+     */
+    protected String getBaseUri() {
+        return ConfigManager.getInstance().getBaseUri();
+    }
+
+    /**
+     * Start a request from the shared spec for this service's base URI and base path
+     * @return request specification
+     */
+    protected RequestSpecification request() {
         return given()
-                .log().method().log().uri()
-                .spec(RestClient.getRequestSpec())
-                .basePath(basePath)
+                .spec(RestClient.getRequestSpec(getBaseUri()))
+                .basePath(basePath);
+    }
+
+    protected Response get(String endpoint) {
+        return coalesce(endpoint, () -> request()
                 .when()
-                .get(endpoint);
+                .get(endpoint));
     }
 
     protected Response get() {
-        return given()
-                .log().method().log().uri()
-                .spec(RestClient.getRequestSpec())
-                .basePath(basePath)
+        return coalesce("", () -> request()
                 .when()
-                .get();
+                .get());
+    }
+
+    /**
+     * Run a GET, sharing it with identical concurrent GETs of this service when coalescing is on.
+     * Requests are identical when they have the same base URI, base path and endpoint; every other
+     * header and setting comes from the same shared spec.
+     * @param endpoint endpoint relative to the base path, including any query string
+     * @param request the GET to run
+     * @return Response object
+     */
+    protected Response coalesce(String endpoint, Supplier<Response> request) {
+        if (!isCoalescing()) {
+            return request.get();
+        }
+        return RequestCoalescer.getInstance().execute(basePath, "GET " + getBaseUri() + basePath + endpoint, request);
     }
 
     protected Response post(Object body, String endpoint) {
-        return given()
-                .log().method().log().uri()
-                .spec(RestClient.getRequestSpec())
-                .basePath(basePath)
+        return request()
                 .body(body)
                 .when()
                 .post(endpoint);
     }
 
     protected Response post(Object body) {
-        return given()
-                .log().method().log().uri()
-                .spec(RestClient.getRequestSpec())
-                .basePath(basePath)
+        return request()
                 .body(body)
                 .when()
                 .post();
     }
 
     protected Response put(Object body, String endpoint) {
-        return given()
-                .log().method().log().uri()
-                .spec(RestClient.getRequestSpec())
-                .basePath(basePath)
+        return request()
                 .body(body)
                 .when()
                 .put(endpoint);
     }
 
     protected Response patch(Object body, String endpoint) {
-        return given()
-                .log().method().log().uri()
-                .spec(RestClient.getRequestSpec())
-                .basePath(basePath)
+        return request()
                 .body(body)
                 .when()
                 .patch(endpoint);
     }
 
     protected Response delete(String endpoint) {
-        return given()
-                .log().method().log().uri()
-                .spec(RestClient.getRequestSpec())
-                .basePath(basePath)
+        return request()
                 .when()
                 .delete(endpoint);
     }
+
+    /**
+     * GET a JSON array and stream its elements straight from the response body,
+     * without buffering the body or binding the whole array
+     * @param endpoint endpoint relative to the base path
+     * @param type element type
+     * @return stream of elements; close it if it is not consumed to the end
+     */
+    protected <T> Stream<T> streamList(String endpoint, Class<T> type) {
+        Response response = RestClient.withoutBodyBuffering(request())
+                .when()
+                .get(endpoint);
+        return JsonUtils.stream(response.asInputStream(), type);
+    }
+
+    protected CompletableFuture<Response> async(Supplier<Response> request) {
+        return RestClient.executeAsync(request);
+    }
 }
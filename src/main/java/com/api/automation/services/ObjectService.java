@@ -1,29 +1,40 @@
 package com.api.automation.services;
 
+import com.api.automation.config.ConfigManager;
 import com.api.automation.models.ApiObject;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Service class for Object API endpoints (Page Object Model)
- * Handles all object-related API operations for restful-api.dev
+ * Handles all object-related API operations for restful-api.dev,
+ * at the base URI configured by objects.base.uri
  */
-public class ObjectService {
-    private static final String BASE_URI = "https://api.restful-api.dev";
+public class ObjectService extends BaseService {
     private static final String OBJECTS_PATH = "/objects";
 
+    public ObjectService() {
+        super(OBJECTS_PATH);
+    }
+
+    /**
+     * Get the base URI of the Object API
+     * @return the configured objects.base.uri
+     */
+    @Override
+    protected String getBaseUri() {
+        return ConfigManager.getInstance().getObjectsBaseUri();
+    }
+
     /**
      * Get all objects
      * @return Response object
      */
     public Response getAllObjects() {
-        return given()
-                .log().method().log().uri()
-                .baseUri(BASE_URI)
-                .basePath(OBJECTS_PATH)
-                .when()
-                .get();
+        return get();
     }
 
     /**
@@ -32,12 +43,7 @@ public class ObjectService {
      * @return Response object
      */
     public Response getObjectById(String objectId) {
-        return given()
-                .log().method().log().uri()
-                .baseUri(BASE_URI)
-                .basePath(OBJECTS_PATH)
-                .when()
-                .get("/" + objectId);
+        return get("/" + objectId);
     }
 
     /**
@@ -46,14 +52,7 @@ public class ObjectService {
      * @return Response object
      */
     public Response createObject(ApiObject apiObject) {
-        return given()
-                .log().method().log().uri()
-                .baseUri(BASE_URI)
-                .basePath(OBJECTS_PATH)
-                .contentType("application/json")
-                .body(apiObject)
-                .when()
-                .post();
+        return post(apiObject);
     }
 
     /**
@@ -63,14 +62,7 @@ public class ObjectService {
      * @return Response object
      */
     public Response updateObject(String objectId, ApiObject apiObject) {
-        return given()
-                .log().method().log().uri()
-                .baseUri(BASE_URI)
-                .basePath(OBJECTS_PATH)
-                .contentType("application/json")
-                .body(apiObject)
-                .when()
-                .put("/" + objectId);
+        return put(apiObject, "/" + objectId);
     }
 
     /**
@@ -80,14 +72,7 @@ public class ObjectService {
      * @return Response object
      */
     public Response patchObject(String objectId, ApiObject apiObject) {
-        return given()
-                .log().method().log().uri()
-                .baseUri(BASE_URI)
-                .basePath(OBJECTS_PATH)
-                .contentType("application/json")
-                .body(apiObject)
-                .when()
-                .patch("/" + objectId);
+        return patch(apiObject, "/" + objectId);
     }
 
     /**
@@ -96,12 +81,7 @@ public class ObjectService {
      * @return Response object
      */
     public Response deleteObject(String objectId) {
-        return given()
-                .log().method().log().uri()
-                .baseUri(BASE_URI)
-                .basePath(OBJECTS_PATH)
-                .when()
-                .delete("/" + objectId);
+        return delete("/" + objectId);
     }
 
     /**
@@ -121,22 +101,29 @@ public class ObjectService {
         return getAllObjects().as(ApiObject[].class);
     }
 
+    /**
+     * Stream all objects, parsing one element at a time from the response body
+     * @return ApiObject stream; close it if it is not consumed to the end
+     */
+    public Stream<ApiObject> streamAllObjects() {
+        return streamList("", ApiObject.class);
+    }
+
     /**
      * Get objects by multiple IDs
      * @param ids Variable number of object IDs
      * @return Response object
      */
     public Response getObjectsByIds(String... ids) {
-        io.restassured.specification.RequestSpecification spec = given()
-                .log().method().log().uri()
-                .baseUri(BASE_URI)
-                .basePath(OBJECTS_PATH);
+        return coalesce("?id=" + String.join("&id=", ids), () -> {
+            RequestSpecification spec = request();
 
-        for (String id : ids) {
-            spec = spec.queryParam("id", id);
-        }
+            for (String id : ids) {
+                spec = spec.queryParam("id", id);
+            }
 
-        return spec.when().get();
+            return spec.when().get();
+        });
     }
 
     /**
@@ -147,4 +134,68 @@ public class ObjectService {
     public ApiObject[] getObjectsByIdsAsArray(String... ids) {
         return getObjectsByIds(ids).as(ApiObject[].class);
     }
+
+    /**
+     * Get all objects asynchronously
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getAllObjectsAsync() {
+        return async(this::getAllObjects);
+    }
+
+    /**
+     * Get object by ID asynchronously
+     * @param objectId Object ID
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getObjectByIdAsync(String objectId) {
+        return async(() -> getObjectById(objectId));
+    }
+
+    /**
+     * Get objects by multiple IDs asynchronously
+     * @param ids Variable number of object IDs
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getObjectsByIdsAsync(String... ids) {
+        return async(() -> getObjectsByIds(ids));
+    }
+
+    /**
+     * Create a new object asynchronously
+     * @param apiObject ApiObject object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> createObjectAsync(ApiObject apiObject) {
+        return async(() -> createObject(apiObject));
+    }
+
+    /**
+     * Update object asynchronously
+     * @param objectId Object ID
+     * @param apiObject ApiObject object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> updateObjectAsync(String objectId, ApiObject apiObject) {
+        return async(() -> updateObject(objectId, apiObject));
+    }
+
+    /**
+     * Partially update object asynchronously
+     * @param objectId Object ID
+     * @param apiObject ApiObject object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> patchObjectAsync(String objectId, ApiObject apiObject) {
+        return async(() -> patchObject(objectId, apiObject));
+    }
+
+    /**
+     * Delete object asynchronously
+     * @param objectId Object ID
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> deleteObjectAsync(String objectId) {
+        return async(() -> deleteObject(objectId));
+    }
 }
@@ -3,6 +3,10 @@ package com.api.automation.services;
 import com.api.automation.models.Post;
 import io.restassured.response.Response;
 
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 /**
  * Service class for Post API endpoints (Page Object Model)
  * Handles all post-related API operations
@@ -94,4 +98,84 @@ public class PostService extends BaseService {
     public Post[] getAllPostsAsArray() {
         return getAllPosts().as(Post[].class);
     }
+
+    /**
+     * Stream all posts, parsing one element at a time from the response body
+     * @return Post stream; close it if it is not consumed to the end
+     */
+    public Stream<Post> streamAllPosts() {
+        return streamList("", Post.class);
+    }
+
+    /**
+     * Iterate over all posts, parsing one element at a time from the response body
+     * @return Post iterator; exhaust it or close the stream it came from to release the connection
+     */
+    public Iterator<Post> iterateAllPosts() {
+        return streamAllPosts().iterator();
+    }
+
+    /**
+     * Get all posts asynchronously
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getAllPostsAsync() {
+        return async(this::getAllPosts);
+    }
+
+    /**
+     * Get post by ID asynchronously
+     * @param postId Post ID
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getPostByIdAsync(int postId) {
+        return async(() -> getPostById(postId));
+    }
+
+    /**
+     * Get posts by user ID asynchronously
+     * @param userId User ID
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getPostsByUserIdAsync(int userId) {
+        return async(() -> getPostsByUserId(userId));
+    }
+
+    /**
+     * Create a new post asynchronously
+     * @param post Post object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> createPostAsync(Post post) {
+        return async(() -> createPost(post));
+    }
+
+    /**
+     * Update post asynchronously
+     * @param postId Post ID
+     * @param post Post object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> updatePostAsync(int postId, Post post) {
+        return async(() -> updatePost(postId, post));
+    }
+
+    /**
+     * Partially update post asynchronously
+     * @param postId Post ID
+     * @param post Post object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> patchPostAsync(int postId, Post post) {
+        return async(() -> patchPost(postId, post));
+    }
+
+    /**
+     * Delete post asynchronously
+     * @param postId Post ID
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> deletePostAsync(int postId) {
+        return async(() -> deletePost(postId));
+    }
 }
@@ -3,6 +3,9 @@ package com.api.automation.services;
 import com.api.automation.models.User;
 import io.restassured.response.Response;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 /**
  * Service class for User API endpoints (Page Object Model)
  * Handles all user-related API operations
@@ -85,4 +88,67 @@ public class UserService extends BaseService {
     public User[] getAllUsersAsArray() {
         return getAllUsers().as(User[].class);
     }
+
+    /**
+     * Stream all users, parsing one element at a time from the response body
+     * @return User stream; close it if it is not consumed to the end
+     */
+    public Stream<User> streamAllUsers() {
+        return streamList("", User.class);
+    }
+
+    /**
+     * Get all users asynchronously
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getAllUsersAsync() {
+        return async(this::getAllUsers);
+    }
+
+    /**
+     * Get user by ID asynchronously
+     * @param userId User ID
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> getUserByIdAsync(int userId) {
+        return async(() -> getUserById(userId));
+    }
+
+    /**
+     * Create a new user asynchronously
+     * @param user User object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> createUserAsync(User user) {
+        return async(() -> createUser(user));
+    }
+
+    /**
+     * Update user asynchronously
+     * @param userId User ID
+     * @param user User object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> updateUserAsync(int userId, User user) {
+        return async(() -> updateUser(userId, user));
+    }
+
+    /**
+     * Partially update user asynchronously
+     * @param userId User ID
+     * @param user User object
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> patchUserAsync(int userId, User user) {
+        return async(() -> patchUser(userId, user));
+    }
+
+    /**
+     * Delete user asynchronously
+     * @param userId User ID
+     * @return future completed with the Response
+     */
+    public CompletableFuture<Response> deleteUserAsync(int userId) {
+        return async(() -> deleteUser(userId));
+    }
 }
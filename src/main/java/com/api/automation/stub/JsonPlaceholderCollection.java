@@ -0,0 +1,41 @@
+package com.api.automation.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Collection answering like jsonplaceholder.typicode.com: numeric IDs, 201 with the created
+ * resource on POST, an empty object for DELETE and for unknown IDs
+ */
+final class JsonPlaceholderCollection extends StubCollection {
+
+    JsonPlaceholderCollection(String fixture) {
+        super(fixture);
+    }
+
+    @Override
+    protected ObjectNode toItem(String id, ObjectNode body) {
+        ObjectNode item = body.deepCopy();
+        item.put("id", Integer.parseInt(id));
+        return item;
+    }
+
+    @Override
+    protected StubResponse created(ObjectNode item) {
+        return StubResponse.json(201, item);
+    }
+
+    @Override
+    protected StubResponse updated(ObjectNode item) {
+        return StubResponse.json(200, item);
+    }
+
+    @Override
+    protected StubResponse deleted(String id) {
+        return StubResponse.json(200, NODES.objectNode());
+    }
+
+    @Override
+    protected StubResponse notFound(String id) {
+        return StubResponse.json(404, NODES.objectNode());
+    }
+}
@@ -0,0 +1,58 @@
+package com.api.automation.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Collection answering like api.restful-api.dev: string IDs, objects of id, name and data,
+ * a createdAt or updatedAt timestamp on writes and a confirmation message on DELETE.
+ * Unlike the public API, fixture objects may be modified, and DELETE succeeds for any ID.
+ */
+final class RestfulApiCollection extends StubCollection {
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
+    RestfulApiCollection(String fixture) {
+        super(fixture);
+    }
+
+    @Override
+    protected ObjectNode toItem(String id, ObjectNode body) {
+        ObjectNode item = NODES.objectNode();
+        item.put("id", id);
+        item.set("name", body.has("name") ? body.get("name") : NODES.nullNode());
+        item.set("data", body.has("data") ? body.get("data") : NODES.nullNode());
+        return item;
+    }
+
+    @Override
+    protected StubResponse created(ObjectNode item) {
+        return StubResponse.json(200, withTimestamp(item, "createdAt"));
+    }
+
+    @Override
+    protected StubResponse updated(ObjectNode item) {
+        return StubResponse.json(200, withTimestamp(item, "updatedAt"));
+    }
+
+    @Override
+    protected StubResponse deleted(String id) {
+        return StubResponse.json(200, NODES.objectNode().put("message", "Object with id = " + id + ", has been deleted."));
+    }
+
+    @Override
+    protected StubResponse notFound(String id) {
+        return StubResponse.json(404, NODES.objectNode().put("error", "Object with id=" + id + " was not found."));
+    }
+
+    private static ObjectNode withTimestamp(ObjectNode item, String field) {
+        ObjectNode response = NODES.objectNode();
+        response.set("id", item.get("id"));
+        response.set("name", item.get("name"));
+        response.put(field, ZonedDateTime.now(ZoneOffset.UTC).format(TIMESTAMP));
+        response.set("data", item.get("data"));
+        return response;
+    }
+}
@@ -0,0 +1,171 @@
+package com.api.automation.stub;
+
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory resource collection seeded from a JSON fixture on the classpath.
+ *
+ * Items keep fixture order, new items are appended. All access is synchronized on the collection;
+ * the version changes on every mutation so cached GET responses can be recognised as stale.
+ * Subclasses shape the responses after the API they stand in for.
+ */
+abstract class StubCollection {
+    protected static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final String fixture;
+    private final Map<String, ObjectNode> items = new LinkedHashMap<>();
+    private volatile long version;
+    private long lastNumericId;
+
+    StubCollection(String fixture) {
+        this.fixture = fixture;
+        reset();
+    }
+
+    /**
+     * Discard every change and reload the fixture
+     */
+    final synchronized void reset() {
+        items.clear();
+        lastNumericId = 0;
+        for (JsonNode item : loadFixture(fixture)) {
+            String id = item.get("id").asText();
+            items.put(id, (ObjectNode) item);
+            trackId(id);
+        }
+        version++;
+    }
+
+    final long getVersion() {
+        return version;
+    }
+
+    final synchronized StubResponse list(Map<String, List<String>> query) {
+        ArrayNode matching = NODES.arrayNode();
+        for (ObjectNode item : items.values()) {
+            if (matches(item, query)) {
+                matching.add(item);
+            }
+        }
+        return StubResponse.json(200, matching);
+    }
+
+    final synchronized StubResponse get(String id) {
+        ObjectNode item = items.get(id);
+        return item != null ? StubResponse.json(200, item) : notFound(id);
+    }
+
+    final synchronized StubResponse create(ObjectNode body) {
+        String id = String.valueOf(++lastNumericId);
+        ObjectNode item = toItem(id, body);
+        items.put(id, item);
+        version++;
+        return created(item);
+    }
+
+    final synchronized StubResponse replace(String id, ObjectNode body) {
+        if (!items.containsKey(id)) {
+            return notFound(id);
+        }
+        ObjectNode item = toItem(id, body);
+        items.put(id, item);
+        version++;
+        return updated(item);
+    }
+
+    final synchronized StubResponse update(String id, ObjectNode body) {
+        ObjectNode item = items.get(id);
+        if (item == null) {
+            return notFound(id);
+        }
+        ObjectNode merged = item.deepCopy();
+        merge(merged, body);
+        items.put(id, merged);
+        version++;
+        return updated(merged);
+    }
+
+    final synchronized StubResponse delete(String id) {
+        if (items.remove(id) != null) {
+            version++;
+        }
+        return deleted(id);
+    }
+
+    /**
+     * Build the stored item for a created or replaced resource
+     * @param id resource ID
+     * @param body request body
+     * @return item to store
+     */
+    protected abstract ObjectNode toItem(String id, ObjectNode body);
+
+    protected abstract StubResponse created(ObjectNode item);
+
+    protected abstract StubResponse updated(ObjectNode item);
+
+    protected abstract StubResponse deleted(String id);
+
+    protected abstract StubResponse notFound(String id);
+
+    /**
+     * Copy the non-null fields of a patch into an item; nested objects are merged the same way
+     */
+    protected static void merge(ObjectNode target, ObjectNode patch) {
+        patch.fields().forEachRemaining(field -> {
+            JsonNode value = field.getValue();
+            JsonNode existing = target.get(field.getKey());
+            if (value.isNull() || "id".equals(field.getKey())) {
+                return;
+            }
+            if (value.isObject() && existing != null && existing.isObject()) {
+                merge((ObjectNode) existing, (ObjectNode) value);
+            } else {
+                target.set(field.getKey(), value);
+            }
+        });
+    }
+
+    /**
+     * An item matches when, for every query parameter, its field of that name equals one of the values
+     */
+    private static boolean matches(ObjectNode item, Map<String, List<String>> query) {
+        for (Map.Entry<String, List<String>> parameter : query.entrySet()) {
+            JsonNode value = item.get(parameter.getKey());
+            if (value == null || !parameter.getValue().contains(value.asText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void trackId(String id) {
+        try {
+            lastNumericId = Math.max(lastNumericId, Long.parseLong(id));
+        } catch (NumberFormatException e) {
+            // Non-numeric fixture IDs do not affect generated IDs
+        }
+    }
+
+    private static ArrayNode loadFixture(String resource) {
+        try (InputStream in = StubCollection.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Stub fixture not found on classpath: " + resource);
+            }
+            return JsonUtils.deserialize(in, ArrayNode.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read stub fixture: " + resource, e);
+        }
+    }
+}
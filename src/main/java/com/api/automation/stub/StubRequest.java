@@ -0,0 +1,75 @@
+package com.api.automation.stub;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One parsed HTTP request received by the stub server
+ */
+final class StubRequest {
+    private final String method;
+    private final String target;
+    private final String path;
+    private final Map<String, List<String>> query;
+    private final byte[] body;
+
+    StubRequest(String method, String target, byte[] body) {
+        this.method = method;
+        this.target = target;
+        this.body = body;
+        int queryStart = target.indexOf('?');
+        String rawPath = queryStart < 0 ? target : target.substring(0, queryStart);
+        while (rawPath.length() > 1 && rawPath.endsWith("/")) {
+            rawPath = rawPath.substring(0, rawPath.length() - 1);
+        }
+        this.path = decode(rawPath);
+        this.query = queryStart < 0 ? Collections.emptyMap() : parseQuery(target.substring(queryStart + 1));
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the request target exactly as sent, path and query string
+     * @return raw request target
+     */
+    String getTarget() {
+        return target;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    Map<String, List<String>> getQuery() {
+        return query;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    private static Map<String, List<String>> parseQuery(String queryString) {
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        for (String pair : queryString.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String name = decode(equals < 0 ? pair : pair.substring(0, equals));
+            String value = equals < 0 ? "" : decode(pair.substring(equals + 1));
+            parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+
+    private static String decode(String value) {
+        return value.indexOf('%') < 0 && value.indexOf('+') < 0 ? value : URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,93 @@
+package com.api.automation.stub;
+
+import com.api.automation.utils.JsonUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP response produced by the stub server. The encoded bytes for a keep-alive connection are
+ * built once, so a cached response is written without any further work.
+ */
+final class StubResponse {
+    private final int status;
+    private final byte[] body;
+    private volatile byte[] keepAliveBytes;
+
+    StubResponse(int status, byte[] body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Create a JSON response
+     * @param status HTTP status code
+     * @param body object serialized as the JSON body
+     * @return StubResponse
+     */
+    static StubResponse json(int status, Object body) {
+        return new StubResponse(status, JsonUtils.serializeToBytes(body));
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Encode status line, headers and body
+     * @param keepAlive whether the connection stays open after this response
+     * @return complete HTTP/1.1 response
+     */
+    byte[] encode(boolean keepAlive) {
+        if (!keepAlive) {
+            return build(false);
+        }
+        byte[] encoded = keepAliveBytes;
+        if (encoded == null) {
+            encoded = build(true);
+            keepAliveBytes = encoded;
+        }
+        return encoded;
+    }
+
+    private byte[] build(boolean keepAlive) {
+        String head = "HTTP/1.1 " + status + " " + reason(status) + "\r\n"
+                + "Content-Type: application/json; charset=utf-8\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + (keepAlive ? "Connection: keep-alive\r\n" : "Connection: close\r\n")
+                + "\r\n";
+        byte[] headBytes = head.getBytes(StandardCharsets.US_ASCII);
+        byte[] encoded = new byte[headBytes.length + body.length];
+        System.arraycopy(headBytes, 0, encoded, 0, headBytes.length);
+        System.arraycopy(body, 0, encoded, headBytes.length, body.length);
+        return encoded;
+    }
+
+    private static String reason(int status) {
+        switch (status) {
+            case 200:
+                return "OK";
+            case 201:
+                return "Created";
+            case 400:
+                return "Bad Request";
+            case 404:
+                return "Not Found";
+            case 405:
+                return "Method Not Allowed";
+            case 413:
+                return "Payload Too Large";
+            case 431:
+                return "Request Header Fields Too Large";
+            case 500:
+                return "Internal Server Error";
+            case 501:
+                return "Not Implemented";
+            default:
+                return "Status " + status;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.api.automation.stub;
+
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes stub requests to the {@code /users}, {@code /posts} and {@code /objects} collections.
+ *
+ * GET responses are cached per request target together with the collection version they were
+ * built from; until the collection changes, repeated GETs are answered with the same encoded bytes.
+ */
+final class StubRouter {
+    private static final int MAX_CACHED_RESPONSES = 10_000;
+
+    private final Map<String, StubCollection> collections = new LinkedHashMap<>();
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+
+    StubRouter() {
+        collections.put("users", new JsonPlaceholderCollection("stub/users.json"));
+        collections.put("posts", new JsonPlaceholderCollection("stub/posts.json"));
+        collections.put("objects", new RestfulApiCollection("stub/objects.json"));
+    }
+
+    /**
+     * Restore every collection to its fixture
+     */
+    void reset() {
+        collections.values().forEach(StubCollection::reset);
+        cache.clear();
+    }
+
+    StubResponse route(StubRequest request) {
+        String path = request.getPath();
+        int idStart = path.indexOf('/', 1);
+        String name = path.substring(1, idStart < 0 ? path.length() : idStart);
+        String id = idStart < 0 ? null : path.substring(idStart + 1);
+        StubCollection collection = collections.get(name);
+        if (collection == null || (id != null && (id.isEmpty() || id.indexOf('/') >= 0))) {
+            return error(404, "No stub route for " + request.getMethod() + " " + path);
+        }
+        switch (request.getMethod()) {
+            case "GET":
+                return cachedGet(request, collection, id);
+            case "POST":
+                return id == null ? collection.create(body(request)) : notAllowed(request);
+            case "PUT":
+                return id != null ? collection.replace(id, body(request)) : notAllowed(request);
+            case "PATCH":
+                return id != null ? collection.update(id, body(request)) : notAllowed(request);
+            case "DELETE":
+                return id != null ? collection.delete(id) : notAllowed(request);
+            default:
+                return notAllowed(request);
+        }
+    }
+
+    private StubResponse cachedGet(StubRequest request, StubCollection collection, String id) {
+        long version = collection.getVersion();
+        CachedResponse cached = cache.get(request.getTarget());
+        if (cached != null && cached.version == version) {
+            return cached.response;
+        }
+        StubResponse response = id == null ? collection.list(request.getQuery()) : collection.get(id);
+        if (cache.size() >= MAX_CACHED_RESPONSES) {
+            cache.clear();
+        }
+        cache.put(request.getTarget(), new CachedResponse(version, response));
+        return response;
+    }
+
+    private static ObjectNode body(StubRequest request) {
+        if (request.getBody().length == 0) {
+            return JsonNodeFactory.instance.objectNode();
+        }
+        JsonNode body;
+        try {
+            body = JsonUtils.deserialize(request.getBody(), JsonNode.class);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Request body is not valid JSON", e);
+        }
+        if (!body.isObject()) {
+            throw new IllegalArgumentException("Request body must be a JSON object");
+        }
+        return (ObjectNode) body;
+    }
+
+    private static StubResponse notAllowed(StubRequest request) {
+        return error(405, request.getMethod() + " is not supported for " + request.getPath());
+    }
+
+    static StubResponse error(int status, String message) {
+        return StubResponse.json(status, JsonNodeFactory.instance.objectNode().put("error", message));
+    }
+
+    private static final class CachedResponse {
+        private final long version;
+        private final StubResponse response;
+
+        CachedResponse(long version, StubResponse response) {
+            this.version = version;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.api.automation.stub;
+
+import com.api.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded HTTP/1.1 stub server replaying jsonplaceholder and restful-api.dev from fixtures.
+ *
+ * Serves {@code /users} and {@code /posts} (jsonplaceholder) and {@code /objects}
+ * (restful-api.dev) on 127.0.0.1, with in-memory state for POST, PUT, PATCH and DELETE and
+ * query filtering such as {@code /posts?userId=1} or {@code /objects?id=3&id=5}.
+ *
+ * Built directly on NIO: a few event-loop threads each own a selector and multiplex many
+ * keep-alive connections, requests are parsed straight from the read buffer (pipelining included)
+ * and repeated GETs are answered with pre-encoded bytes, so it starts in milliseconds and is far
+ * faster than any test client it serves.
+ *
+ * <pre>
+ * try (StubServer stub = StubServer.start(0, 2)) {
+ *     given().baseUri(stub.getBaseUri()).get("/users/1");
+ * }
+ * </pre>
+ */
+public final class StubServer implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(StubServer.class);
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_REQUEST_SIZE = 1024 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final StubRouter router = new StubRouter();
+    private final EventLoop[] loops;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final int port;
+    private volatile boolean running = true;
+
+    private StubServer(int port, int threads) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        serverChannel.configureBlocking(false);
+        this.port = ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        loops = new EventLoop[threads];
+        for (int i = 0; i < threads; i++) {
+            loops[i] = new EventLoop(i);
+        }
+        serverChannel.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+        for (EventLoop loop : loops) {
+            loop.thread.start();
+        }
+    }
+
+    /**
+     * Start a stub server with the port and thread count from stub.port and stub.threads
+     * @return running StubServer
+     */
+    public static StubServer start() {
+        ConfigManager config = ConfigManager.getInstance();
+        return start(config.getStubPort(), config.getStubThreads());
+    }
+
+    /**
+     * Start a stub server
+     * @param port port to listen on, 0 for any free port
+     * @param threads number of event-loop threads
+     * @return running StubServer
+     */
+    public static StubServer start(int port, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Stub server needs at least one thread but got " + threads);
+        }
+        try {
+            StubServer server = new StubServer(port, threads);
+            logger.info("Stub server listening on {} with {} event loops", server.getBaseUri(), threads);
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start stub server on port " + port, e);
+        }
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Get the base URI to point services at
+     * @return e.g. http://127.0.0.1:41234
+     */
+    public String getBaseUri() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    /**
+     * Get the number of requests answered since startup
+     * @return request count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Discard all changes made through POST, PUT, PATCH and DELETE
+     */
+    public void reset() {
+        router.reset();
+    }
+
+    /**
+     * Stop accepting connections, close open ones and stop the event loops
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (EventLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+        for (EventLoop loop : loops) {
+            try {
+                loop.thread.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close stub server socket: {}", e.getMessage());
+        }
+        logger.info("Stub server on port {} stopped after {} requests", port, requestCount.get());
+    }
+
+    /**
+     * One selector thread. Loop 0 also accepts connections and hands them out round-robin.
+     */
+    private final class EventLoop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+        private int nextLoop;
+
+        EventLoop(int index) throws IOException {
+            selector = Selector.open();
+            thread = new Thread(this, "stub-server-" + index);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerAccepted();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        handle(key);
+                    }
+                }
+            } catch (IOException e) {
+                logger.error("Stub server event loop failed", e);
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    closeQuietly(key.channel());
+                }
+                closeQuietly(selector);
+            }
+        }
+
+        private void handle(SelectionKey key) {
+            if (!key.isValid()) {
+                return;
+            }
+            try {
+                if (key.isAcceptable()) {
+                    accept();
+                    return;
+                }
+                Connection connection = (Connection) key.attachment();
+                if (key.isWritable()) {
+                    connection.flush();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    connection.read();
+                }
+            } catch (IOException | RuntimeException e) {
+                key.cancel();
+                closeQuietly(key.channel());
+            }
+        }
+
+        private void accept() throws IOException {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                EventLoop target = loops[nextLoop];
+                nextLoop = (nextLoop + 1) % loops.length;
+                if (target == this) {
+                    target.register(channel);
+                } else {
+                    target.accepted.add(channel);
+                    target.selector.wakeup();
+                }
+            }
+        }
+
+        private void registerAccepted() throws IOException {
+            SocketChannel channel;
+            while ((channel = accepted.poll()) != null) {
+                register(channel);
+            }
+        }
+
+        private void register(SocketChannel channel) throws IOException {
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+        }
+    }
+
+    /**
+     * Per-connection state: read buffer holding unparsed bytes and responses not yet written
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final Queue<ByteBuffer> pending = new ArrayDeque<>();
+        private byte[] buffer = new byte[READ_BUFFER_SIZE];
+        private int length;
+        private boolean closeAfterWrite;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void read() throws IOException {
+            if (length == buffer.length) {
+                if (buffer.length >= MAX_REQUEST_SIZE) {
+                    respond(StubRouter.error(413, "Request exceeds " + MAX_REQUEST_SIZE + " bytes"), false);
+                    return;
+                }
+                buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, MAX_REQUEST_SIZE));
+            }
+            int read = channel.read(ByteBuffer.wrap(buffer, length, buffer.length - length));
+            if (read < 0) {
+                close();
+                return;
+            }
+            length += read;
+            processRequests();
+        }
+
+        void flush() throws IOException {
+            while (!pending.isEmpty()) {
+                ByteBuffer next = pending.peek();
+                channel.write(next);
+                if (next.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_WRITE);
+                    return;
+                }
+                pending.poll();
+            }
+            if (closeAfterWrite) {
+                close();
+                return;
+            }
+            key.interestOps(SelectionKey.OP_READ);
+            processRequests();
+        }
+
+        /**
+         * Answer every complete request in the buffer; stops while earlier responses are unsent
+         */
+        private void processRequests() throws IOException {
+            int offset = 0;
+            while (pending.isEmpty() && !closeAfterWrite) {
+                int headerEnd = indexOfHeaderEnd(offset);
+                if (headerEnd < 0) {
+                    break;
+                }
+                RequestHead head = parseHead(offset, headerEnd);
+                if (head == null) {
+                    respond(StubRouter.error(400, "Malformed request"), false);
+                    break;
+                }
+                if (head.chunked) {
+                    respond(StubRouter.error(501, "Chunked request bodies are not supported"), false);
+                    break;
+                }
+                int bodyStart = headerEnd + 4;
+                if (head.contentLength > MAX_REQUEST_SIZE - (bodyStart - offset)) {
+                    respond(StubRouter.error(413, "Request exceeds " + MAX_REQUEST_SIZE + " bytes"), false);
+                    break;
+                }
+                if (length - bodyStart < head.contentLength) {
+                    ensureCapacity(offset, bodyStart - offset + head.contentLength);
+                    break;
+                }
+                byte[] body = Arrays.copyOfRange(buffer, bodyStart, bodyStart + head.contentLength);
+                offset = bodyStart + head.contentLength;
+                respond(handle(new StubRequest(head.method, head.target, body)), head.keepAlive);
+            }
+            if (offset > 0) {
+                System.arraycopy(buffer, offset, buffer, 0, length - offset);
+                length -= offset;
+            }
+        }
+
+        private StubResponse handle(StubRequest request) {
+            requestCount.incrementAndGet();
+            try {
+                return router.route(request);
+            } catch (IllegalArgumentException e) {
+                return StubRouter.error(400, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warn("Stub server failed to answer {} {}", request.getMethod(), request.getTarget(), e);
+                return StubRouter.error(500, "Stub server error: " + e.getMessage());
+            }
+        }
+
+        private void respond(StubResponse response, boolean keepAlive) throws IOException {
+            ByteBuffer bytes = ByteBuffer.wrap(response.encode(keepAlive));
+            closeAfterWrite = !keepAlive;
+            if (pending.isEmpty()) {
+                channel.write(bytes);
+            }
+            if (bytes.hasRemaining()) {
+                pending.add(bytes);
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else if (closeAfterWrite) {
+                close();
+            }
+        }
+
+        private void ensureCapacity(int offset, int required) {
+            if (required > buffer.length) {
+                byte[] larger = new byte[Math.max(required, buffer.length * 2)];
+                System.arraycopy(buffer, offset, larger, offset, length - offset);
+                buffer = larger;
+            }
+        }
+
+        private int indexOfHeaderEnd(int offset) {
+            for (int i = offset; i + 3 < length; i++) {
+                if (buffer[i] == '\r' && buffer[i + 1] == '\n' && buffer[i + 2] == '\r' && buffer[i + 3] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private RequestHead parseHead(int start, int end) {
+            String head = new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+            String[] lines = head.split("\r\n");
+            String[] requestLine = lines[0].split(" ");
+            if (requestLine.length != 3 || !requestLine[2].startsWith("HTTP/1.")) {
+                return null;
+            }
+            RequestHead parsed = new RequestHead(requestLine[0], requestLine[1], "HTTP/1.1".equals(requestLine[2]));
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon <= 0) {
+                    return null;
+                }
+                String name = lines[i].substring(0, colon).trim();
+                String value = lines[i].substring(colon + 1).trim();
+                if ("Content-Length".equalsIgnoreCase(name)) {
+                    try {
+                        parsed.contentLength = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    if (parsed.contentLength < 0) {
+                        return null;
+                    }
+                } else if ("Connection".equalsIgnoreCase(name)) {
+                    if ("close".equalsIgnoreCase(value)) {
+                        parsed.keepAlive = false;
+                    } else if ("keep-alive".equalsIgnoreCase(value)) {
+                        parsed.keepAlive = true;
+                    }
+                } else if ("Transfer-Encoding".equalsIgnoreCase(name)) {
+                    parsed.chunked = value.toLowerCase().contains("chunked");
+                }
+            }
+            return parsed;
+        }
+
+        private void close() {
+            key.cancel();
+            closeQuietly(channel);
+        }
+    }
+
+    private static final class RequestHead {
+        private final String method;
+        private final String target;
+        private boolean keepAlive;
+        private int contentLength;
+        private boolean chunked;
+
+        RequestHead(String method, String target, boolean keepAlive) {
+            this.method = method;
+            this.target = target;
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Already closed or broken; nothing left to release
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, non-blocking log sink. Callers enqueue finished log entries and a single
+ * daemon thread writes them out in batches, so request threads never wait on console I/O.
+ * When the queue is full new entries are dropped and counted rather than blocking.
+ */
+public class AsyncLogWriter {
+    private static AsyncLogWriter instance;
+
+    private final BlockingQueue<String> queue;
+    private final PrintStream out;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public AsyncLogWriter(int capacity, PrintStream out) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.out = out;
+        this.writerThread = new Thread(this::writeLoop, "async-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Get the shared writer targeting standard output, sized by {@code logging.queue.capacity}.
+     * Pending entries are flushed on JVM shutdown.
+     * @return AsyncLogWriter instance
+     */
+    public static synchronized AsyncLogWriter getInstance() {
+        if (instance == null) {
+            AsyncLogWriter writer = new AsyncLogWriter(ConfigManager.getInstance().getLoggingQueueCapacity(), System.out);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.shutdown(2_000L), "async-log-writer-shutdown"));
+            instance = writer;
+        }
+        return instance;
+    }
+
+    /**
+     * Enqueue a log entry without blocking
+     * @param entry formatted log entry
+     * @return true if queued, false if the queue was full and the entry was dropped
+     */
+    public boolean append(String entry) {
+        pending.incrementAndGet();
+        if (running && queue.offer(entry)) {
+            return true;
+        }
+        pending.decrementAndGet();
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Wait until every queued entry has been written
+     * @param timeoutMs maximum time to wait in milliseconds
+     * @return true if the queue was drained in time
+     */
+    public boolean flush(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Flush queued entries and stop the writer thread
+     * @param timeoutMs maximum time to wait for queued entries in milliseconds
+     */
+    public void shutdown(long timeoutMs) {
+        flush(timeoutMs);
+        running = false;
+        writerThread.interrupt();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        long reportedDropped = 0;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch);
+            StringBuilder sb = new StringBuilder();
+            for (String entry : batch) {
+                sb.append(entry).append(System.lineSeparator());
+            }
+            long droppedNow = dropped.get();
+            if (droppedNow > reportedDropped) {
+                sb.append("[async-log-writer] ").append(droppedNow - reportedDropped)
+                        .append(" log entries dropped, queue full").append(System.lineSeparator());
+                reportedDropped = droppedNow;
+            }
+            out.print(sb);
+            out.flush();
+            pending.addAndGet(-batch.size());
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+import com.api.automation.config.LoggingMode;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs request/response exchanges according to a {@link LoggingMode}.
+ * Each exchange is formatted into a single entry (bodies truncated, never pretty-printed)
+ * and handed to an {@link AsyncLogWriter}, so logging never blocks on console I/O.
+ */
+public class AsyncLoggingFilter implements Filter {
+    private final LoggingMode mode;
+    private final int sampleInterval;
+    private final int maxBodyChars;
+    private final AsyncLogWriter writer;
+    private final AtomicLong exchangeCount = new AtomicLong();
+
+    /**
+     * Create a filter configured from {@link ConfigManager}, writing to the shared {@link AsyncLogWriter}
+     */
+    public AsyncLoggingFilter() {
+        this(ConfigManager.getInstance().getLoggingMode(),
+                ConfigManager.getInstance().getLoggingSampleInterval(),
+                ConfigManager.getInstance().getLoggingMaxBodyChars(),
+                AsyncLogWriter.getInstance());
+    }
+
+    public AsyncLoggingFilter(LoggingMode mode, int sampleInterval, int maxBodyChars, AsyncLogWriter writer) {
+        this.mode = mode;
+        this.sampleInterval = Math.max(1, sampleInterval);
+        this.maxBodyChars = maxBodyChars;
+        this.writer = writer;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!shouldLog()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        boolean includeBodies = mode != LoggingMode.HEADERS;
+        StringBuilder entry = new StringBuilder(256);
+        entry.append(">>> ").append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI()).append('\n');
+        appendHeaders(entry, requestSpec.getHeaders());
+        if (includeBodies && requestSpec.getBody() != null) {
+            appendBody(entry, String.valueOf((Object) requestSpec.getBody()));
+        }
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            entry.append("<<< failed after ").append(elapsedMillis(start)).append(" ms: ").append(e);
+            writer.append(entry.toString());
+            throw e;
+        }
+
+        entry.append("<<< ").append(response.getStatusLine())
+                .append(" (").append(elapsedMillis(start)).append(" ms)\n");
+        appendHeaders(entry, response.getHeaders());
+        if (includeBodies) {
+            appendBody(entry, response.asString());
+        }
+        writer.append(entry.toString().stripTrailing());
+        return response;
+    }
+
+    private boolean shouldLog() {
+        switch (mode) {
+            case OFF:
+                return false;
+            case SAMPLED:
+                return exchangeCount.getAndIncrement() % sampleInterval == 0;
+            default:
+                return true;
+        }
+    }
+
+    private void appendHeaders(StringBuilder entry, Headers headers) {
+        for (Header header : headers) {
+            entry.append("    ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+    }
+
+    private void appendBody(StringBuilder entry, String body) {
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        if (body.length() > maxBodyChars) {
+            entry.append("    ").append(body, 0, maxBodyChars)
+                    .append("... [truncated ").append(body.length() - maxBodyChars).append(" chars]\n");
+        } else {
+            entry.append("    ").append(body).append('\n');
+        }
+    }
+
+    private static String elapsedMillis(long startNanos) {
+        return String.format("%.1f", (System.nanoTime() - startNanos) / 1_000_000.0);
+    }
+}
@@ -0,0 +1,32 @@
+package com.api.automation.utils;
+
+import lombok.Getter;
+
+/**
+ * Immutable view of {@link RequestCoalescer} counters: requests actually sent and
+ * calls that shared another caller's in-flight request instead
+ */
+@Getter
+public class CoalescingStats {
+    private final long executions;
+    private final long coalesced;
+
+    public CoalescingStats(long executions, long coalesced) {
+        this.executions = executions;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Fraction of calls that were answered by another caller's request
+     * @return coalesced rate between 0 and 1
+     */
+    public double getCoalescedRate() {
+        long calls = executions + coalesced;
+        return calls == 0 ? 0.0 : (double) coalesced / calls;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("executions=%d, coalesced=%d (%.1f%%)", executions, coalesced, getCoalescedRate() * 100);
+    }
+}
@@ -0,0 +1,212 @@
+package com.api.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-compiled form of a simple GPath expression, evaluated directly against a parsed Jackson tree.
+ *
+ * Supports the subset used by most assertions: the root ({@code $} or empty), dotted property
+ * names, array indices (negative counts from the end), e.g. {@code data.price}, {@code [0].id},
+ * {@code items[-1].name}. Property access on a list collects the property from every element,
+ * as GPath does. Results use the same Java types as REST Assured's JsonPath: Integer/Long/BigInteger,
+ * Float/Double, String, Boolean, LinkedHashMap and ArrayList. Other expressions (closures, method
+ * calls, quoted names) are reported as not {@link #isSupported() supported} so callers can fall back
+ * to REST Assured.
+ */
+public final class CompiledJsonPath {
+    private static final int MAX_CACHED_PATHS = 10_000;
+    private static final Map<String, CompiledJsonPath> cache = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final Object[] steps;
+    private final boolean supported;
+
+    private CompiledJsonPath(String expression, Object[] steps, boolean supported) {
+        this.expression = expression;
+        this.steps = steps;
+        this.supported = supported;
+    }
+
+    /**
+     * Compile a path expression, reusing a previously compiled instance when available
+     * @param expression GPath expression
+     * @return compiled path
+     */
+    public static CompiledJsonPath compile(String expression) {
+        CompiledJsonPath compiled = cache.get(expression);
+        if (compiled == null) {
+            compiled = parse(expression);
+            if (cache.size() < MAX_CACHED_PATHS) {
+                cache.putIfAbsent(expression, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Whether this expression can be evaluated without falling back to REST Assured
+     * @return true for root, property and index steps only
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Evaluate the path
+     * @param root parsed document
+     * @return value converted to REST Assured's JsonPath types, or null if the path does not exist
+     */
+    public Object evaluate(JsonNode root) {
+        if (!supported) {
+            throw new UnsupportedOperationException("Path '" + expression + "' needs full GPath evaluation");
+        }
+        Object current = root;
+        for (Object step : steps) {
+            current = step instanceof String ? property(current, (String) step) : index(current, (Integer) step);
+            if (current == null) {
+                return null;
+            }
+        }
+        return toJava(current);
+    }
+
+    private static Object property(Object current, String name) {
+        if (current instanceof JsonNode) {
+            JsonNode node = (JsonNode) current;
+            if (node.isObject()) {
+                return node.get(name);
+            }
+            if (node.isArray()) {
+                List<Object> collected = new ArrayList<>(node.size());
+                for (JsonNode element : node) {
+                    collected.add(toJava(property(element, name)));
+                }
+                return collected;
+            }
+            return null;
+        }
+        if (current instanceof List) {
+            List<Object> collected = new ArrayList<>();
+            for (Object element : (List<?>) current) {
+                collected.add(element instanceof Map ? ((Map<?, ?>) element).get(name) : property(element, name));
+            }
+            return collected;
+        }
+        return null;
+    }
+
+    private static Object index(Object current, int index) {
+        if (current instanceof JsonNode && ((JsonNode) current).isArray()) {
+            JsonNode node = (JsonNode) current;
+            int resolved = index < 0 ? node.size() + index : index;
+            return resolved >= 0 && resolved < node.size() ? node.get(resolved) : null;
+        }
+        if (current instanceof List) {
+            List<?> list = (List<?>) current;
+            int resolved = index < 0 ? list.size() + index : index;
+            return resolved >= 0 && resolved < list.size() ? list.get(resolved) : null;
+        }
+        return null;
+    }
+
+    static Object toJava(Object value) {
+        if (!(value instanceof JsonNode)) {
+            return value;
+        }
+        JsonNode node = (JsonNode) value;
+        switch (node.getNodeType()) {
+            case OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    map.put(field.getKey(), toJava(field.getValue()));
+                }
+                return map;
+            case ARRAY:
+                List<Object> list = new ArrayList<>(node.size());
+                for (JsonNode element : node) {
+                    list.add(toJava(element));
+                }
+                return list;
+            case STRING:
+                return node.textValue();
+            case BOOLEAN:
+                return node.booleanValue();
+            case NUMBER:
+                return toNumber(node);
+            default:
+                return null;
+        }
+    }
+
+    private static Number toNumber(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            BigInteger value = node.bigIntegerValue();
+            if (value.bitLength() < 32) {
+                return value.intValue();
+            }
+            return value.bitLength() < 64 ? (Number) value.longValue() : value;
+        }
+        return toDecimal(node.doubleValue());
+    }
+
+    static Number toDecimal(double value) {
+        return Math.abs(value) <= Float.MAX_VALUE ? (Number) (float) value : value;
+    }
+
+    private static CompiledJsonPath parse(String expression) {
+        String path = expression == null ? "" : expression.trim();
+        if (path.equals("$")) {
+            path = "";
+        } else if (path.startsWith("$.")) {
+            path = path.substring(2);
+        }
+        List<Object> steps = new ArrayList<>();
+        int i = 0;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.' && i > 0 && i + 1 < path.length() && path.charAt(i + 1) != '.') {
+                i++;
+            } else if (c == '[') {
+                int close = path.indexOf(']', i);
+                Integer index = close > i ? parseIndex(path.substring(i + 1, close)) : null;
+                if (index == null) {
+                    return new CompiledJsonPath(expression, null, false);
+                }
+                steps.add(index);
+                i = close + 1;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int end = i + 1;
+                while (end < path.length() && (Character.isJavaIdentifierPart(path.charAt(end)) || path.charAt(end) == '-')) {
+                    end++;
+                }
+                steps.add(path.substring(i, end));
+                i = end;
+            } else {
+                return new CompiledJsonPath(expression, null, false);
+            }
+        }
+        return new CompiledJsonPath(expression, steps.toArray(), true);
+    }
+
+    private static Integer parseIndex(String text) {
+        try {
+            return Integer.valueOf(text.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.api.automation.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Buffers the response body as soon as it arrives so the underlying pooled
+ * connection is returned to the pool even if the caller never reads the body
+ * (e.g. tests that only check the status code).
+ */
+public class ConnectionReleaseFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+}
@@ -0,0 +1,55 @@
+package com.api.automation.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory for the executors used by the framework's concurrent runners
+ */
+public final class ExecutorFactory {
+
+    private ExecutorFactory() {
+    }
+
+    /**
+     * Create a virtual-thread-per-task executor when the runtime supports it (Java 21+).
+     * The build still targets Java 17, so it is looked up reflectively and falls back
+     * to a fixed pool of daemon platform threads.
+     * @param fallbackThreads pool size used when virtual threads are unavailable
+     * @param threadNamePrefix name prefix for fallback platform threads
+     * @return executor service
+     */
+    public static ExecutorService newVirtualThreadExecutor(int fallbackThreads, String threadNamePrefix) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return newFixedDaemonPool(fallbackThreads, threadNamePrefix);
+        }
+    }
+
+    /**
+     * Create a fixed pool of daemon platform threads named {@code <prefix>-N}
+     * @param threads pool size
+     * @param threadNamePrefix thread name prefix
+     * @return executor service
+     */
+    public static ExecutorService newFixedDaemonPool(int threads, String threadNamePrefix) {
+        return Executors.newFixedThreadPool(threads, daemonThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Create a thread factory for daemon threads named {@code <prefix>-N}
+     * @param threadNamePrefix thread name prefix
+     * @return thread factory
+     */
+    public static ThreadFactory daemonThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package com.api.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A JSON body parsed once and queried many times.
+ *
+ * Documents are cached by the identity of their source (a {@link Response} or a JSON string), so
+ * repeated assertions against the same response share one parse. Simple paths are evaluated with a
+ * {@link CompiledJsonPath}; anything else falls back to a REST Assured {@link JsonPath} that is
+ * also created once per document.
+ */
+public final class JsonDocument {
+    private static final int CACHE_SIZE = 16;
+    private static final Map<IdentityKey, JsonDocument> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<IdentityKey, JsonDocument> eldest) {
+            return size() > CACHE_SIZE || eldest.getKey().get() == null;
+        }
+    };
+    private static final AtomicLong parseCount = new AtomicLong();
+
+    private final String json;
+    private final JsonNode root;
+    private JsonPath fallback;
+
+    private JsonDocument(String json, JsonNode root) {
+        this.json = json;
+        this.root = root;
+    }
+
+    /**
+     * Get the parsed document for a response, parsing the body on first use
+     * @param response Response object
+     * @return cached JsonDocument
+     */
+    public static JsonDocument of(Response response) {
+        return of(response, () -> response.asString());
+    }
+
+    /**
+     * Get the parsed document for a JSON string, parsing it on first use
+     * @param json JSON string
+     * @return cached JsonDocument
+     */
+    public static JsonDocument of(String json) {
+        return of(json, () -> json);
+    }
+
+    /**
+     * Get the number of JSON bodies parsed since startup
+     * @return parse count
+     */
+    public static long getParseCount() {
+        return parseCount.get();
+    }
+
+    /**
+     * Drop all cached documents
+     */
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Get the value at a path
+     * @param path GPath expression
+     * @return value using REST Assured's JsonPath types, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String path) {
+        CompiledJsonPath compiled = CompiledJsonPath.compile(path);
+        if (compiled.isSupported()) {
+            return (T) compiled.evaluate(root);
+        }
+        return fallback().get(path);
+    }
+
+    /**
+     * Get the value at a path as a string
+     * @param path GPath expression
+     * @return string value, or null if absent
+     */
+    public String getString(String path) {
+        CompiledJsonPath compiled = CompiledJsonPath.compile(path);
+        if (compiled.isSupported()) {
+            Object value = compiled.evaluate(root);
+            // Containers are rendered in Groovy's format; leave that to REST Assured
+            if (!(value instanceof Map) && !(value instanceof List)) {
+                return value == null ? null : String.valueOf(value);
+            }
+        }
+        return fallback().getString(path);
+    }
+
+    /**
+     * Get the object at a path as a map
+     * @param path GPath expression
+     * @return map, or null if absent
+     */
+    public <K, V> Map<K, V> getMap(String path) {
+        return get(path);
+    }
+
+    /**
+     * Get the array at a path as a list
+     * @param path GPath expression
+     * @return list, or null if absent
+     */
+    public <T> List<T> getList(String path) {
+        return get(path);
+    }
+
+    /**
+     * Check whether the root object has a field, without materializing the document
+     * @param key field name
+     * @return true if the root is an object containing the field
+     */
+    public boolean has(String key) {
+        return root != null && root.has(key);
+    }
+
+    /**
+     * Get the raw JSON this document was parsed from
+     * @return JSON string
+     */
+    public String getJson() {
+        return json;
+    }
+
+    private synchronized JsonPath fallback() {
+        if (fallback == null) {
+            fallback = new JsonPath(json);
+        }
+        return fallback;
+    }
+
+    private static JsonDocument of(Object source, Supplier<String> body) {
+        IdentityKey key = new IdentityKey(source);
+        synchronized (cache) {
+            JsonDocument document = cache.get(key);
+            if (document != null) {
+                return document;
+            }
+        }
+        JsonDocument document = parse(body.get());
+        synchronized (cache) {
+            JsonDocument existing = cache.putIfAbsent(key, document);
+            return existing != null ? existing : document;
+        }
+    }
+
+    private static JsonDocument parse(String json) {
+        JsonNode root = JsonUtils.readTree(json);
+        parseCount.incrementAndGet();
+        return new JsonDocument(json, root);
+    }
+
+    /**
+     * Cache key comparing by identity without keeping the source reachable
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        IdentityKey(Object source) {
+            super(source);
+            this.hash = System.identityHashCode(source);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object source = get();
+            return source != null && source == ((IdentityKey) other).get();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.api.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of compiled JSON schemas loaded from the classpath.
+ *
+ * {@code JsonSchemaValidator.matchesJsonSchemaInClasspath(...)} reads and compiles the schema on
+ * every match. Here each schema ({@code schemas/<name>.json}) is loaded and compiled once, then
+ * shared: compiled schemas are immutable and safe to use from any thread.
+ */
+public class JsonSchemaRegistry {
+    private static final String SCHEMA_DIRECTORY = "schemas/";
+    private static final String ARRAY_SUFFIX = "[]";
+    private static JsonSchemaRegistry instance;
+
+    private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private final AtomicInteger compileCount = new AtomicInteger();
+
+    private JsonSchemaRegistry() {
+    }
+
+    public static synchronized JsonSchemaRegistry getInstance() {
+        if (instance == null) {
+            instance = new JsonSchemaRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the compiled schema, loading it on first use
+     * @param schemaName schema name, e.g. "post" for {@code schemas/post.json}
+     * @return compiled JsonSchema
+     */
+    public JsonSchema getSchema(String schemaName) {
+        return schemas.computeIfAbsent(schemaName, name -> compile(loadSchema(name)));
+    }
+
+    /**
+     * Get a compiled schema for an array whose every item matches the named schema
+     * @param schemaName item schema name
+     * @return compiled JsonSchema for the array
+     */
+    public JsonSchema getArraySchema(String schemaName) {
+        return schemas.computeIfAbsent(schemaName + ARRAY_SUFFIX, name -> {
+            ObjectNode arraySchema = JsonNodeFactory.instance.objectNode();
+            arraySchema.put("type", "array");
+            arraySchema.set("items", loadSchema(schemaName));
+            return compile(arraySchema);
+        });
+    }
+
+    /**
+     * Validate a response body against a schema
+     * @param response Response object
+     * @param schemaName schema name
+     * @return validation report
+     */
+    public ProcessingReport validate(Response response, String schemaName) {
+        return validate(JsonUtils.readTree(response.asString()), getSchema(schemaName));
+    }
+
+    /**
+     * Validate that a response body is an array whose items all match a schema
+     * @param response Response object
+     * @param schemaName item schema name
+     * @return validation report; message pointers include the item index, e.g. {@code /3/id}
+     */
+    public ProcessingReport validateEach(Response response, String schemaName) {
+        return validate(JsonUtils.readTree(response.asString()), getArraySchema(schemaName));
+    }
+
+    /**
+     * Validate a JSON document against a schema
+     * @param json JSON string
+     * @param schemaName schema name
+     * @return validation report
+     */
+    public ProcessingReport validate(String json, String schemaName) {
+        return validate(JsonUtils.readTree(json), getSchema(schemaName));
+    }
+
+    /**
+     * Get the number of schemas compiled since startup
+     * @return compile count
+     */
+    public int getCompileCount() {
+        return compileCount.get();
+    }
+
+    /**
+     * Drop all compiled schemas so they are reloaded on next use
+     */
+    public void clear() {
+        schemas.clear();
+    }
+
+    private ProcessingReport validate(JsonNode instance, JsonSchema schema) {
+        try {
+            return schema.validate(instance, true);
+        } catch (ProcessingException e) {
+            throw new RuntimeException("Failed to validate JSON against schema", e);
+        }
+    }
+
+    private JsonSchema compile(JsonNode schema) {
+        try {
+            JsonSchema compiled = factory.getJsonSchema(schema);
+            compileCount.incrementAndGet();
+            return compiled;
+        } catch (ProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON schema: " + e.getMessage(), e);
+        }
+    }
+
+    private static JsonNode loadSchema(String schemaName) {
+        String resource = SCHEMA_DIRECTORY + schemaName + ".json";
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + resource);
+            }
+            return JsonUtils.deserialize(in, JsonNode.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read schema: " + resource, e);
+        }
+    }
+}
@@ -1,38 +1,201 @@
 package com.api.automation.utils;
 
+import com.api.automation.models.ApiObject;
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.restassured.path.json.JsonPath;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * JSON utilities for parsing and manipulating JSON data
+ *
+ * Readers and writers are built once per type and reused, so repeated calls skip type
+ * resolution and serializer lookup. Output is compact by default; use
+ * {@link #serializePretty(Object)} for human-readable JSON.
  */
 public class JsonUtils {
-    private static final ObjectMapper objectMapper = new ObjectMapper()
-            .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    static {
+        for (Class<?> model : new Class<?>[] {User.class, Post.class, ApiObject.class,
+                User[].class, Post[].class, ApiObject[].class}) {
+            readerFor(model);
+            writerFor(model);
+        }
+    }
+
+    /**
+     * Get the cached reader for a type
+     * @param clazz target type
+     * @return ObjectReader bound to the type
+     */
+    public static ObjectReader readerFor(Class<?> clazz) {
+        return readers.computeIfAbsent(clazz, objectMapper::readerFor);
+    }
+
+    /**
+     * Get the cached compact writer for a type
+     * @param clazz source type
+     * @return ObjectWriter bound to the type
+     */
+    public static ObjectWriter writerFor(Class<?> clazz) {
+        return writers.computeIfAbsent(clazz, objectMapper::writerFor);
+    }
 
     public static <T> T deserialize(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return readerFor(clazz).readValue(json);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize JSON", e);
+        }
+    }
+
+    public static <T> T deserialize(byte[] json, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValue(json);
         } catch (Exception e) {
             throw new RuntimeException("Failed to deserialize JSON", e);
         }
     }
 
+    public static <T> T deserialize(InputStream json, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValue(json);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize JSON", e);
+        }
+    }
+
+    /**
+     * Parse JSON into a tree without binding it to a type
+     * @param json JSON string
+     * @return root node
+     */
+    public static JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse JSON", e);
+        }
+    }
+
+    /**
+     * Create a streaming parser over raw JSON bytes
+     * @param json JSON bytes
+     * @return JsonParser positioned before the first token
+     */
+    public static JsonParser createParser(byte[] json) {
+        try {
+            return objectMapper.createParser(json);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse JSON", e);
+        }
+    }
+
     public static String serialize(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            return writerForValue(object).writeValueAsString(object);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize object", e);
+        }
+    }
+
+    public static byte[] serializeToBytes(Object object) {
+        try {
+            return writerForValue(object).writeValueAsBytes(object);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize object", e);
+        }
+    }
+
+    public static void serialize(Object object, OutputStream out) {
+        try {
+            writerForValue(object).writeValue(out, object);
         } catch (Exception e) {
             throw new RuntimeException("Failed to serialize object", e);
         }
     }
 
+    public static String serializePretty(Object object) {
+        try {
+            return prettyWriter.writeValueAsString(object);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize object", e);
+        }
+    }
+
+    /**
+     * Iterate over the elements of a JSON array (or a sequence of root-level values) read
+     * incrementally from a stream, so only one element is held in memory at a time.
+     * Closing the iterator closes the input stream.
+     * @param json input stream positioned at the start of the JSON document
+     * @param clazz element type
+     * @return closeable iterator over the elements
+     */
+    public static <T> MappingIterator<T> iterate(InputStream json, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValues(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open JSON stream", e);
+        }
+    }
+
+    /**
+     * Stream the elements of a JSON array read incrementally from an input stream.
+     * The stream must be closed (e.g. with try-with-resources) to release the input stream
+     * if it is not consumed to the end.
+     * @param json input stream positioned at the start of the JSON document
+     * @param clazz element type
+     * @return sequential stream of elements
+     */
+    public static <T> Stream<T> stream(InputStream json, Class<T> clazz) {
+        MappingIterator<T> iterator = iterate(json, clazz);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to close JSON stream", e);
+                    }
+                });
+    }
+
+    private static ObjectWriter writerForValue(Object object) {
+        return object == null ? objectMapper.writer() : writerFor(object.getClass());
+    }
+
     public static JsonPath parseJson(String json) {
         return new JsonPath(json);
     }
 
+    /**
+     * Get a value from JSON as a string. The JSON is parsed once per string instance,
+     * so repeated lookups on the same body reuse the parsed document.
+     * @param json JSON string
+     * @param path GPath expression
+     * @return string value, or null if absent
+     */
     public static String getValueFromJson(String json, String path) {
-        JsonPath jsonPath = new JsonPath(json);
-        return jsonPath.getString(path);
+        return JsonDocument.of(json).getString(path);
     }
 }
@@ -0,0 +1,134 @@
+package com.api.automation.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of idempotent requests: while a request for a key is in flight, other
+ * callers with the same key wait for it instead of sending their own, and each gets a copy of its
+ * response (or its exception). Once the request completes the key is free again, so this never
+ * serves stale data; it only merges calls that overlap in time.
+ *
+ * Counters are kept per group (e.g. a service's base path) and in total.
+ */
+public class RequestCoalescer {
+    private static final RequestCoalescer INSTANCE = new RequestCoalescer();
+
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> countersByGroup = new ConcurrentHashMap<>();
+
+    /**
+     * Get singleton instance of RequestCoalescer
+     * @return RequestCoalescer instance
+     */
+    public static RequestCoalescer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Run the request, or wait for an identical one that is already in flight
+     * @param group counter group, e.g. /users
+     * @param key identity of the request, e.g. "GET https://host/users/1"
+     * @param request blocking request to run if none is in flight for the key
+     * @return the response; callers that waited receive a copy sharing the buffered body
+     */
+    public Response execute(String group, String key, Supplier<Response> request) {
+        Counters counters = countersByGroup.computeIfAbsent(group, g -> new Counters());
+        CompletableFuture<Response> mine = new CompletableFuture<>();
+        CompletableFuture<Response> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            counters.coalesced.increment();
+            return copyOf(await(existing));
+        }
+
+        counters.executions.increment();
+        try {
+            Response response = request.get();
+            response.asByteArray();
+            mine.complete(response);
+            return response;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Get counters over all groups
+     * @return coalescing statistics
+     */
+    public CoalescingStats getStats() {
+        long executions = 0;
+        long coalesced = 0;
+        for (Counters counters : countersByGroup.values()) {
+            executions += counters.executions.sum();
+            coalesced += counters.coalesced.sum();
+        }
+        return new CoalescingStats(executions, coalesced);
+    }
+
+    /**
+     * Get counters for one group
+     * @param group counter group, e.g. /users
+     * @return coalescing statistics, all zero if the group has not been used
+     */
+    public CoalescingStats getStats(String group) {
+        Counters counters = countersByGroup.get(group);
+        return counters == null
+                ? new CoalescingStats(0, 0)
+                : new CoalescingStats(counters.executions.sum(), counters.coalesced.sum());
+    }
+
+    /**
+     * Get coalescing summary
+     * @return string summary with one line per group
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Request Coalescing Summary ===\n");
+        new TreeMap<>(countersByGroup).forEach((group, counters) -> sb.append("  ").append(group).append(": ")
+                .append(new CoalescingStats(counters.executions.sum(), counters.coalesced.sum())).append("\n"));
+        return sb.toString();
+    }
+
+    /**
+     * Reset all counters
+     */
+    public void reset() {
+        countersByGroup.clear();
+    }
+
+    private static Response await(CompletableFuture<Response> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Response copyOf(Response response) {
+        return new ResponseBuilder().clone(response).build();
+    }
+
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+    }
+}
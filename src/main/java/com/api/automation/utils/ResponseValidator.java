@@ -0,0 +1,263 @@
+package com.api.automation.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.testng.asserts.SoftAssert;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Declarative set of field rules checked in a single streaming pass over a JSON body.
+ *
+ * When the body is an object the rules apply to it; when it is an array they apply to every
+ * element, replacing chains like {@code body("id", everyItem(notNullValue())).body("name", ...)}
+ * that walk the document once per matcher. Paths are relative to the object, e.g. {@code id},
+ * {@code data.price}, {@code data.'CPU model'} or {@code tags[0]}. Subtrees no rule refers to are
+ * skipped without being materialized. Every failing rule is reported, not just the first.
+ *
+ * <pre>
+ * ResponseValidator.rules()
+ *         .size(greaterThan(0))
+ *         .notNull("id")
+ *         .field("name", not(emptyString()))
+ *         .validate(response, softAssert);
+ * </pre>
+ */
+public class ResponseValidator {
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, List<Rule>> rulesByPath = new HashMap<>();
+    private final Set<String> parentPaths = new HashSet<>();
+    private Matcher<? super Integer> sizeMatcher;
+
+    /**
+     * Start an empty rule set
+     * @return ResponseValidator
+     */
+    public static ResponseValidator rules() {
+        return new ResponseValidator();
+    }
+
+    /**
+     * Add a rule for a field. A missing field is matched as null.
+     * @param path dotted path relative to the body, or to each element of an array body
+     * @param matcher Hamcrest matcher for the field value
+     * @return this validator
+     */
+    public ResponseValidator field(String path, Matcher<?> matcher) {
+        Rule rule = new Rule(path, matcher);
+        rules.add(rule);
+        rulesByPath.computeIfAbsent(rule.path, key -> new ArrayList<>()).add(rule);
+        for (int i = 1; i < rule.path.length(); i++) {
+            char c = rule.path.charAt(i);
+            if (c == '.' || c == '[') {
+                parentPaths.add(rule.path.substring(0, i));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Add a rule that a field is present and not null
+     * @param path dotted field path
+     * @return this validator
+     */
+    public ResponseValidator notNull(String path) {
+        return field(path, notNullValue());
+    }
+
+    /**
+     * Add a rule on the number of elements of an array body
+     * @param matcher Hamcrest matcher for the element count
+     * @return this validator
+     */
+    public ResponseValidator size(Matcher<? super Integer> matcher) {
+        this.sizeMatcher = matcher;
+        return this;
+    }
+
+    /**
+     * Validate a response body and report every failure into a soft assert
+     * @param response Response object
+     * @param softAssert SoftAssert collecting the failures
+     * @return number of failures reported
+     */
+    public int validate(Response response, SoftAssert softAssert) {
+        List<String> failures = validate(response.asByteArray());
+        for (String failure : failures) {
+            softAssert.fail(failure);
+        }
+        return failures.size();
+    }
+
+    /**
+     * Validate a JSON body
+     * @param json JSON bytes
+     * @return failure messages, empty if every rule matched
+     */
+    public List<String> validate(byte[] json) {
+        List<String> failures = new ArrayList<>();
+        try (JsonParser parser = JsonUtils.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                int count = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    validateElement(parser, "[" + count + "].", failures);
+                    count++;
+                }
+                if (sizeMatcher != null && !sizeMatcher.matches(count)) {
+                    failures.add(failure("size()", sizeMatcher, count));
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                validateElement(parser, "", failures);
+                if (sizeMatcher != null) {
+                    failures.add("size() expected an array body but was an object");
+                }
+            } else {
+                failures.add("Body expected a JSON object or array but was " + token);
+            }
+        } catch (IOException | RuntimeException e) {
+            failures.add("Body could not be parsed: " + e.getMessage());
+        }
+        return failures;
+    }
+
+    private void validateElement(JsonParser parser, String label, List<String> failures) throws IOException {
+        Map<Rule, Object> values = new HashMap<>();
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            walkObject(parser, "", values);
+        } else {
+            parser.skipChildren();
+        }
+        for (Rule rule : rules) {
+            Object value = values.get(rule);
+            if (!rule.matcher.matches(value)) {
+                failures.add(failure(label + rule.expression, rule.matcher, value));
+            }
+        }
+    }
+
+    private void walkObject(JsonParser parser, String prefix, Map<Rule, Object> values) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String path = prefix + parser.currentName();
+            JsonToken token = parser.nextToken();
+            List<Rule> targeted = rulesByPath.get(path);
+            boolean parent = parentPaths.contains(path);
+            if (token.isScalarValue()) {
+                if (targeted != null) {
+                    Object value = scalarValue(parser, token);
+                    for (Rule rule : targeted) {
+                        values.put(rule, value);
+                    }
+                }
+            } else if (targeted == null && parent && token == JsonToken.START_OBJECT) {
+                walkObject(parser, path + ".", values);
+            } else if (targeted != null || parent) {
+                // A rule needs this container as a value, or projects through an array
+                JsonNode subtree = parser.readValueAsTree();
+                collectFromSubtree(path, subtree, values);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void collectFromSubtree(String path, JsonNode subtree, Map<Rule, Object> values) {
+        for (Rule rule : rules) {
+            if (rule.path.equals(path)) {
+                values.put(rule, CompiledJsonPath.toJava(subtree));
+            } else if (rule.isBelow(path)) {
+                values.put(rule, rule.valueBelow(path, subtree));
+            }
+        }
+    }
+
+    private static Object scalarValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        return parser.getBigIntegerValue();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return CompiledJsonPath.toDecimal(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static String failure(String location, Matcher<?> matcher, Object value) {
+        Description description = new StringDescription()
+                .appendText(location)
+                .appendText(" expected ")
+                .appendDescriptionOf(matcher)
+                .appendText(" but ");
+        matcher.describeMismatch(value, description);
+        return description.toString();
+    }
+
+    /**
+     * A path and the matcher its value must satisfy. Quoted segments are stored unquoted,
+     * so {@code data.'CPU model'} is matched against the field name {@code CPU model}.
+     */
+    private static final class Rule {
+        private final String expression;
+        private final String path;
+        private final Matcher<?> matcher;
+
+        Rule(String expression, Matcher<?> matcher) {
+            if (expression == null || expression.isEmpty()) {
+                throw new IllegalArgumentException("Rule path must not be empty");
+            }
+            this.expression = expression;
+            this.path = expression.replace("'", "");
+            this.matcher = matcher;
+        }
+
+        boolean isBelow(String parent) {
+            if (path.length() <= parent.length() || !path.startsWith(parent)) {
+                return false;
+            }
+            char next = path.charAt(parent.length());
+            return next == '.' || next == '[';
+        }
+
+        Object valueBelow(String parent, JsonNode subtree) {
+            String relative = path.substring(parent.length());
+            if (relative.charAt(0) == '.') {
+                relative = relative.substring(1);
+            }
+            CompiledJsonPath compiled = CompiledJsonPath.compile(relative);
+            if (compiled.isSupported()) {
+                return compiled.evaluate(subtree);
+            }
+            JsonNode node = subtree;
+            for (String segment : relative.split("\\.")) {
+                node = node == null ? null : node.get(segment);
+            }
+            return node == null ? null : CompiledJsonPath.toJava(node);
+        }
+    }
+}
@@ -3,30 +3,86 @@ package com.api.automation.utils;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import com.api.automation.cache.ResponseCacheFilter;
+import com.api.automation.capture.RecordingFilter;
 import com.api.automation.config.ConfigManager;
+import com.api.automation.config.LoggingMode;
+import com.api.automation.metrics.LatencyRecordingFilter;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * REST Client utility to configure REST Assured specifications
+ *
+ * The connection pool, async executor and request specs are built from the configuration on first
+ * use and dropped on every {@link ConfigManager#reload()}, so the next request picks up the new
+ * settings.
  */
 public class RestClient {
-    private static RequestSpecification requestSpec;
+    private static final Map<String, RequestSpecification> requestSpecsByBaseUri = new ConcurrentHashMap<>();
     private static ResponseSpecification responseSpec;
 
+    // REST Assured 5 still takes an HttpClient 4 client factory, so the pool uses the deprecated 4.x classes
+    @SuppressWarnings("deprecation")
+    private static PoolingClientConnectionManager connectionManager;
+    private static ScheduledExecutorService idleConnectionEvictor;
+    private static RestAssuredConfig pooledConfig;
+    private static RequestSpecification pooledTransportSpec;
+
+    private static ExecutorService asyncExecutor;
+    private static Semaphore asyncPermits;
+
+    static {
+        ConfigManager.getInstance().addReloadListener(snapshot -> {
+            shutdownConnectionPool();
+            shutdownAsyncExecutor();
+        });
+    }
+
+    /**
+     * Get the request spec for the configured {@code base.uri}
+     * @return shared RequestSpecification
+     */
     public static RequestSpecification getRequestSpec() {
-        if (requestSpec == null) {
-            requestSpec = new RequestSpecBuilder()
-                    .setBaseUri(ConfigManager.getInstance().getBaseUri())
-                    .setContentType(ContentType.JSON)
-                    .addFilter(new RequestLoggingFilter())
-                    .addFilter(new ResponseLoggingFilter())
-                    .build();
+        return getRequestSpec(ConfigManager.getInstance().getBaseUri());
+    }
+
+    /**
+     * Get the request spec for a base URI: pooled transport filters, JSON content type and the
+     * base URI. One spec is built per base URI and shared afterwards, so a request only pays for
+     * merging it into {@code given()}. Callers must not modify the returned spec.
+     * @param baseUri scheme, host and port, e.g. https://api.restful-api.dev
+     * @return shared RequestSpecification
+     */
+    public static RequestSpecification getRequestSpec(String baseUri) {
+        RequestSpecification spec = requestSpecsByBaseUri.get(baseUri);
+        if (spec == null) {
+            spec = requestSpecsByBaseUri.computeIfAbsent(baseUri, uri -> addTransportFilters(new RequestSpecBuilder()
+                    .setConfig(getPooledConfig())
+                    .setBaseUri(uri)
+                    .setContentType(ContentType.JSON))
+                    .build());
         }
-        return requestSpec;
+        return spec;
     }
 
     public static ResponseSpecification getResponseSpec() {
@@ -38,9 +94,185 @@ public class RestClient {
         return responseSpec;
     }
 
+    /**
+     * Get the REST Assured config backed by the shared keep-alive connection pool.
+     * Every request issued with this config reuses pooled connections instead of
+     * opening a new TCP/TLS connection per call.
+     * @return pooled RestAssuredConfig
+     */
+    @SuppressWarnings("deprecation")
+    public static synchronized RestAssuredConfig getPooledConfig() {
+        if (pooledConfig == null) {
+            ConfigManager config = ConfigManager.getInstance();
+            connectionManager = new PoolingClientConnectionManager(
+                    SchemeRegistryFactory.createSystemDefault(),
+                    config.getHttpPoolKeepAliveMs(), TimeUnit.MILLISECONDS);
+            connectionManager.setMaxTotal(config.getHttpPoolMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(config.getHttpPoolMaxPerRoute());
+
+            DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+            httpClient.setKeepAliveStrategy(keepAliveStrategy(config.getHttpPoolKeepAliveMs()));
+
+            idleConnectionEvictor = startIdleConnectionEvictor(connectionManager, config.getHttpPoolIdleTimeoutMs());
+            pooledConfig = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                    .reuseHttpClientInstance()
+                    .httpClientFactory(() -> httpClient));
+        }
+        return pooledConfig;
+    }
+
+    /**
+     * Get the maximum number of connections of the current pool, creating the pool if needed
+     * @return the pool's maximum total connections
+     */
+    @SuppressWarnings("deprecation")
+    public static synchronized int getPoolMaxTotal() {
+        getPooledConfig();
+        return connectionManager.getMaxTotal();
+    }
+
+    /**
+     * Get a minimal spec carrying only the pooled transport: the pooled config, request/response
+     * logging per {@code logging.mode}, the GET response cache if {@code http.cache.enabled},
+     * traffic capture to {@code capture.file}, per-endpoint
+     * latency recording and a filter that releases each connection back to the pool once the
+     * response arrives.
+     * Use this when a request cannot be built from {@link #getRequestSpec()}.
+     * @return pooled transport RequestSpecification
+     */
+    public static synchronized RequestSpecification getPooledTransportSpec() {
+        if (pooledTransportSpec == null) {
+            pooledTransportSpec = addTransportFilters(new RequestSpecBuilder()
+                    .setConfig(getPooledConfig()))
+                    .build();
+        }
+        return pooledTransportSpec;
+    }
+
+    /**
+     * Remove the filters that read the whole response body (connection release,
+     * request/response logging, response caching and traffic capture) so the body can be consumed
+     * as a stream. The pooled
+     * connection is released once the body stream is read to the end or closed.
+     * @param spec request specification that already carries the transport filters
+     * @return the same specification, for chaining
+     */
+    public static RequestSpecification withoutBodyBuffering(RequestSpecification spec) {
+        return spec.noFiltersOfType(ConnectionReleaseFilter.class)
+                .noFiltersOfType(AsyncLoggingFilter.class)
+                .noFiltersOfType(ResponseCacheFilter.class)
+                .noFiltersOfType(RecordingFilter.class);
+    }
+
+    /**
+     * Close all pooled connections and stop idle eviction, dropping the pooled config and every
+     * spec built on it. The pool is recreated with current configuration on next use.
+     */
+    public static synchronized void shutdownConnectionPool() {
+        if (idleConnectionEvictor != null) {
+            idleConnectionEvictor.shutdownNow();
+            idleConnectionEvictor = null;
+        }
+        if (connectionManager != null) {
+            connectionManager.shutdown();
+            connectionManager = null;
+        }
+        pooledConfig = null;
+        pooledTransportSpec = null;
+        requestSpecsByBaseUri.clear();
+    }
+
+    /**
+     * Execute a request asynchronously on the shared async executor.
+     * At most {@code async.max.concurrency} requests run at once; the rest wait for a permit
+     * on their own (virtual) thread, so callers can fan out freely without exhausting threads.
+     * @param request blocking request to run, e.g. {@code () -> userService.getUserById(1)}
+     * @return future completed with the request's result
+     */
+    public static <T> CompletableFuture<T> executeAsync(Supplier<T> request) {
+        ExecutorService executor;
+        Semaphore permits;
+        synchronized (RestClient.class) {
+            if (asyncExecutor == null) {
+                int maxConcurrency = ConfigManager.getInstance().getAsyncMaxConcurrency();
+                asyncPermits = new Semaphore(maxConcurrency);
+                asyncExecutor = ExecutorFactory.newVirtualThreadExecutor(maxConcurrency, "rest-client-async");
+            }
+            executor = asyncExecutor;
+            permits = asyncPermits;
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return request.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Stop the async executor. It is recreated with current configuration on next use.
+     */
+    public static synchronized void shutdownAsyncExecutor() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+            asyncExecutor = null;
+            asyncPermits = null;
+        }
+    }
+
     public static void resetSpecs() {
-        requestSpec = null;
+        requestSpecsByBaseUri.clear();
         responseSpec = null;
         RestAssured.reset();
     }
+
+    /**
+     * Filters run in the order added: logging and capture stay outermost so latency timing
+     * covers only the exchange itself, including the body read by the release filter. The cache
+     * sits outside capture and latency recording, so responses served from it reach neither.
+     */
+    private static RequestSpecBuilder addTransportFilters(RequestSpecBuilder builder) {
+        if (ConfigManager.getInstance().getLoggingMode() != LoggingMode.OFF) {
+            builder.addFilter(new AsyncLoggingFilter());
+        }
+        if (ConfigManager.getInstance().isHttpCacheEnabled()) {
+            builder.addFilter(new ResponseCacheFilter());
+        }
+        if (ConfigManager.getInstance().getCaptureFile() != null) {
+            builder.addFilter(new RecordingFilter());
+        }
+        return builder
+                .addFilter(new LatencyRecordingFilter())
+                .addFilter(new ConnectionReleaseFilter());
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long maxKeepAliveMs) {
+        return (response, context) -> {
+            long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return advertised > 0 ? Math.min(advertised, maxKeepAliveMs) : maxKeepAliveMs;
+        };
+    }
+
+    @SuppressWarnings("deprecation")
+    private static ScheduledExecutorService startIdleConnectionEvictor(PoolingClientConnectionManager manager,
+                                                                        long idleTimeoutMs) {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-idle-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1_000L, idleTimeoutMs / 2);
+        evictor.scheduleAtFixedRate(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS);
+        }, period, period, TimeUnit.MILLISECONDS);
+        return evictor;
+    }
 }
@@ -0,0 +1,210 @@
+package com.api.automation.workflow;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers listener events on background threads so slow listeners do not add to workflow latency.
+ *
+ * Events are partitioned by workflow ID over a fixed number of lanes. Each lane is a bounded
+ * ring buffer drained by a single consumer thread, so all events of one workflow are delivered
+ * in order while different workflows are delivered concurrently. A full lane is handled
+ * according to the {@link ListenerOverflowPolicy}. Pending events are flushed on shutdown,
+ * including JVM shutdown.
+ */
+class AsyncListenerDispatcher {
+    private static final Logger LOGGER = Logger.getLogger(AsyncListenerDispatcher.class.getName());
+    private static final Runnable STOP = () -> { };
+    private static final long OFFER_SLICE_MS = 10L;
+
+    private final BlockingQueue<Runnable>[] lanes;
+    private final Thread[] consumers;
+    private final AtomicLong[] overflowCounts;
+    private final ListenerOverflowPolicy overflowPolicy;
+    private final int sampleInterval;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread shutdownHook;
+    // dispatch holds the read lock from the accepting check to each offer, stop takes the write
+    // lock to close, so no event can be queued behind the STOP sentinel. A dispatch waiting on a
+    // full lane offers in short slices and releases the lock between them, so stop is never held up
+    private final ReentrantReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting = true;
+
+    @SuppressWarnings("unchecked")
+    AsyncListenerDispatcher(int consumerCount, int laneCapacity, ListenerOverflowPolicy overflowPolicy, int sampleInterval) {
+        if (consumerCount <= 0 || laneCapacity <= 0) {
+            throw new IllegalArgumentException("consumerCount and laneCapacity must be positive");
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.sampleInterval = Math.max(1, sampleInterval);
+        this.lanes = new BlockingQueue[consumerCount];
+        this.consumers = new Thread[consumerCount];
+        this.overflowCounts = new AtomicLong[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            BlockingQueue<Runnable> lane = new ArrayBlockingQueue<>(laneCapacity);
+            lanes[i] = lane;
+            overflowCounts[i] = new AtomicLong();
+            consumers[i] = new Thread(() -> consume(lane), "workflow-listener-" + (i + 1));
+            consumers[i].setDaemon(true);
+            consumers[i].start();
+        }
+        this.shutdownHook = new Thread(() -> stop(5_000L), "workflow-listener-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Queue an event for delivery
+     * @param workflowId workflow the event belongs to; events of the same workflow keep their order
+     * @param event delivery of the event to all listeners
+     * @return true if queued, false if dropped; a full lane drops the event without waiting when
+     *         called from a listener, whatever the overflow policy
+     */
+    boolean dispatch(String workflowId, Runnable event) {
+        int index = (workflowId.hashCode() & Integer.MAX_VALUE) % lanes.length;
+        BlockingQueue<Runnable> lane = lanes[index];
+        pending.incrementAndGet();
+        boolean waiting = false;
+        while (true) {
+            Lock lock = acceptLock.readLock();
+            lock.lock();
+            try {
+                if (!accepting) {
+                    break;
+                }
+                if (waiting ? lane.offer(event, OFFER_SLICE_MS, TimeUnit.MILLISECONDS) : lane.offer(event)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                lock.unlock();
+            }
+            if (!waiting && !waitForSpace(index)) {
+                break;
+            }
+            waiting = true;
+        }
+        pending.decrementAndGet();
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Wait until every queued event has been delivered
+     * @param timeoutMs maximum time to wait in milliseconds
+     * @return true if all events were delivered in time
+     */
+    boolean flush(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop accepting events, deliver the ones already queued and stop the consumer threads
+     * @param timeoutMs maximum time to wait for queued events in milliseconds
+     * @return true if all queued events were delivered in time
+     */
+    boolean shutdown(long timeoutMs) {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM is already shutting down, the hook performs the flush
+        }
+        return stop(timeoutMs);
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Decide whether a dispatch that found its lane full waits for space or drops the event.
+     * A consumer thread never waits: the consumer it would wait for may be itself, or another
+     * consumer waiting on this one's lane.
+     */
+    private boolean waitForSpace(int index) {
+        Thread current = Thread.currentThread();
+        for (Thread consumer : consumers) {
+            if (consumer == current) {
+                return false;
+            }
+        }
+        return overflowPolicy == ListenerOverflowPolicy.BLOCK
+                || (overflowPolicy == ListenerOverflowPolicy.SAMPLE
+                && overflowCounts[index].incrementAndGet() % sampleInterval == 0);
+    }
+
+    private boolean stop(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        boolean flushed = close(timeoutMs)
+                && flush(Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        for (BlockingQueue<Runnable> lane : lanes) {
+            lane.offer(STOP);
+        }
+        if (!flushed) {
+            for (Thread consumer : consumers) {
+                consumer.interrupt();
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * Stop accepting events once no dispatch is between its accepting check and its offer
+     * @return false if the lock could not be taken within the timeout
+     */
+    private boolean close(long timeoutMs) {
+        Lock lock = acceptLock.writeLock();
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        accepting = false;
+        if (locked) {
+            lock.unlock();
+        }
+        return locked;
+    }
+
+    private void consume(BlockingQueue<Runnable> lane) {
+        while (true) {
+            Runnable event;
+            try {
+                event = lane.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == STOP) {
+                return;
+            }
+            try {
+                event.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Workflow listener failed", e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.api.automation.workflow;
+
+/**
+ * What asynchronous listener dispatch does when its event queue is full
+ */
+public enum ListenerOverflowPolicy {
+    /** Wait for space; no event is lost but the executing workflow is slowed down. Events raised from a listener are discarded instead */
+    BLOCK,
+    /** Discard the event */
+    DROP,
+    /** Wait for space for one overflowing event in every sample interval and discard the rest */
+    SAMPLE;
+
+    /**
+     * Parse a policy name, ignoring case and surrounding whitespace
+     * @param value policy name, e.g. "drop"
+     * @return ListenerOverflowPolicy
+     */
+    public static ListenerOverflowPolicy fromString(String value) {
+        for (ListenerOverflowPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(value.trim())) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown listener overflow policy '" + value + "', expected one of block, drop, sample");
+    }
+}
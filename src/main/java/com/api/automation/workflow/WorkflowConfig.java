@@ -1,9 +1,14 @@
 package com.api.automation.workflow;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Configuration wrapper for a workflow including enabled state and metadata
@@ -12,10 +17,15 @@ import java.util.Map;
 @Setter
 public class WorkflowConfig {
     private final Workflow workflow;
-    private boolean enabled;
-    private int priority;
-    private Map<String, Object> metadata;
-    private WorkflowStatus status;
+    private volatile boolean enabled;
+    private volatile int priority;
+    @Setter(AccessLevel.NONE)
+    private volatile Map<String, Object> metadata;
+    private volatile WorkflowStatus status;
+    private final Set<String> dependencies;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Runnable changeListener;
     
     public WorkflowConfig(Workflow workflow) {
         this(workflow, true, 0);
@@ -25,16 +35,96 @@ public class WorkflowConfig {
         this.workflow = workflow;
         this.enabled = enabled;
         this.priority = priority;
-        this.metadata = new HashMap<>();
+        this.metadata = new ConcurrentHashMap<>();
         this.status = WorkflowStatus.PENDING;
+        this.dependencies = new CopyOnWriteArraySet<>();
     }
     
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        fireChanged();
+    }
+    
+    public void setPriority(int priority) {
+        this.priority = priority;
+        fireChanged();
+    }
+    
+    /**
+     * Declare workflows that must complete successfully before this one may run.
+     * Dependencies are fixed at registration, where cycles are detected; to change them,
+     * unregister the workflow and register it again.
+     * @param workflowIds IDs of the upstream workflows
+     * @return this configuration
+     * @throws IllegalStateException if the workflow is already registered
+     */
+    public WorkflowConfig dependsOn(String... workflowIds) {
+        if (changeListener != null) {
+            throw new IllegalStateException("Workflow with ID '" + getWorkflowId()
+                    + "' is registered; dependencies can only be declared before registration");
+        }
+        dependencies.addAll(Arrays.asList(workflowIds));
+        return this;
+    }
+    
+    public Set<String> getDependencies() {
+        return Collections.unmodifiableSet(dependencies);
+    }
+    
+    /**
+     * Replace the metadata with a concurrent copy of the given map
+     * @param metadata metadata entries; entries with a null key or value are left out
+     */
+    public void setMetadata(Map<String, Object> metadata) {
+        Map<String, Object> copy = new ConcurrentHashMap<>();
+        metadata.forEach((key, value) -> {
+            if (key != null && value != null) {
+                copy.put(key, value);
+            }
+        });
+        this.metadata = copy;
+    }
+    
+    /**
+     * Get a metadata value
+     * @param key metadata key
+     * @return the value, or null if the key is null or not set
+     */
     public Object getMetadataValue(String key) {
-        return metadata.get(key);
+        return key != null ? metadata.get(key) : null;
     }
     
+    /**
+     * Set a metadata value
+     * @param key metadata key
+     * @param value the value; null removes the key
+     * @throws IllegalArgumentException if the key is null
+     */
     public void setMetadataValue(String key, Object value) {
-        metadata.put(key, value);
+        if (key == null) {
+            throw new IllegalArgumentException("Metadata key must not be null");
+        }
+        if (value == null) {
+            metadata.remove(key);
+        } else {
+            metadata.put(key, value);
+        }
+    }
+    
+    /**
+     * Set the callback invoked when a change affects scheduling (enabled flag or priority).
+     * Used by {@link WorkflowManager} to invalidate its cached enabled-workflow snapshot.
+     * @param changeListener callback, or null to remove it
+     */
+    void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+    
+    private void fireChanged() {
+        Runnable listener = changeListener;
+        if (listener != null) {
+            listener.run();
+        }
     }
     
     public String getWorkflowId() {
@@ -0,0 +1,167 @@
+package com.api.automation.workflow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded store of workflow execution results.
+ *
+ * Results live in a fixed-size ring buffer, so appending is O(1) and never copies.
+ * Each workflow keeps its own queue of sequence numbers into the ring, so a per-workflow
+ * query only touches that workflow's results. The oldest results are evicted once the
+ * store holds {@code maxEntries} results or a result is older than {@code maxAgeMs}.
+ */
+public class WorkflowExecutionHistory {
+    private final int maxEntries;
+    private final long maxAgeMs;
+    private final WorkflowExecutionResult[] results;
+    private final long[] appendTimes;
+    private final Map<String, SequenceQueue> sequencesByWorkflow = new HashMap<>();
+    private long headSequence;
+    private long tailSequence;
+
+    /**
+     * @param maxEntries maximum number of results kept
+     * @param maxAgeMs maximum age of a kept result in milliseconds; 0 keeps results regardless of age
+     */
+    public WorkflowExecutionHistory(int maxEntries, long maxAgeMs) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, got " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.maxAgeMs = maxAgeMs;
+        this.results = new WorkflowExecutionResult[maxEntries];
+        this.appendTimes = new long[maxEntries];
+    }
+
+    /**
+     * Append a result, evicting the oldest one if the store is full
+     * @param result the execution result
+     */
+    public synchronized void add(WorkflowExecutionResult result) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+        if (tailSequence - headSequence == maxEntries) {
+            evictOldest();
+        }
+        int slot = slot(tailSequence);
+        results[slot] = result;
+        appendTimes[slot] = now;
+        sequencesByWorkflow.computeIfAbsent(result.getWorkflowId(), id -> new SequenceQueue()).add(tailSequence);
+        tailSequence++;
+    }
+
+    /**
+     * Get all retained results
+     * @return results, oldest first
+     */
+    public synchronized List<WorkflowExecutionResult> getAll() {
+        evictExpired(System.currentTimeMillis());
+        List<WorkflowExecutionResult> all = new ArrayList<>((int) (tailSequence - headSequence));
+        for (long sequence = headSequence; sequence < tailSequence; sequence++) {
+            all.add(results[slot(sequence)]);
+        }
+        return all;
+    }
+
+    /**
+     * Get retained results of one workflow
+     * @param workflowId the ID of the workflow
+     * @return results of the workflow, oldest first
+     */
+    public synchronized List<WorkflowExecutionResult> getForWorkflow(String workflowId) {
+        evictExpired(System.currentTimeMillis());
+        SequenceQueue sequences = sequencesByWorkflow.get(workflowId);
+        if (sequences == null) {
+            return Collections.emptyList();
+        }
+        List<WorkflowExecutionResult> workflowResults = new ArrayList<>(sequences.size());
+        for (int i = 0; i < sequences.size(); i++) {
+            workflowResults.add(results[slot(sequences.get(i))]);
+        }
+        return workflowResults;
+    }
+
+    /**
+     * Get number of retained results
+     * @return count of results
+     */
+    public synchronized int size() {
+        evictExpired(System.currentTimeMillis());
+        return (int) (tailSequence - headSequence);
+    }
+
+    /**
+     * Remove all results
+     */
+    public synchronized void clear() {
+        while (headSequence < tailSequence) {
+            results[slot(headSequence++)] = null;
+        }
+        sequencesByWorkflow.clear();
+    }
+
+    private void evictExpired(long now) {
+        if (maxAgeMs <= 0) {
+            return;
+        }
+        long cutoff = now - maxAgeMs;
+        while (headSequence < tailSequence && appendTimes[slot(headSequence)] < cutoff) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        int slot = slot(headSequence);
+        String workflowId = results[slot].getWorkflowId();
+        SequenceQueue sequences = sequencesByWorkflow.get(workflowId);
+        sequences.removeFirst();
+        if (sequences.size() == 0) {
+            sequencesByWorkflow.remove(workflowId);
+        }
+        results[slot] = null;
+        headSequence++;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % maxEntries);
+    }
+
+    /**
+     * Growable circular queue of primitive sequence numbers, so indexing does not box
+     */
+    private static final class SequenceQueue {
+        private long[] elements = new long[8];
+        private int head;
+        private int size;
+
+        void add(long sequence) {
+            if (size == elements.length) {
+                long[] grown = new long[elements.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = get(i);
+                }
+                elements = grown;
+                head = 0;
+            }
+            elements[(head + size) % elements.length] = sequence;
+            size++;
+        }
+
+        long get(int index) {
+            return elements[(head + index) % elements.length];
+        }
+
+        void removeFirst() {
+            head = (head + 1) % elements.length;
+            size--;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -1,9 +1,24 @@
 package com.api.automation.workflow;
 
+import com.api.automation.config.ConfigManager;
+import com.api.automation.utils.ExecutorFactory;
 import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
@@ -11,21 +26,36 @@ import java.util.stream.Collectors;
  * Provides centralized control for workflow registration, execution, and status tracking
  */
 public class WorkflowManager {
+    private static final Logger LOGGER = Logger.getLogger(WorkflowManager.class.getName());
     private static final WorkflowManager INSTANCE = new WorkflowManager();
     
-    @Getter
     private final Map<String, WorkflowConfig> workflows;
-    @Getter
-    private final List<WorkflowExecutionResult> executionHistory;
+    private final Object registryLock = new Object();
+    private volatile List<WorkflowConfig> registrationOrder = Collections.emptyList();
+    private final AtomicLong registryVersion = new AtomicLong();
+    private final Runnable registryChanged = registryVersion::incrementAndGet;
+    private volatile EnabledSnapshot enabledSnapshot = new EnabledSnapshot(-1, Collections.emptyList());
+    private final WorkflowExecutionHistory executionHistory;
     @Getter
     private final List<WorkflowListener> listeners;
+    private volatile AsyncListenerDispatcher listenerDispatcher;
     private volatile boolean running;
     
     private WorkflowManager() {
-        this.workflows = new LinkedHashMap<>();
-        this.executionHistory = new CopyOnWriteArrayList<>();
+        this.workflows = new ConcurrentHashMap<>();
+        this.executionHistory = new WorkflowExecutionHistory(
+                ConfigManager.getInstance().getWorkflowHistoryMaxEntries(),
+                ConfigManager.getInstance().getWorkflowHistoryMaxAgeMs());
         this.listeners = new CopyOnWriteArrayList<>();
         this.running = false;
+        
+        ConfigManager config = ConfigManager.getInstance();
+        if (config.isWorkflowListenerAsync()) {
+            enableAsyncListenerDispatch(config.getWorkflowListenerConsumers(),
+                    config.getWorkflowListenerQueueCapacity(),
+                    ListenerOverflowPolicy.fromString(config.getWorkflowListenerOverflowPolicy()),
+                    config.getWorkflowListenerSampleInterval());
+        }
     }
     
     /**
@@ -49,11 +79,23 @@ public class WorkflowManager {
      * @param workflowConfig the workflow configuration
      */
     public void registerWorkflow(WorkflowConfig workflowConfig) {
-        if (workflows.containsKey(workflowConfig.getWorkflowId())) {
-            throw new IllegalArgumentException("Workflow with ID '" + workflowConfig.getWorkflowId() + 
-                    "' is already registered");
+        synchronized (registryLock) {
+            if (workflows.containsKey(workflowConfig.getWorkflowId())) {
+                throw new IllegalArgumentException("Workflow with ID '" + workflowConfig.getWorkflowId() + 
+                        "' is already registered");
+            }
+            List<String> cycle = findDependencyCycle(workflowConfig, workflows);
+            if (cycle != null) {
+                throw new IllegalArgumentException("Workflow with ID '" + workflowConfig.getWorkflowId() +
+                        "' has a circular dependency: " + String.join(" -> ", cycle));
+            }
+            workflows.put(workflowConfig.getWorkflowId(), workflowConfig);
+            List<WorkflowConfig> order = new ArrayList<>(registrationOrder);
+            order.add(workflowConfig);
+            registrationOrder = Collections.unmodifiableList(order);
+            workflowConfig.setChangeListener(registryChanged);
+            registryChanged.run();
         }
-        workflows.put(workflowConfig.getWorkflowId(), workflowConfig);
         notifyWorkflowRegistered(workflowConfig);
     }
     
@@ -62,10 +104,19 @@ public class WorkflowManager {
      * @param workflowId the ID of the workflow to unregister
      */
     public void unregisterWorkflow(String workflowId) {
-        WorkflowConfig removed = workflows.remove(workflowId);
-        if (removed != null) {
-            notifyWorkflowUnregistered(removed);
+        WorkflowConfig removed;
+        synchronized (registryLock) {
+            removed = workflows.remove(workflowId);
+            if (removed == null) {
+                return;
+            }
+            List<WorkflowConfig> order = new ArrayList<>(registrationOrder);
+            order.remove(removed);
+            registrationOrder = Collections.unmodifiableList(order);
+            removed.setChangeListener(null);
+            registryChanged.run();
         }
+        notifyWorkflowUnregistered(removed);
     }
     
     /**
@@ -128,18 +179,38 @@ public class WorkflowManager {
      * @return list of all workflows
      */
     public List<WorkflowConfig> getAllWorkflows() {
-        return new ArrayList<>(workflows.values());
+        return new ArrayList<>(registrationOrder);
+    }
+    
+    /**
+     * Get all registered workflows keyed by ID
+     * @return read-only map of workflows in registration order
+     */
+    public Map<String, WorkflowConfig> getWorkflows() {
+        Map<String, WorkflowConfig> ordered = new LinkedHashMap<>();
+        for (WorkflowConfig config : registrationOrder) {
+            ordered.put(config.getWorkflowId(), config);
+        }
+        return Collections.unmodifiableMap(ordered);
     }
     
     /**
-     * Get all enabled workflows
-     * @return list of enabled workflows sorted by priority
+     * Get all enabled workflows. The sorted list is cached and only rebuilt after a
+     * workflow is registered, unregistered, enabled, disabled or re-prioritized.
+     * @return read-only list of enabled workflows sorted by priority, then registration order
      */
     public List<WorkflowConfig> getEnabledWorkflows() {
-        return workflows.values().stream()
-                .filter(WorkflowConfig::isEnabled)
-                .sorted(Comparator.comparingInt(WorkflowConfig::getPriority).reversed())
-                .collect(Collectors.toList());
+        EnabledSnapshot snapshot = enabledSnapshot;
+        long version = registryVersion.get();
+        if (snapshot.version != version) {
+            List<WorkflowConfig> enabled = registrationOrder.stream()
+                    .filter(WorkflowConfig::isEnabled)
+                    .sorted(Comparator.comparingInt(WorkflowConfig::getPriority).reversed())
+                    .collect(Collectors.toList());
+            snapshot = new EnabledSnapshot(version, Collections.unmodifiableList(enabled));
+            enabledSnapshot = snapshot;
+        }
+        return snapshot.workflows;
     }
     
     /**
@@ -147,7 +218,7 @@ public class WorkflowManager {
      * @return list of disabled workflows
      */
     public List<WorkflowConfig> getDisabledWorkflows() {
-        return workflows.values().stream()
+        return registrationOrder.stream()
                 .filter(config -> !config.isEnabled())
                 .collect(Collectors.toList());
     }
@@ -168,6 +239,159 @@ public class WorkflowManager {
         return results;
     }
     
+    /**
+     * Execute all enabled workflows in parallel using the executor and timeout from
+     * {@code workflow.executor.type}, {@code workflow.executor.threads} and
+     * {@code workflow.execution.timeout.ms}
+     * @return list of execution results in priority order
+     */
+    public List<WorkflowExecutionResult> executeAllEnabledWorkflowsInParallel() {
+        ConfigManager config = ConfigManager.getInstance();
+        ExecutorService executor = newWorkflowExecutor();
+        try {
+            return executeAllEnabledWorkflowsInParallel(executor, config.getWorkflowExecutionTimeoutMs());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Execute all enabled workflows in parallel. Workflows with the same priority run
+     * concurrently; a priority group starts only after every higher-priority group finished.
+     * Workflows still running when the timeout expires are interrupted and reported as FAILED,
+     * workflows that never started are reported as SKIPPED.
+     * @param executor executor to run workflows on; it is not shut down
+     * @param timeoutMs global timeout in milliseconds for the whole run; 0 disables the timeout
+     * @return list of execution results in priority order, one per enabled workflow
+     */
+    public List<WorkflowExecutionResult> executeAllEnabledWorkflowsInParallel(ExecutorService executor, long timeoutMs) {
+        List<WorkflowConfig> enabledWorkflows = getEnabledWorkflows();
+        Map<String, AtomicReference<WorkflowExecutionResult>> outcomes = new HashMap<>();
+        Map<String, Future<?>> futures = new HashMap<>();
+        long deadline = timeoutMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : Long.MAX_VALUE;
+        boolean timedOut = false;
+        
+        int groupStart = 0;
+        while (groupStart < enabledWorkflows.size() && !timedOut) {
+            int priority = enabledWorkflows.get(groupStart).getPriority();
+            int groupEnd = groupStart;
+            while (groupEnd < enabledWorkflows.size() && enabledWorkflows.get(groupEnd).getPriority() == priority) {
+                WorkflowConfig config = enabledWorkflows.get(groupEnd);
+                AtomicReference<WorkflowExecutionResult> outcome = new AtomicReference<>();
+                outcomes.put(config.getWorkflowId(), outcome);
+                futures.put(config.getWorkflowId(), executor.submit(() -> executeWorkflow(config, outcome)));
+                groupEnd++;
+            }
+            for (int i = groupStart; i < groupEnd && !timedOut; i++) {
+                timedOut = !awaitWorkflow(enabledWorkflows.get(i), futures, outcomes, deadline);
+            }
+            groupStart = groupEnd;
+        }
+        
+        return collectResults(enabledWorkflows, outcomes, futures, timeoutMs);
+    }
+    
+    /**
+     * Execute all enabled workflows as a dependency graph using the executor and timeout from
+     * {@code workflow.executor.type}, {@code workflow.executor.threads} and
+     * {@code workflow.execution.timeout.ms}
+     * @return list of execution results in priority order
+     */
+    public List<WorkflowExecutionResult> executeWorkflowGraph() {
+        ConfigManager config = ConfigManager.getInstance();
+        ExecutorService executor = newWorkflowExecutor();
+        try {
+            return executeWorkflowGraph(executor, config.getWorkflowExecutionTimeoutMs());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Execute all enabled workflows as a dependency graph. Each workflow is started as soon as
+     * all of its dependencies have completed successfully, so the run takes the length of the
+     * critical path rather than the sum of all durations. When a workflow fails, or depends on a
+     * workflow that is not registered or not enabled, everything downstream of it is SKIPPED.
+     * Priority only orders workflows that become ready at the same time.
+     * @param executor executor to run workflows on; it is not shut down
+     * @param timeoutMs global timeout in milliseconds for the whole run; 0 disables the timeout
+     * @return list of execution results in priority order, one per enabled workflow
+     * @throws IllegalStateException if the enabled workflows contain a dependency cycle
+     */
+    public List<WorkflowExecutionResult> executeWorkflowGraph(ExecutorService executor, long timeoutMs) {
+        List<WorkflowConfig> enabledWorkflows = getEnabledWorkflows();
+        Map<String, WorkflowConfig> enabledById = new LinkedHashMap<>();
+        for (WorkflowConfig config : enabledWorkflows) {
+            enabledById.put(config.getWorkflowId(), config);
+        }
+        for (WorkflowConfig config : enabledWorkflows) {
+            List<String> cycle = findDependencyCycle(config, enabledById);
+            if (cycle != null) {
+                throw new IllegalStateException("Circular workflow dependency: " + String.join(" -> ", cycle));
+            }
+        }
+        
+        Map<String, List<WorkflowConfig>> dependents = new HashMap<>();
+        Map<String, Integer> pendingDependencies = new HashMap<>();
+        for (WorkflowConfig config : enabledWorkflows) {
+            pendingDependencies.put(config.getWorkflowId(), config.getDependencies().size());
+            for (String dependency : config.getDependencies()) {
+                dependents.computeIfAbsent(dependency, id -> new ArrayList<>()).add(config);
+            }
+        }
+        
+        Map<String, AtomicReference<WorkflowExecutionResult>> outcomes = new HashMap<>();
+        Map<String, Future<?>> futures = new HashMap<>();
+        Set<String> resolved = new HashSet<>();
+        BlockingQueue<String> completions = new LinkedBlockingQueue<>();
+        long deadline = timeoutMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : Long.MAX_VALUE;
+        
+        for (WorkflowConfig config : enabledWorkflows) {
+            for (String dependency : config.getDependencies()) {
+                if (!enabledById.containsKey(dependency)) {
+                    skipDownstream(config, "Dependency '" + dependency + "' is not registered or not enabled",
+                            dependents, outcomes, resolved);
+                    break;
+                }
+            }
+        }
+        for (WorkflowConfig config : enabledWorkflows) {
+            if (pendingDependencies.get(config.getWorkflowId()) == 0 && !resolved.contains(config.getWorkflowId())) {
+                submitGraphWorkflow(config, executor, outcomes, futures, completions);
+            }
+        }
+        
+        while (resolved.size() < enabledWorkflows.size()) {
+            String finishedId;
+            try {
+                finishedId = deadline == Long.MAX_VALUE
+                        ? completions.take()
+                        : completions.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (finishedId == null) {
+                break;
+            }
+            resolved.add(finishedId);
+            WorkflowExecutionResult result = outcomes.get(finishedId).get();
+            for (WorkflowConfig dependent : dependents.getOrDefault(finishedId, Collections.emptyList())) {
+                if (resolved.contains(dependent.getWorkflowId())) {
+                    continue;
+                }
+                if (!result.isSuccess()) {
+                    skipDownstream(dependent, "Upstream workflow '" + finishedId + "' did not complete successfully",
+                            dependents, outcomes, resolved);
+                } else if (pendingDependencies.merge(dependent.getWorkflowId(), -1, Integer::sum) == 0) {
+                    submitGraphWorkflow(dependent, executor, outcomes, futures, completions);
+                }
+            }
+        }
+        
+        return collectResults(enabledWorkflows, outcomes, futures, timeoutMs);
+    }
+    
     /**
      * Execute a specific workflow
      * @param workflowId the ID of the workflow to execute
@@ -178,20 +402,33 @@ public class WorkflowManager {
         if (config == null) {
             throw new IllegalArgumentException("Workflow with ID '" + workflowId + "' not found");
         }
-        
+        return executeWorkflow(config, new AtomicReference<>());
+    }
+    
+    /**
+     * Create the executor for a parallel or graph run per {@code workflow.executor.type} and
+     * {@code workflow.executor.threads}
+     */
+    private static ExecutorService newWorkflowExecutor() {
+        ConfigManager config = ConfigManager.getInstance();
+        int threads = config.getWorkflowExecutorThreads();
+        return "fixed".equals(config.getWorkflowExecutorType())
+                ? ExecutorFactory.newFixedDaemonPool(threads, "workflow-executor")
+                : ExecutorFactory.newVirtualThreadExecutor(threads, "workflow-executor");
+    }
+    
+    /**
+     * Execute a workflow and publish its result (history and listeners) exactly once.
+     * The outcome reference is shared with the parallel runner so that a timeout and a
+     * late-finishing workflow cannot both report a result.
+     */
+    private WorkflowExecutionResult executeWorkflow(WorkflowConfig config,
+                                                    AtomicReference<WorkflowExecutionResult> outcome) {
+        if (outcome.get() != null) {
+            return outcome.get();
+        }
         if (!config.isEnabled()) {
-            WorkflowExecutionResult result = new WorkflowExecutionResult(
-                    config.getWorkflowId(),
-                    config.getWorkflowName(),
-                    false,
-                    WorkflowStatus.SKIPPED,
-                    LocalDateTime.now(),
-                    0,
-                    "Workflow is disabled"
-            );
-            executionHistory.add(result);
-            notifyWorkflowExecuted(result);
-            return result;
+            return publishResult(null, outcome, failedResult(config, WorkflowStatus.SKIPPED, 0, "Workflow is disabled"));
         }
         
         long startTime = System.currentTimeMillis();
@@ -200,19 +437,8 @@ public class WorkflowManager {
         
         try {
             if (!config.getWorkflow().validate()) {
-                WorkflowExecutionResult result = new WorkflowExecutionResult(
-                        config.getWorkflowId(),
-                        config.getWorkflowName(),
-                        false,
-                        WorkflowStatus.FAILED,
-                        LocalDateTime.now(),
-                        System.currentTimeMillis() - startTime,
-                        "Workflow validation failed"
-                );
-                config.setStatus(result.getStatus());
-                executionHistory.add(result);
-                notifyWorkflowExecuted(result);
-                return result;
+                return publishResult(config, outcome, failedResult(config, WorkflowStatus.FAILED,
+                        System.currentTimeMillis() - startTime, "Workflow validation failed"));
             }
             
             boolean executionSuccess = config.getWorkflow().execute();
@@ -228,39 +454,180 @@ public class WorkflowManager {
                     duration,
                     executionSuccess ? null : "Workflow execution returned false"
             );
-            
-            config.setStatus(status);
-            executionHistory.add(result);
-            notifyWorkflowExecuted(result);
-            
-            return result;
+            return publishResult(config, outcome, result);
             
         } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            WorkflowExecutionResult result = new WorkflowExecutionResult(
-                    config.getWorkflowId(),
-                    config.getWorkflowName(),
-                    false,
-                    WorkflowStatus.FAILED,
-                    LocalDateTime.now(),
-                    duration,
-                    "Workflow execution error: " + e.getMessage()
-            );
+            return publishResult(config, outcome, failedResult(config, WorkflowStatus.FAILED,
+                    System.currentTimeMillis() - startTime, "Workflow execution error: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Wait for one parallel workflow until the deadline
+     * @return false if the deadline passed before the workflow finished
+     */
+    private boolean awaitWorkflow(WorkflowConfig config, Map<String, Future<?>> futures,
+                                  Map<String, AtomicReference<WorkflowExecutionResult>> outcomes, long deadline) {
+        try {
+            if (deadline == Long.MAX_VALUE) {
+                futures.get(config.getWorkflowId()).get();
+            } else {
+                futures.get(config.getWorkflowId()).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            publishResult(config, outcomes.get(config.getWorkflowId()), failedResult(config, WorkflowStatus.FAILED, 0,
+                    "Workflow execution error: " + cause));
+            return true;
+        }
+    }
+    
+    private void submitGraphWorkflow(WorkflowConfig config, ExecutorService executor,
+                                     Map<String, AtomicReference<WorkflowExecutionResult>> outcomes,
+                                     Map<String, Future<?>> futures, BlockingQueue<String> completions) {
+        AtomicReference<WorkflowExecutionResult> outcome = new AtomicReference<>();
+        outcomes.put(config.getWorkflowId(), outcome);
+        futures.put(config.getWorkflowId(), executor.submit(() -> {
+            try {
+                executeWorkflow(config, outcome);
+            } catch (Throwable t) {
+                publishResult(config, outcome, failedResult(config, WorkflowStatus.FAILED, 0,
+                        "Workflow execution error: " + t));
+            } finally {
+                completions.add(config.getWorkflowId());
+            }
+        }));
+    }
+    
+    /**
+     * Mark a workflow and everything that transitively depends on it as SKIPPED
+     */
+    private void skipDownstream(WorkflowConfig config, String reason, Map<String, List<WorkflowConfig>> dependents,
+                                Map<String, AtomicReference<WorkflowExecutionResult>> outcomes, Set<String> resolved) {
+        if (!resolved.add(config.getWorkflowId())) {
+            return;
+        }
+        AtomicReference<WorkflowExecutionResult> outcome = new AtomicReference<>();
+        outcomes.put(config.getWorkflowId(), outcome);
+        publishResult(config, outcome, failedResult(config, WorkflowStatus.SKIPPED, 0, reason));
+        for (WorkflowConfig dependent : dependents.getOrDefault(config.getWorkflowId(), Collections.emptyList())) {
+            skipDownstream(dependent, "Upstream workflow '" + config.getWorkflowId() + "' was skipped",
+                    dependents, outcomes, resolved);
+        }
+    }
+    
+    /**
+     * Build the result list in the given order, reporting workflows that were still running
+     * when the run ended as timed out and workflows that never started as skipped
+     */
+    private List<WorkflowExecutionResult> collectResults(List<WorkflowConfig> workflowsInOrder,
+                                                         Map<String, AtomicReference<WorkflowExecutionResult>> outcomes,
+                                                         Map<String, Future<?>> futures, long timeoutMs) {
+        List<WorkflowExecutionResult> results = new ArrayList<>();
+        for (WorkflowConfig config : workflowsInOrder) {
+            AtomicReference<WorkflowExecutionResult> outcome = outcomes.get(config.getWorkflowId());
+            if (outcome == null) {
+                results.add(publishResult(config, new AtomicReference<>(), failedResult(config, WorkflowStatus.SKIPPED, 0,
+                        "Workflow not started: execution timed out after " + timeoutMs + "ms")));
+            } else if (outcome.get() == null) {
+                results.add(publishResult(config, outcome, failedResult(config, WorkflowStatus.FAILED, timeoutMs,
+                        "Workflow execution timed out after " + timeoutMs + "ms")));
+                futures.get(config.getWorkflowId()).cancel(true);
+            } else {
+                results.add(outcome.get());
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * Follow dependencies from a workflow looking for a path back to it
+     * @param config workflow to check
+     * @param registry workflows to resolve dependency IDs against, not necessarily containing config
+     * @return the cycle as a list of IDs starting and ending with the workflow, or null if there is none
+     */
+    private static List<String> findDependencyCycle(WorkflowConfig config, Map<String, WorkflowConfig> registry) {
+        Deque<String> path = new ArrayDeque<>();
+        path.add(config.getWorkflowId());
+        return findDependencyCycle(config, config.getWorkflowId(), registry, path, new HashSet<>());
+    }
+    
+    private static List<String> findDependencyCycle(WorkflowConfig current, String startId,
+                                                    Map<String, WorkflowConfig> registry,
+                                                    Deque<String> path, Set<String> visited) {
+        for (String dependency : current.getDependencies()) {
+            if (dependency.equals(startId)) {
+                List<String> cycle = new ArrayList<>(path);
+                cycle.add(startId);
+                return cycle;
+            }
+            WorkflowConfig next = registry.get(dependency);
+            if (next != null && visited.add(dependency)) {
+                path.addLast(dependency);
+                List<String> cycle = findDependencyCycle(next, startId, registry, path, visited);
+                if (cycle != null) {
+                    return cycle;
+                }
+                path.removeLast();
+            }
+        }
+        return null;
+    }
+    
+    private WorkflowExecutionResult failedResult(WorkflowConfig config, WorkflowStatus status,
+                                                 long durationMs, String errorMessage) {
+        return new WorkflowExecutionResult(
+                config.getWorkflowId(),
+                config.getWorkflowName(),
+                false,
+                status,
+                LocalDateTime.now(),
+                durationMs,
+                errorMessage
+        );
+    }
+    
+    /**
+     * Record a result in history and notify listeners, unless a result was already published
+     * @param config configuration whose status is updated, or null to leave the status untouched
+     * @return the published result for this execution
+     */
+    private WorkflowExecutionResult publishResult(WorkflowConfig config,
+                                                  AtomicReference<WorkflowExecutionResult> outcome,
+                                                  WorkflowExecutionResult result) {
+        if (!outcome.compareAndSet(null, result)) {
+            return outcome.get();
+        }
+        if (config != null) {
             config.setStatus(result.getStatus());
-            executionHistory.add(result);
-            notifyWorkflowExecuted(result);
-            return result;
         }
+        executionHistory.add(result);
+        notifyWorkflowExecuted(result);
+        return result;
+    }
+    
+    /**
+     * Get execution history, bounded by {@code workflow.history.max.entries} and
+     * {@code workflow.history.max.age.ms}
+     * @return list of retained execution results, oldest first
+     */
+    public List<WorkflowExecutionResult> getExecutionHistory() {
+        return executionHistory.getAll();
     }
     
     /**
-     * Get execution history
-     * @return list of all execution results
+     * Get execution history for a single workflow
+     * @param workflowId the ID of the workflow
+     * @return list of retained execution results of the workflow, oldest first
      */
     public List<WorkflowExecutionResult> getExecutionHistoryForWorkflow(String workflowId) {
-        return executionHistory.stream()
-                .filter(result -> result.getWorkflowId().equals(workflowId))
-                .collect(Collectors.toList());
+        return executionHistory.getForWorkflow(workflowId);
     }
     
     /**
@@ -296,6 +663,54 @@ public class WorkflowManager {
         listeners.remove(listener);
     }
     
+    /**
+     * Deliver listener events on background threads instead of the executing thread.
+     * Events of one workflow are always delivered in order. Queued events are flushed
+     * when dispatch is disabled and on JVM shutdown.
+     * @param consumers number of delivery threads
+     * @param queueCapacity capacity of each delivery thread's queue
+     * @param overflowPolicy what to do with events when a queue is full
+     * @param sampleInterval for {@link ListenerOverflowPolicy#SAMPLE}, keep one overflowing event in this many
+     */
+    public synchronized void enableAsyncListenerDispatch(int consumers, int queueCapacity,
+                                                         ListenerOverflowPolicy overflowPolicy, int sampleInterval) {
+        AsyncListenerDispatcher previous = listenerDispatcher;
+        listenerDispatcher = new AsyncListenerDispatcher(consumers, queueCapacity, overflowPolicy, sampleInterval);
+        if (previous != null) {
+            previous.shutdown(30_000L);
+        }
+    }
+    
+    /**
+     * Deliver queued listener events and return to synchronous dispatch
+     * @param timeoutMs maximum time to wait for queued events in milliseconds
+     * @return true if all queued events were delivered in time
+     */
+    public synchronized boolean disableAsyncListenerDispatch(long timeoutMs) {
+        AsyncListenerDispatcher dispatcher = listenerDispatcher;
+        listenerDispatcher = null;
+        return dispatcher == null || dispatcher.shutdown(timeoutMs);
+    }
+    
+    /**
+     * Wait until all queued listener events have been delivered; returns immediately for synchronous dispatch
+     * @param timeoutMs maximum time to wait in milliseconds
+     * @return true if all queued events were delivered in time
+     */
+    public boolean flushListeners(long timeoutMs) {
+        AsyncListenerDispatcher dispatcher = listenerDispatcher;
+        return dispatcher == null || dispatcher.flush(timeoutMs);
+    }
+    
+    /**
+     * Get number of listener events dropped by the overflow policy
+     * @return count of dropped events, 0 for synchronous dispatch
+     */
+    public long getDroppedListenerEventCount() {
+        AsyncListenerDispatcher dispatcher = listenerDispatcher;
+        return dispatcher != null ? dispatcher.getDroppedCount() : 0;
+    }
+    
     /**
      * Get total number of registered workflows
      * @return count of registered workflows
@@ -309,16 +724,21 @@ public class WorkflowManager {
      * @return count of enabled workflows
      */
     public int getEnabledWorkflowCount() {
-        return (int) workflows.values().stream()
-                .filter(WorkflowConfig::isEnabled)
-                .count();
+        return getEnabledWorkflows().size();
     }
     
     /**
      * Clear all workflows
      */
     public void clear() {
-        workflows.clear();
+        synchronized (registryLock) {
+            for (WorkflowConfig config : registrationOrder) {
+                config.setChangeListener(null);
+            }
+            workflows.clear();
+            registrationOrder = Collections.emptyList();
+            registryChanged.run();
+        }
         executionHistory.clear();
     }
     
@@ -334,7 +754,7 @@ public class WorkflowManager {
         sb.append("Disabled Workflows: ").append(workflows.size() - getEnabledWorkflowCount()).append("\n");
         sb.append("\nWorkflows:\n");
         
-        for (WorkflowConfig config : workflows.values()) {
+        for (WorkflowConfig config : registrationOrder) {
             sb.append("  - [").append(config.isEnabled() ? "ENABLED" : "DISABLED").append("] ");
             sb.append(config.getWorkflowName()).append(" (ID: ").append(config.getWorkflowId());
             sb.append(", Priority: ").append(config.getPriority()).append(", Status: ");
@@ -346,38 +766,62 @@ public class WorkflowManager {
     
     // Listener notification methods
     private void notifyWorkflowRegistered(WorkflowConfig config) {
-        for (WorkflowListener listener : listeners) {
-            listener.onWorkflowRegistered(config);
-        }
+        notifyListeners(config.getWorkflowId(), listener -> listener.onWorkflowRegistered(config));
     }
     
     private void notifyWorkflowUnregistered(WorkflowConfig config) {
-        for (WorkflowListener listener : listeners) {
-            listener.onWorkflowUnregistered(config);
-        }
+        notifyListeners(config.getWorkflowId(), listener -> listener.onWorkflowUnregistered(config));
     }
     
     private void notifyWorkflowEnabled(WorkflowConfig config) {
-        for (WorkflowListener listener : listeners) {
-            listener.onWorkflowEnabled(config);
-        }
+        notifyListeners(config.getWorkflowId(), listener -> listener.onWorkflowEnabled(config));
     }
     
     private void notifyWorkflowDisabled(WorkflowConfig config) {
-        for (WorkflowListener listener : listeners) {
-            listener.onWorkflowDisabled(config);
-        }
+        notifyListeners(config.getWorkflowId(), listener -> listener.onWorkflowDisabled(config));
     }
     
     private void notifyWorkflowStarted(WorkflowConfig config) {
-        for (WorkflowListener listener : listeners) {
-            listener.onWorkflowStarted(config);
-        }
+        notifyListeners(config.getWorkflowId(), listener -> listener.onWorkflowStarted(config));
     }
     
     private void notifyWorkflowExecuted(WorkflowExecutionResult result) {
-        for (WorkflowListener listener : listeners) {
-            listener.onWorkflowExecuted(result);
+        notifyListeners(result.getWorkflowId(), listener -> listener.onWorkflowExecuted(result));
+    }
+    
+    private void notifyListeners(String workflowId, Consumer<WorkflowListener> event) {
+        AsyncListenerDispatcher dispatcher = listenerDispatcher;
+        if (dispatcher == null) {
+            for (WorkflowListener listener : listeners) {
+                event.accept(listener);
+            }
+            return;
+        }
+        WorkflowListener[] recipients = listeners.toArray(new WorkflowListener[0]);
+        if (recipients.length == 0) {
+            return;
+        }
+        dispatcher.dispatch(workflowId, () -> {
+            for (WorkflowListener listener : recipients) {
+                try {
+                    event.accept(listener);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Workflow listener " + listener.getClass().getName() + " failed", e);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Enabled workflows sorted for execution, tagged with the registry version they were built from
+     */
+    private static final class EnabledSnapshot {
+        private final long version;
+        private final List<WorkflowConfig> workflows;
+        
+        private EnabledSnapshot(long version, List<WorkflowConfig> workflows) {
+            this.version = version;
+            this.workflows = workflows;
         }
     }
 }
@@ -0,0 +1,82 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.utils.JsonDocument;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a 20-assertion test body against a large object list: once with
+ * {@code response.jsonPath()} per assertion, which re-parses the body every time, and once
+ * through the cached {@link JsonDocument}. The {@code parses} and {@code tests} counters give body parses per test.
+ *
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark=JsonAssertionBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonAssertionBenchmark {
+    private static final int OBJECTS = 1_000;
+    private static final int ASSERTIONS = 20;
+
+    private String body;
+    private String[] paths;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ParseCounter {
+        public long parses;
+        public long tests;
+    }
+
+    @Setup
+    public void createBody() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < OBJECTS; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(i).append("\",\"name\":\"Object ").append(i)
+                    .append("\",\"data\":{\"year\":").append(2000 + i % 25)
+                    .append(",\"price\":").append(i).append(".99,\"color\":\"silver\"}}");
+        }
+        body = json.append(']').toString();
+
+        paths = new String[ASSERTIONS];
+        for (int i = 0; i < ASSERTIONS; i++) {
+            int index = i * (OBJECTS / ASSERTIONS);
+            paths[i] = i % 2 == 0 ? "[" + index + "].id" : "[" + index + "].data.price";
+        }
+    }
+
+    @Benchmark
+    public void assertWithJsonPathPerCall(ParseCounter counter, Blackhole blackhole) {
+        Response response = newResponse();
+        for (String path : paths) {
+            blackhole.consume(response.jsonPath().getString(path));
+            counter.parses++;
+        }
+        counter.tests++;
+    }
+
+    @Benchmark
+    public void assertWithCachedDocument(ParseCounter counter, Blackhole blackhole) {
+        Response response = newResponse();
+        long before = JsonDocument.getParseCount();
+        for (String path : paths) {
+            blackhole.consume(JsonDocument.of(response).getString(path));
+        }
+        counter.parses += JsonDocument.getParseCount() - before;
+        counter.tests++;
+    }
+
+    private Response newResponse() {
+        return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.utils.JsonSchemaRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-validation cost of checking a Post and a User body against their schemas:
+ * {@code JsonSchemaValidator.matchesJsonSchemaInClasspath}, which loads and compiles the schema
+ * on every match, versus the compiled schemas shared by {@link JsonSchemaRegistry}.
+ *
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark=JsonSchemaBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSchemaBenchmark {
+    private static final String POST = "{\"userId\":1,\"id\":1,\"title\":\"sunt aut facere repellat provident\","
+            + "\"body\":\"quia et suscipit suscipit recusandae consequuntur expedita et cum reprehenderit\"}";
+    private static final String USER = "{\"id\":1,\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\",\"address\":{\"street\":\"Kulas Light\",\"suite\":\"Apt. 556\","
+            + "\"city\":\"Gwenborough\",\"zipcode\":\"92998-3874\",\"geo\":{\"lat\":\"-37.3159\",\"lng\":\"81.1496\"}},"
+            + "\"phone\":\"1-770-736-8031 x56442\",\"website\":\"hildegard.org\",\"company\":{\"name\":\"Romaguera-Crona\","
+            + "\"catchPhrase\":\"Multi-layered client-server neural-net\",\"bs\":\"harness real-time e-markets\"}}";
+
+    private Response post;
+    private Response user;
+
+    @Setup
+    public void createResponses() {
+        post = new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(POST).build();
+        user = new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(USER).build();
+    }
+
+    @Benchmark
+    public boolean validatePostUncached() {
+        return JsonSchemaValidator.matchesJsonSchemaInClasspath("schemas/post.json").matches(POST);
+    }
+
+    @Benchmark
+    public boolean validatePostCached() {
+        return JsonSchemaRegistry.getInstance().validate(post, "post").isSuccess();
+    }
+
+    @Benchmark
+    public boolean validateUserUncached() {
+        return JsonSchemaValidator.matchesJsonSchemaInClasspath("schemas/user.json").matches(USER);
+    }
+
+    @Benchmark
+    public boolean validateUserCached() {
+        return JsonSchemaRegistry.getInstance().validate(user, "user").isSuccess();
+    }
+}
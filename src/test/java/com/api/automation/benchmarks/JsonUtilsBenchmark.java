@@ -0,0 +1,80 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.models.Post;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous JsonUtils implementation (one pretty-printing ObjectMapper,
+ * per-call type lookup, String-only input) against the cached reader/writer paths.
+ *
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark=JsonUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonUtilsBenchmark {
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Post post;
+    private Post[] posts;
+    private String postsJson;
+    private byte[] postsBytes;
+
+    @Setup
+    public void createPayloads() throws Exception {
+        posts = new Post[100];
+        for (int i = 0; i < posts.length; i++) {
+            posts[i] = Post.builder().userId(i % 10 + 1).id(i + 1)
+                    .title("sunt aut facere repellat provident occaecati " + i)
+                    .body("quia et suscipit suscipit recusandae consequuntur expedita et cum reprehenderit " + i)
+                    .build();
+        }
+        post = posts[0];
+        postsJson = new ObjectMapper().writeValueAsString(posts);
+        postsBytes = postsJson.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String serializePostLegacy() throws Exception {
+        return LEGACY_MAPPER.writeValueAsString(post);
+    }
+
+    @Benchmark
+    public String serializePostCached() {
+        return JsonUtils.serialize(post);
+    }
+
+    @Benchmark
+    public String serializePostListLegacy() throws Exception {
+        return LEGACY_MAPPER.writeValueAsString(posts);
+    }
+
+    @Benchmark
+    public byte[] serializePostListCachedBytes() {
+        return JsonUtils.serializeToBytes(posts);
+    }
+
+    @Benchmark
+    public Post[] deserializePostListLegacy() throws Exception {
+        return LEGACY_MAPPER.readValue(new String(postsBytes, StandardCharsets.UTF_8), Post[].class);
+    }
+
+    @Benchmark
+    public Post[] deserializePostListCachedString() {
+        return JsonUtils.deserialize(postsJson, Post[].class);
+    }
+
+    @Benchmark
+    public Post[] deserializePostListCachedBytes() {
+        return JsonUtils.deserialize(postsBytes, Post[].class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.utils.RestClient;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Measures the per-request cost of preparing an ObjectService request spec, without sending it.
+ *
+ * "override" is how ObjectService built requests before it moved onto BaseService: the pooled
+ * transport spec plus a base URI and content type set on every request. "rebuilt" builds a fresh
+ * spec for the base URI per request. "cached" merges the pre-built spec that
+ * {@link RestClient#getRequestSpec(String)} keeps per base URI.
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark=RequestSpecBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestSpecBenchmark {
+    private static final String BASE_URI = "https://api.restful-api.dev";
+    private static final String OBJECTS_PATH = "/objects";
+
+    @Param({"override", "rebuilt", "cached"})
+    public String spec;
+
+    @Setup(Level.Trial)
+    public void warmSpecs() {
+        RestClient.getPooledTransportSpec();
+        RestClient.getRequestSpec(BASE_URI);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        RestClient.shutdownConnectionPool();
+    }
+
+    @Benchmark
+    public RequestSpecification prepareRequest() {
+        switch (spec) {
+            case "override":
+                return given()
+                        .spec(RestClient.getPooledTransportSpec())
+                        .baseUri(BASE_URI)
+                        .basePath(OBJECTS_PATH)
+                        .contentType("application/json");
+            case "rebuilt":
+                return given()
+                        .spec(new RequestSpecBuilder()
+                                .addRequestSpecification(RestClient.getPooledTransportSpec())
+                                .setBaseUri(BASE_URI)
+                                .setContentType(ContentType.JSON)
+                                .build())
+                        .basePath(OBJECTS_PATH);
+            default:
+                return given()
+                        .spec(RestClient.getRequestSpec(BASE_URI))
+                        .basePath(OBJECTS_PATH);
+        }
+    }
+}
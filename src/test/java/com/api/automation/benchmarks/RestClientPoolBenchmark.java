@@ -0,0 +1,89 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.utils.RestClient;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Compares REST Assured's default per-request HTTP client against the pooled
+ * keep-alive transport from {@link RestClient#getPooledTransportSpec()}.
+ *
+ * Throughput reports requests/sec, latency reports the sampled distribution (p99 included).
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark=RestClientPoolBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dsun.net.httpserver.nodelay=true",
+        "-Dlogback.configurationFile=logback-benchmark.xml"})
+@Threads(8)
+public class RestClientPoolBenchmark {
+    private static final byte[] USER_JSON = ("{\"id\":1,\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\"}").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"default", "pooled"})
+    public String transport;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private RequestSpecification spec;
+
+    @Setup(Level.Trial)
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.createContext("/users", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, USER_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(USER_JSON);
+            }
+        });
+        server.start();
+
+        RequestSpecBuilder builder = "pooled".equals(transport)
+                ? new RequestSpecBuilder().addRequestSpecification(RestClient.getPooledTransportSpec())
+                : new RequestSpecBuilder().setConfig(RestAssuredConfig.config());
+        spec = builder
+                .setBaseUri("http://127.0.0.1:" + server.getAddress().getPort())
+                .setContentType(ContentType.JSON)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStubServer() {
+        RestClient.shutdownConnectionPool();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int throughput() {
+        return given().spec(spec).get("/users/1").statusCode();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int latency() {
+        return given().spec(spec).get("/users/1").statusCode();
+    }
+}
@@ -0,0 +1,176 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.stub.StubServer;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many requests per second the embedded {@link StubServer} answers, against the
+ * JDK's built-in HttpServer serving the same fixture bytes.
+ *
+ * Each benchmark thread drives its own keep-alive connection with a minimal raw HTTP client, so
+ * the numbers reflect the server rather than client-side request building.
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark=StubServerBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dsun.net.httpserver.nodelay=true",
+        "-Dlogback.configurationFile=logback-benchmark.xml"})
+@Threads(8)
+public class StubServerBenchmark {
+    private static final byte[] REQUEST = "GET /users/1 HTTP/1.1\r\nHost: 127.0.0.1\r\n\r\n"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"jdk-httpserver", "stub"})
+    public String server;
+
+    private StubServer stubServer;
+    private HttpServer jdkServer;
+    private ExecutorService jdkExecutor;
+    private int port;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException {
+        stubServer = StubServer.start(0, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        if ("stub".equals(server)) {
+            port = stubServer.getPort();
+            return;
+        }
+        byte[] user = fetchBody(stubServer.getPort());
+        jdkServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        jdkExecutor = Executors.newFixedThreadPool(16);
+        jdkServer.setExecutor(jdkExecutor);
+        jdkServer.createContext("/users", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, user.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(user);
+            }
+        });
+        jdkServer.start();
+        port = jdkServer.getAddress().getPort();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        stubServer.close();
+        if (jdkServer != null) {
+            jdkServer.stop(0);
+            jdkExecutor.shutdownNow();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private Socket socket;
+        private OutputStream out;
+        private ResponseReader in;
+
+        @Setup(Level.Trial)
+        public void connect(StubServerBenchmark benchmark) throws IOException {
+            socket = new Socket("127.0.0.1", benchmark.port);
+            socket.setTcpNoDelay(true);
+            out = socket.getOutputStream();
+            in = new ResponseReader(socket.getInputStream());
+        }
+
+        @TearDown(Level.Trial)
+        public void disconnect() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int throughput(Client client) throws IOException {
+        client.out.write(REQUEST);
+        return client.in.readResponse();
+    }
+
+    private static byte[] fetchBody(int port) throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            socket.getOutputStream().write(REQUEST);
+            ResponseReader reader = new ResponseReader(socket.getInputStream());
+            reader.readResponse();
+            return reader.body();
+        }
+    }
+
+    /**
+     * Reads one Content-Length delimited HTTP response at a time from a keep-alive connection
+     */
+    private static final class ResponseReader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[64 * 1024];
+        private int start;
+        private int end;
+        private int bodyStart;
+        private int bodyLength;
+
+        ResponseReader(InputStream in) {
+            this.in = in;
+        }
+
+        int readResponse() throws IOException {
+            int headerEnd;
+            while ((headerEnd = indexOfHeaderEnd()) < 0) {
+                fill();
+            }
+            String head = new String(buffer, start, headerEnd - start, StandardCharsets.ISO_8859_1);
+            int contentLength = 0;
+            for (String line : head.split("\r\n")) {
+                if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                    contentLength = Integer.parseInt(line.substring(15).trim());
+                }
+            }
+            int headerLength = headerEnd + 4 - start;
+            while (end - start - headerLength < contentLength) {
+                fill();
+            }
+            bodyStart = start + headerLength;
+            bodyLength = contentLength;
+            start = bodyStart + contentLength;
+            return Integer.parseInt(head.substring(9, 12));
+        }
+
+        byte[] body() {
+            return Arrays.copyOfRange(buffer, bodyStart, bodyStart + bodyLength);
+        }
+
+        private int indexOfHeaderEnd() {
+            for (int i = start; i + 3 < end; i++) {
+                if (buffer[i] == '\r' && buffer[i + 1] == '\n' && buffer[i + 2] == '\r' && buffer[i + 3] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void fill() throws IOException {
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+            }
+            int read = in.read(buffer, end, buffer.length - end);
+            if (read < 0) {
+                throw new IOException("Connection closed by server");
+            }
+            end += read;
+        }
+    }
+}
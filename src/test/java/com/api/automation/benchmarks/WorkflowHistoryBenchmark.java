@@ -0,0 +1,82 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.workflow.WorkflowExecutionHistory;
+import com.api.automation.workflow.WorkflowExecutionResult;
+import com.api.automation.workflow.WorkflowStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the bounded ring-buffer {@link WorkflowExecutionHistory} against the previous
+ * unbounded CopyOnWriteArrayList history, both pre-filled with 1M results over 100 workflows.
+ *
+ * Run with: mvn -P benchmarks test-compile exec:exec -Dbenchmark=WorkflowHistoryBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+public class WorkflowHistoryBenchmark {
+    private static final int RESULTS = 1_000_000;
+    private static final int WORKFLOWS = 100;
+
+    @Param({"ringBuffer", "copyOnWrite"})
+    public String store;
+
+    private WorkflowExecutionHistory ringBuffer;
+    private List<WorkflowExecutionResult> copyOnWrite;
+    private WorkflowExecutionResult[] samples;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        samples = new WorkflowExecutionResult[WORKFLOWS];
+        for (int i = 0; i < WORKFLOWS; i++) {
+            samples[i] = new WorkflowExecutionResult("workflow-" + i, "Workflow " + i, true,
+                    WorkflowStatus.COMPLETED, LocalDateTime.now(), i, null);
+        }
+        if ("ringBuffer".equals(store)) {
+            ringBuffer = new WorkflowExecutionHistory(RESULTS, 0);
+            for (int i = 0; i < RESULTS; i++) {
+                ringBuffer.add(samples[i % WORKFLOWS]);
+            }
+        } else {
+            List<WorkflowExecutionResult> initial = new ArrayList<>(RESULTS);
+            for (int i = 0; i < RESULTS; i++) {
+                initial.add(samples[i % WORKFLOWS]);
+            }
+            copyOnWrite = new CopyOnWriteArrayList<>(initial);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void append() {
+        WorkflowExecutionResult result = samples[next++ % WORKFLOWS];
+        if (ringBuffer != null) {
+            ringBuffer.add(result);
+        } else {
+            copyOnWrite.add(result);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<WorkflowExecutionResult> queryWorkflow() {
+        String workflowId = samples[next++ % WORKFLOWS].getWorkflowId();
+        if (ringBuffer != null) {
+            return ringBuffer.getForWorkflow(workflowId);
+        }
+        return copyOnWrite.stream()
+                .filter(result -> result.getWorkflowId().equals(workflowId))
+                .collect(Collectors.toList());
+    }
+}
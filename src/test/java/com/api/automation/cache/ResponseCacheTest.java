@@ -0,0 +1,253 @@
+package com.api.automation.cache;
+
+import com.api.automation.config.ConfigManager;
+import com.api.automation.models.User;
+import com.api.automation.services.UserService;
+import com.api.automation.utils.RestClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for ResponseCache and ResponseCacheFilter
+ */
+public class ResponseCacheTest {
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2026 07:28:00 GMT";
+
+    private HttpServer server;
+    private String baseUri;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> conditionalHeaders = new CopyOnWriteArrayList<>();
+    private final Map<String, String> cacheControl = new ConcurrentHashMap<>();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void resetServer() {
+        requests.set(0);
+        conditionalHeaders.clear();
+        cacheControl.clear();
+    }
+
+    @Test
+    public void testFreshEntryIsServedWithoutRequest() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        Filter filter = new ResponseCacheFilter(cache);
+
+        Response first = given().baseUri(baseUri).filter(filter).get("/users/1");
+        Response second = given().baseUri(baseUri).filter(filter).get("/users/1");
+
+        assertEquals(requests.get(), 1);
+        assertEquals(second.getStatusCode(), 200);
+        assertEquals(second.asString(), first.asString());
+        assertEquals(second.as(User.class).getName(), "User /users/1");
+        assertEquals(second.getHeader("ETag"), first.getHeader("ETag"));
+        assertEquals(cache.getStats().getHits(), 1);
+        assertEquals(cache.getStats().getMisses(), 1);
+    }
+
+    @Test
+    public void testStaleEntryIsRevalidatedWithETag() {
+        ResponseCache cache = new ResponseCache(10, 0);
+        Filter filter = new ResponseCacheFilter(cache);
+
+        given().baseUri(baseUri).filter(filter).get("/users/2");
+        Response revalidated = given().baseUri(baseUri).filter(filter).get("/users/2");
+
+        assertEquals(requests.get(), 2);
+        assertTrue(conditionalHeaders.get(1).contains("If-None-Match=\"/users/2\""), conditionalHeaders.toString());
+        assertEquals(revalidated.getStatusCode(), 200, "304 is answered with the cached response");
+        assertEquals(revalidated.jsonPath().getString("name"), "User /users/2");
+        assertEquals(cache.getStats().getRevalidations(), 1);
+        assertEquals(cache.getStats().getHits(), 1);
+    }
+
+    @Test
+    public void testStaleEntryIsRevalidatedWithLastModified() {
+        ResponseCache cache = new ResponseCache(10, 0);
+        Filter filter = new ResponseCacheFilter(cache);
+
+        given().baseUri(baseUri).filter(filter).get("/dated/1");
+        Response revalidated = given().baseUri(baseUri).filter(filter).get("/dated/1");
+
+        assertTrue(conditionalHeaders.get(1).contains("If-Modified-Since=" + LAST_MODIFIED), conditionalHeaders.toString());
+        assertEquals(revalidated.getStatusCode(), 200);
+        assertEquals(cache.getStats().getRevalidations(), 1);
+    }
+
+    @Test
+    public void testWritesInvalidateResourceAndCollection() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        Filter filter = new ResponseCacheFilter(cache);
+        given().baseUri(baseUri).filter(filter).get("/posts/1");
+        given().baseUri(baseUri).filter(filter).get("/posts");
+        given().baseUri(baseUri).filter(filter).get("/posts?userId=1");
+        given().baseUri(baseUri).filter(filter).get("/users/1");
+        assertEquals(cache.size(), 4);
+
+        given().baseUri(baseUri).filter(filter).body("{}").put("/posts/1");
+
+        assertEquals(cache.size(), 1, "only /users/1 survives");
+        assertEquals(cache.getStats().getInvalidations(), 3);
+        int before = requests.get();
+        given().baseUri(baseUri).filter(filter).get("/posts/1");
+        assertEquals(requests.get(), before + 1);
+    }
+
+    @Test
+    public void testWriteDuringGetKeepsItsResponseOutOfCache() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        Filter filter = new ResponseCacheFilter(cache);
+        // the PUT completes after the GET's response arrives but before the cache filter stores it
+        Filter slowGet = (requestSpec, responseSpec, ctx) -> {
+            Response response = ctx.next(requestSpec, responseSpec);
+            given().baseUri(baseUri).filter(filter).body("{}").put("/posts/1");
+            return response;
+        };
+
+        assertEquals(given().baseUri(baseUri).filter(filter).filter(slowGet).get("/posts/1").getStatusCode(), 200);
+
+        assertEquals(cache.size(), 0);
+        int before = requests.get();
+        given().baseUri(baseUri).filter(filter).get("/posts/1");
+        assertEquals(requests.get(), before + 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        ResponseCache cache = new ResponseCache(2, 60_000);
+        Filter filter = new ResponseCacheFilter(cache);
+        given().baseUri(baseUri).filter(filter).get("/users/1");
+        given().baseUri(baseUri).filter(filter).get("/users/2");
+        given().baseUri(baseUri).filter(filter).get("/users/1");
+        given().baseUri(baseUri).filter(filter).get("/users/3");
+
+        assertEquals(cache.getStats().getEvictions(), 1);
+        int before = requests.get();
+        given().baseUri(baseUri).filter(filter).get("/users/1");
+        assertEquals(requests.get(), before, "/users/1 was used recently and stays cached");
+        given().baseUri(baseUri).filter(filter).get("/users/2");
+        assertEquals(requests.get(), before + 1, "/users/2 was evicted");
+    }
+
+    @Test
+    public void testCacheControlIsHonoured() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        Filter filter = new ResponseCacheFilter(cache);
+
+        cacheControl.put("/users/1", "no-store");
+        given().baseUri(baseUri).filter(filter).get("/users/1");
+        assertEquals(cache.size(), 0);
+
+        cacheControl.put("/users/2", "public, max-age=0");
+        given().baseUri(baseUri).filter(filter).get("/users/2");
+        given().baseUri(baseUri).filter(filter).get("/users/2");
+        assertEquals(requests.get(), 3);
+        assertEquals(cache.getStats().getRevalidations(), 1);
+    }
+
+    @Test
+    public void testErrorsAndCallerConditionalsBypassCache() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        Filter filter = new ResponseCacheFilter(cache);
+
+        given().baseUri(baseUri).filter(filter).get("/missing");
+        assertEquals(cache.size(), 0);
+
+        given().baseUri(baseUri).filter(filter).get("/users/1");
+        Response conditional = given().baseUri(baseUri).filter(filter)
+                .header("If-None-Match", "\"/users/1\"").get("/users/1");
+        assertEquals(conditional.getStatusCode(), 304);
+        assertEquals(requests.get(), 3);
+    }
+
+    @Test
+    public void testUserServiceUsesCacheWhenEnabled() {
+        System.setProperty("http.cache.enabled", "true");
+        System.setProperty("base.uri", baseUri);
+        try {
+            ConfigManager.getInstance().reload();
+            RestClient.resetSpecs();
+            ResponseCache.getInstance().clear();
+            long hitsBefore = ResponseCache.getInstance().getStats().getHits();
+            UserService userService = new UserService();
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(userService.getUserByIdAsObject(7).getName(), "User /users/7");
+            }
+
+            assertEquals(requests.get(), 1);
+            assertEquals(ResponseCache.getInstance().getStats().getHits() - hitsBefore, 2);
+        } finally {
+            System.clearProperty("http.cache.enabled");
+            System.clearProperty("base.uri");
+            ConfigManager.getInstance().reload();
+            RestClient.resetSpecs();
+            ResponseCache.getInstance().clear();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String path = exchange.getRequestURI().toString();
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        conditionalHeaders.add("If-None-Match=" + ifNoneMatch + ", If-Modified-Since=" + ifModifiedSince);
+
+        if (path.startsWith("/missing")) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        boolean dated = path.startsWith("/dated");
+        String etag = "\"" + path + "\"";
+        if (dated) {
+            exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+        } else {
+            exchange.getResponseHeaders().add("ETag", etag);
+        }
+        if (cacheControl.containsKey(path)) {
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl.get(path));
+        }
+        if ((!dated && etag.equals(ifNoneMatch)) || (dated && LAST_MODIFIED.equals(ifModifiedSince))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = ("{\"id\":1,\"name\":\"User " + path + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
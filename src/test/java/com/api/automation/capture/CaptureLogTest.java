@@ -0,0 +1,278 @@
+package com.api.automation.capture;
+
+import com.api.automation.stub.StubServer;
+import io.restassured.http.ContentType;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for CaptureLogWriter, CaptureLogReader and RecordingFilter
+ */
+public class CaptureLogTest {
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("capture-log-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @DataProvider
+    public Object[][] compression() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    @Test(dataProvider = "compression")
+    public void testRoundTrip(boolean compress) throws IOException {
+        Path file = directory.resolve("round-trip-" + compress + ".bin");
+        CapturedExchange first = exchange(1_000L, "GET", "/users/1", null, "{\"id\":1}");
+        CapturedExchange second = exchange(2_500L, "POST", "/posts", "{\"title\":\"é\"}", "{\"id\":101}");
+
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, compress)) {
+            writer.append(first);
+            writer.append(second);
+            assertEquals(writer.getRecordCount(), 2);
+        }
+
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            assertEquals(reader.isCompressed(), compress);
+            List<CapturedExchange> exchanges = reader.readAll();
+            assertEquals(exchanges.size(), 2);
+            assertExchange(exchanges.get(0), first);
+            assertExchange(exchanges.get(1), second);
+        }
+    }
+
+    @Test
+    public void testCompressionShrinksRepetitiveBodies() throws IOException {
+        String body = "{\"title\":\"" + "lorem ipsum ".repeat(200) + "\"}";
+        Path plain = directory.resolve("plain.bin");
+        Path compressed = directory.resolve("compressed.bin");
+        try (CaptureLogWriter plainWriter = new CaptureLogWriter(plain, false);
+             CaptureLogWriter compressedWriter = new CaptureLogWriter(compressed, true)) {
+            for (int i = 0; i < 10; i++) {
+                plainWriter.append(exchange(i, "GET", "/posts/" + i, null, body));
+                compressedWriter.append(exchange(i, "GET", "/posts/" + i, null, body));
+            }
+        }
+        assertTrue(Files.size(compressed) * 10 < Files.size(plain),
+                Files.size(compressed) + " vs " + Files.size(plain));
+    }
+
+    @Test
+    public void testReopeningAppendsAndKeepsCompressionFlag() throws IOException {
+        Path file = directory.resolve("append.bin");
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, true)) {
+            writer.append(exchange(1L, "GET", "/users/1", null, "{}"));
+        }
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, false)) {
+            assertTrue(writer.isCompressed());
+            writer.append(exchange(2L, "GET", "/users/2", null, "{}"));
+        }
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            List<CapturedExchange> exchanges = reader.readAll();
+            assertEquals(exchanges.size(), 2);
+            assertEquals(exchanges.get(1).getUri(), "/users/2");
+        }
+    }
+
+    @Test
+    public void testRecordLargerThanBufferIsWrittenDirectly() throws IOException {
+        Path file = directory.resolve("large.bin");
+        String body = "x".repeat(10_000);
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, false, 1024)) {
+            writer.append(exchange(1L, "GET", "/small", null, "{}"));
+            writer.append(exchange(2L, "GET", "/large", null, body));
+            writer.append(exchange(3L, "GET", "/after", null, "{}"));
+        }
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            List<CapturedExchange> exchanges = reader.readAll();
+            assertEquals(exchanges.size(), 3);
+            assertEquals(new String(exchanges.get(1).getResponseBody(), StandardCharsets.UTF_8), body);
+            assertEquals(exchanges.get(2).getUri(), "/after");
+        }
+    }
+
+    @Test
+    public void testTornTailEndsIteration() throws IOException {
+        Path file = directory.resolve("torn.bin");
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, false)) {
+            writer.append(exchange(1L, "GET", "/users/1", null, "{}"));
+            writer.append(exchange(2L, "GET", "/users/2", null, "{}"));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            List<CapturedExchange> exchanges = reader.readAll();
+            assertEquals(exchanges.size(), 1);
+            assertEquals(exchanges.get(0).getUri(), "/users/1");
+        }
+    }
+
+    @Test
+    public void testReopeningCutsTornRecordBeforeAppending() throws IOException {
+        Path file = directory.resolve("torn-reopen.bin");
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, false)) {
+            writer.append(exchange(1L, "GET", "/users/1", null, "{}"));
+            writer.append(exchange(2L, "GET", "/users/2", null, "{}"));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, false)) {
+            writer.append(exchange(3L, "GET", "/users/3", null, "{}"));
+        }
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            List<CapturedExchange> exchanges = reader.readAll();
+            assertEquals(exchanges.size(), 2);
+            assertEquals(exchanges.get(0).getUri(), "/users/1");
+            assertEquals(exchanges.get(1).getUri(), "/users/3");
+        }
+    }
+
+    @Test
+    public void testReopeningTornHeaderStartsOver() throws IOException {
+        Path file = directory.resolve("torn-header.bin");
+        Files.write(file, new byte[]{'R', 'A', 'C'});
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, true)) {
+            writer.append(exchange(1L, "GET", "/users/1", null, "{}"));
+        }
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            assertEquals(reader.readAll().get(0).getUri(), "/users/1");
+        }
+    }
+
+    @Test
+    public void testRejectsForeignFile() throws IOException {
+        Path file = directory.resolve("foreign.bin");
+        Files.write(file, "not a capture log".getBytes(StandardCharsets.US_ASCII));
+        expectThrows(IOException.class, () -> new CaptureLogReader(file));
+        expectThrows(IOException.class, () -> new CaptureLogWriter(file, false));
+    }
+
+    @Test
+    public void testAppendAfterCloseFails() throws IOException {
+        CaptureLogWriter writer = new CaptureLogWriter(directory.resolve("closed.bin"), false);
+        writer.close();
+        expectThrows(IllegalStateException.class, () -> writer.append(exchange(1L, "GET", "/", null, "{}")));
+    }
+
+    @Test
+    public void testFlushMakesRecordsReadable() throws IOException {
+        Path file = directory.resolve("flush.bin");
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, false)) {
+            writer.append(exchange(1L, "GET", "/users/1", null, "{}"));
+            writer.flush();
+            try (CaptureLogReader reader = new CaptureLogReader(file)) {
+                assertEquals(reader.readAll().size(), 1);
+            }
+        }
+    }
+
+    @Test
+    public void testRecordingFilterCapturesExchanges() throws IOException {
+        Path file = directory.resolve("recorded.bin");
+        try (StubServer server = StubServer.start(0, 1);
+             CaptureLogWriter writer = new CaptureLogWriter(file, true)) {
+            RecordingFilter filter = new RecordingFilter(writer);
+            given().baseUri(server.getBaseUri()).filter(filter).get("/users/1");
+            given().baseUri(server.getBaseUri()).filter(filter).contentType(ContentType.JSON)
+                    .body("{\"name\":\"Phone\"}").post("/objects");
+            given().baseUri(server.getBaseUri()).filter(filter).get("/posts/1000");
+        }
+
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            List<CapturedExchange> exchanges = reader.readAll();
+            assertEquals(exchanges.size(), 3);
+
+            CapturedExchange get = exchanges.get(0);
+            assertEquals(get.getMethod(), "GET");
+            assertTrue(get.getUri().endsWith("/users/1"), get.getUri());
+            assertEquals(get.getStatusCode(), 200);
+            assertTrue(new String(get.getResponseBody(), StandardCharsets.UTF_8).contains("Leanne Graham"));
+            assertTrue(get.getLatencyNanos() > 0);
+
+            CapturedExchange post = exchanges.get(1);
+            assertEquals(post.getMethod(), "POST");
+            assertEquals(new String(post.getRequestBody(), StandardCharsets.UTF_8), "{\"name\":\"Phone\"}");
+            assertTrue(post.getRequestHeaders().get("Content-Type").startsWith("application/json"));
+            assertTrue(post.getTimestampMicros() >= get.getTimestampMicros());
+
+            assertEquals(exchanges.get(2).getStatusCode(), 404);
+        }
+    }
+
+    @Test
+    public void testRecordingFilterRedactsSensitiveHeaders() throws IOException {
+        Path file = directory.resolve("redacted.bin");
+        try (StubServer server = StubServer.start(0, 1);
+             CaptureLogWriter writer = new CaptureLogWriter(file, false)) {
+            given().baseUri(server.getBaseUri()).filter(new RecordingFilter(writer, Set.of()))
+                    .header("Authorization", "Bearer secret-token").header("X-Request-Id", "42")
+                    .get("/users/1");
+            given().baseUri(server.getBaseUri()).filter(new RecordingFilter(writer, Set.of("authorization")))
+                    .header("Authorization", "Bearer secret-token")
+                    .get("/users/1");
+        }
+
+        try (CaptureLogReader reader = new CaptureLogReader(file)) {
+            List<CapturedExchange> exchanges = reader.readAll();
+            assertEquals(exchanges.get(0).getRequestHeaders().get("Authorization"), RecordingFilter.REDACTED);
+            assertEquals(exchanges.get(0).getRequestHeaders().get("X-Request-Id"), "42");
+            assertEquals(exchanges.get(1).getRequestHeaders().get("Authorization"), "Bearer secret-token");
+        }
+    }
+
+    @Test
+    public void testRecordingFailureDoesNotFailRequest() throws IOException {
+        CaptureLogWriter writer = new CaptureLogWriter(directory.resolve("failing.bin"), false);
+        writer.close();
+        try (StubServer server = StubServer.start(0, 1)) {
+            assertEquals(given().baseUri(server.getBaseUri()).filter(new RecordingFilter(writer))
+                    .get("/users/1").getStatusCode(), 200);
+        }
+    }
+
+    private static CapturedExchange exchange(long timestampMicros, String method, String uri,
+                                             String requestBody, String responseBody) {
+        return new CapturedExchange(timestampMicros, method, uri, Map.of("Accept", "application/json"),
+                requestBody == null ? null : requestBody.getBytes(StandardCharsets.UTF_8), 200,
+                responseBody.getBytes(StandardCharsets.UTF_8), 1_234L);
+    }
+
+    private static void assertExchange(CapturedExchange actual, CapturedExchange expected) {
+        assertEquals(actual.getTimestampMicros(), expected.getTimestampMicros());
+        assertEquals(actual.getMethod(), expected.getMethod());
+        assertEquals(actual.getUri(), expected.getUri());
+        assertEquals(actual.getRequestHeaders(), expected.getRequestHeaders());
+        assertEquals(actual.getRequestBody(), expected.getRequestBody());
+        assertEquals(actual.getStatusCode(), expected.getStatusCode());
+        assertEquals(actual.getResponseBody(), expected.getResponseBody());
+        assertEquals(actual.getLatencyNanos(), expected.getLatencyNanos());
+    }
+}
@@ -0,0 +1,160 @@
+package com.api.automation.config;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for ConfigManager and ConfigSnapshot
+ */
+public class ConfigManagerTest {
+    private Path overlay;
+
+    @BeforeMethod
+    public void createOverlay() throws IOException {
+        overlay = Files.createTempFile("config", ".properties");
+    }
+
+    @AfterMethod
+    public void restoreConfig() throws IOException {
+        ConfigManager config = ConfigManager.getInstance();
+        config.stopWatching();
+        System.clearProperty("config.file");
+        System.clearProperty("logging.sample.interval");
+        config.reload();
+        Files.deleteIfExists(overlay);
+    }
+
+    @Test
+    public void testLoadsClasspathConfiguration() {
+        ConfigSnapshot snapshot = ConfigManager.load(new HashMap<>(), new Properties());
+        assertEquals(snapshot.getBaseUri(), "https://jsonplaceholder.typicode.com");
+        assertEquals(snapshot.getTimeout(), 30);
+        assertEquals(snapshot.getLoggingMode(), LoggingMode.OFF);
+        assertEquals(snapshot.getWorkflowExecutorType(), "virtual");
+        assertFalse(snapshot.isConfigWatch());
+    }
+
+    @Test
+    public void testOverlayPrecedence() throws IOException {
+        Files.writeString(overlay, "timeout=40\nenvironment=staging\nlogging.mode=headers\n");
+        Map<String, String> environment = new HashMap<>();
+        environment.put("CONFIG_FILE", overlay.toString());
+        environment.put("ENVIRONMENT", "qa");
+        environment.put("LOGGING_MODE", "full");
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("logging.mode", "sampled");
+
+        ConfigSnapshot snapshot = ConfigManager.load(environment, systemProperties);
+
+        assertEquals(snapshot.getTimeout(), 40, "overlay file overrides config.properties");
+        assertEquals(snapshot.getEnvironment(), "qa", "environment variable overrides overlay file");
+        assertEquals(snapshot.getLoggingMode(), LoggingMode.SAMPLED, "system property overrides environment");
+        assertEquals(snapshot.getHttpPoolMaxTotal(), 200, "untouched keys keep their configured value");
+    }
+
+    @Test
+    public void testSystemPropertyNamesOverlayFile() throws IOException {
+        Files.writeString(overlay, "timeout=45\n");
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("config.file", overlay.toString());
+        assertEquals(ConfigManager.load(new HashMap<>(), systemProperties).getTimeout(), 45);
+    }
+
+    @Test
+    public void testMalformedValueFailsLoad() {
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("http.pool.max.total", "lots");
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+                () -> ConfigManager.load(new HashMap<>(), systemProperties));
+        assertTrue(e.getMessage().contains("http.pool.max.total"), e.getMessage());
+    }
+
+    @Test
+    public void testSnapshotIsImmutable() {
+        ConfigSnapshot snapshot = ConfigManager.getInstance().getSnapshot();
+        expectThrows(UnsupportedOperationException.class, () -> snapshot.asMap().put("timeout", "1"));
+    }
+
+    @Test
+    public void testReloadSwapsSnapshot() {
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot before = config.getSnapshot();
+        System.setProperty("logging.sample.interval", "7");
+
+        ConfigSnapshot after = config.reload();
+
+        assertNotSame(after, before);
+        assertSame(config.getSnapshot(), after);
+        assertEquals(config.getLoggingSampleInterval(), 7);
+        assertEquals(before.getLoggingSampleInterval(), 100, "old snapshots never change");
+    }
+
+    @Test
+    public void testFailedReloadKeepsSnapshot() {
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot before = config.getSnapshot();
+        System.setProperty("logging.sample.interval", "often");
+        expectThrows(IllegalArgumentException.class, config::reload);
+        assertSame(config.getSnapshot(), before);
+    }
+
+    @Test
+    public void testConcurrentGetInstance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ConfigManager>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return ConfigManager.getInstance();
+                }));
+            }
+            start.countDown();
+            for (Future<ConfigManager> future : futures) {
+                assertSame(future.get(), ConfigManager.getInstance());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWatcherReloadsChangedOverlay() throws Exception {
+        Files.writeString(overlay, "logging.sample.interval=3\n");
+        System.setProperty("config.file", overlay.toString());
+        ConfigManager config = ConfigManager.getInstance();
+        config.reload();
+        config.startWatching();
+        assertTrue(config.isWatching());
+        assertEquals(config.getLoggingSampleInterval(), 3);
+
+        Files.writeString(overlay, "logging.sample.interval=9\n");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (config.getLoggingSampleInterval() != 9 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(config.getLoggingSampleInterval(), 9);
+
+        config.stopWatching();
+        assertFalse(config.isWatching());
+    }
+}
@@ -0,0 +1,66 @@
+package com.api.automation.dataproviders;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * CSV-backed TestNG data providers.
+ *
+ * Every method returns a lazy {@code Iterator<Object[]>}, which TestNG accepts from a
+ * {@code @DataProvider}: records are parsed from the memory-mapped file one at a time as
+ * test invocations consume them, so data files of any size never sit in the heap. That only holds
+ * for sequential providers: TestNG reads the whole iterator of a {@code parallel = true} provider
+ * before the first invocation, so keep streaming providers sequential.
+ *
+ * <pre>
+ * &#64;DataProvider(name = "users")
+ * public Iterator&lt;Object[]&gt; users() {
+ *     return CsvDataProvider.objects("src/test/resources/users.csv", RowMappers::toUser);
+ * }
+ * </pre>
+ */
+public final class CsvDataProvider {
+
+    private CsvDataProvider() {
+    }
+
+    /**
+     * Provide every record as its raw string fields, one test parameter per column
+     * @param filePath CSV file with a header record
+     * @return lazy parameter iterator
+     */
+    public static Iterator<Object[]> rows(String filePath) {
+        return rows(filePath, DataRow::values);
+    }
+
+    /**
+     * Provide every record mapped to test parameters
+     * @param filePath CSV file with a header record
+     * @param toParameters builds the parameter array for one record
+     * @return lazy parameter iterator
+     */
+    public static Iterator<Object[]> rows(String filePath, Function<DataRow, Object[]> toParameters) {
+        return new ParameterIterator(CsvReader.open(Paths.get(filePath)), toParameters);
+    }
+
+    /**
+     * Provide every record mapped to a single typed test parameter
+     * @param filePath CSV file with a header record
+     * @param mapper builds the object for one record, e.g. {@code RowMappers::toUser}
+     * @return lazy parameter iterator yielding {@code {T}}
+     */
+    public static <T> Iterator<Object[]> objects(String filePath, Function<DataRow, T> mapper) {
+        return rows(filePath, row -> new Object[] { mapper.apply(row) });
+    }
+
+    /**
+     * Open a CSV file for direct iteration
+     * @param path CSV file with a header record
+     * @return reader; close it if not read to the end
+     */
+    public static CsvReader open(Path path) {
+        return CsvReader.open(path);
+    }
+}
@@ -0,0 +1,249 @@
+package com.api.automation.dataproviders;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy RFC-4180 CSV reader over a memory-mapped file.
+ *
+ * The file is mapped in fixed-size read-only windows, so files larger than the heap (or 2 GB)
+ * are read with constant memory. Fields are scanned byte by byte: quoted fields may contain
+ * commas, line breaks and doubled quotes; records end with CRLF or LF. The first record is the
+ * header. Blank lines are skipped and a leading UTF-8 byte order mark is ignored.
+ */
+public final class CsvReader implements Iterator<DataRow>, Closeable {
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final Map<String, Integer> columns;
+    private final List<String> header;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long recordNumber;
+
+    private byte[] field = new byte[256];
+    private int fieldLength;
+    private final List<String> fields = new ArrayList<>();
+
+    private DataRow next;
+    private boolean closed;
+
+    private CsvReader(Path path, int windowSize) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        String[] headerFields = readHeader();
+        this.header = headerFields != null ? List.of(headerFields) : Collections.emptyList();
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.putIfAbsent(header.get(i).trim(), i);
+        }
+        this.columns = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Open a CSV file whose first record is the header
+     * @param path CSV file
+     * @return reader positioned at the first data record
+     */
+    public static CsvReader open(Path path) {
+        return open(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    static CsvReader open(Path path, int windowSize) {
+        try {
+            return new CsvReader(path, windowSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open CSV file: " + path, e);
+        }
+    }
+
+    /**
+     * Get the header fields
+     * @return column names in file order
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        String[] values = readRecordUnchecked();
+        if (values == null) {
+            close();
+            return false;
+        }
+        next = new DataRow(columns, values);
+        return true;
+    }
+
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        DataRow row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Release the file. Called automatically once the last record has been read.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        window = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close CSV file: " + path, e);
+        }
+    }
+
+    private String[] readHeader() throws IOException {
+        try {
+            skipByteOrderMark();
+            return readRecord();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private String[] readRecordUnchecked() {
+        try {
+            return readRecord();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to read CSV file: " + path, e);
+        } catch (RuntimeException e) {
+            // a malformed record ends iteration; TestNG never closes the iterator, so release the file here
+            close();
+            throw e;
+        }
+    }
+
+    private String[] readRecord() throws IOException {
+        int b = read();
+        while (b == '\r' || b == '\n') {
+            b = read();
+        }
+        if (b == -1) {
+            return null;
+        }
+        recordNumber++;
+        fields.clear();
+        while (true) {
+            fieldLength = 0;
+            if (b == '"') {
+                b = readQuotedField();
+            } else {
+                while (b != ',' && b != '\n' && b != '\r' && b != -1) {
+                    append(b);
+                    b = read();
+                }
+            }
+            fields.add(new String(field, 0, fieldLength, StandardCharsets.UTF_8));
+            if (b != ',') {
+                break;
+            }
+            b = read();
+        }
+        if (b == '\r' && peek() == '\n') {
+            read();
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Read a quoted field after its opening quote
+     * @return the byte following the closing quote
+     */
+    private int readQuotedField() throws IOException {
+        while (true) {
+            int b = read();
+            if (b == -1) {
+                throw malformed("unterminated quoted field");
+            }
+            if (b == '"') {
+                if (peek() != '"') {
+                    int after = read();
+                    if (after != ',' && after != '\n' && after != '\r' && after != -1) {
+                        throw malformed("unexpected character after closing quote");
+                    }
+                    return after;
+                }
+                read();
+            }
+            append(b);
+        }
+    }
+
+    private void append(int b) {
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, field.length * 2);
+        }
+        field[fieldLength++] = (byte) b;
+    }
+
+    private int read() throws IOException {
+        int b = peek();
+        if (b != -1) {
+            position++;
+        }
+        return b;
+    }
+
+    private int peek() throws IOException {
+        if (position >= fileSize) {
+            return -1;
+        }
+        if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                    Math.min(windowSize, fileSize - windowStart));
+        }
+        return window.get((int) (position - windowStart)) & 0xFF;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (read() == 0xEF && read() == 0xBB && read() == 0xBF) {
+            return;
+        }
+        position = 0;
+    }
+
+    private IllegalStateException malformed(String reason) {
+        return new IllegalStateException("Malformed CSV in " + path + " at record " + recordNumber + ": " + reason);
+    }
+}
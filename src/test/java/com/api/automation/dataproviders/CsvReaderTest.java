@@ -0,0 +1,164 @@
+package com.api.automation.dataproviders;
+
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for CsvReader and CsvDataProvider
+ */
+public class CsvReaderTest {
+    private Path file;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file = Files.createTempFile("data", ".csv");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private List<String[]> readAll(String content, int windowSize) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        List<String[]> rows = new ArrayList<>();
+        try (CsvReader reader = CsvReader.open(file, windowSize)) {
+            reader.forEachRemaining(row -> rows.add(row.values()));
+        }
+        return rows;
+    }
+
+    @Test
+    public void testQuotedFieldsFollowRfc4180() throws IOException {
+        String csv = "id,title,body\r\n"
+                + "1,\"Hello, world\",\"She said \"\"hi\"\"\"\r\n"
+                + "2,\"multi\nline\",\r\n"
+                + "3,,\"\"\r\n";
+
+        List<String[]> rows = readAll(csv, CsvReader.DEFAULT_WINDOW_SIZE);
+
+        assertEquals(rows.size(), 3);
+        assertEquals(rows.get(0), new String[] {"1", "Hello, world", "She said \"hi\""});
+        assertEquals(rows.get(1), new String[] {"2", "multi\nline", ""});
+        assertEquals(rows.get(2), new String[] {"3", "", ""});
+    }
+
+    @Test
+    public void testRecordsSpanningMappedWindows() throws IOException {
+        StringBuilder csv = new StringBuilder("id,text\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(i).append(",\"value ").append(i).append(", with \"\"quotes\"\" and ünïcödé\"\n");
+        }
+
+        List<String[]> rows = readAll(csv.toString(), 7);
+
+        assertEquals(rows.size(), 500);
+        assertEquals(rows.get(499), new String[] {"499", "value 499, with \"quotes\" and ünïcödé"});
+    }
+
+    @Test
+    public void testByteOrderMarkBlankLinesAndMissingTrailingNewline() throws IOException {
+        String csv = "\uFEFFemail,role\n\nadmin@example.com,ADMIN\n\n\nuser@example.com,USER";
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+
+        try (CsvReader reader = CsvReader.open(file, 2)) {
+            assertEquals(reader.getHeader(), List.of("email", "role"));
+            assertEquals(reader.next().get("email"), "admin@example.com");
+            assertEquals(reader.next().get("role"), "USER");
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testEmptyFileHasNoRows() throws IOException {
+        try (CsvReader reader = CsvReader.open(file)) {
+            assertTrue(reader.getHeader().isEmpty());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testMalformedQuotedFieldIsReported() throws IOException {
+        Files.write(file, "id,name\n1,\"unterminated\n".getBytes(StandardCharsets.UTF_8));
+
+        CsvReader reader = CsvReader.open(file);
+        IllegalStateException error = expectThrows(IllegalStateException.class, reader::hasNext);
+        assertFalse(reader.hasNext(), "the reader closes itself on a malformed record");
+
+        assertTrue(error.getMessage().contains("record 2"), error.getMessage());
+    }
+
+    @Test
+    public void testTypedUserAndPostMapping() throws IOException {
+        Files.write(file, ("id,name,username,email,address.city,address.geo.lat,address.geo.lng,company.name\n"
+                + "1,Leanne Graham,Bret,Sincere@april.biz,Gwenborough,-37.3159,81.1496,Romaguera-Crona\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        Iterator<Object[]> users = CsvDataProvider.objects(file.toString(), RowMappers::toUser);
+        User user = (User) users.next()[0];
+        assertFalse(users.hasNext());
+
+        assertEquals(user.getId(), Integer.valueOf(1));
+        assertEquals(user.getUsername(), "Bret");
+        assertEquals(user.getAddress().getCity(), "Gwenborough");
+        assertEquals(user.getAddress().getGeo().getLng(), "81.1496");
+        assertEquals(user.getCompany().getName(), "Romaguera-Crona");
+        assertNull(user.getPhone());
+
+        Files.write(file, "userId,id,title,body\n1,2,\"a, b\",\n".getBytes(StandardCharsets.UTF_8));
+        Post post = (Post) CsvDataProvider.objects(file.toString(), RowMappers::toPost).next()[0];
+
+        assertEquals(post, Post.builder().userId(1).id(2).title("a, b").body("").build());
+    }
+
+    @Test
+    public void testRepositoryCsvDrivesProviders() {
+        Iterator<Object[]> rows = CsvDataProvider.rows("src/test/resources/testdata.csv",
+                row -> new Object[] {row.get("email"), row.getBoolean("enabled")});
+
+        Object[] first = rows.next();
+        assertEquals(first, new Object[] {"admin@example.com", true});
+        int count = 1;
+        while (rows.hasNext()) {
+            rows.next();
+            count++;
+        }
+        assertEquals(count, 7);
+    }
+
+    @Test
+    public void testLargeFileIsReadLazily() throws IOException {
+        int records = 200_000;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("userId,id,title,body\n");
+            for (int i = 0; i < records; i++) {
+                writer.write((i % 10) + "," + i + ",\"title " + i + "\",\"body, " + i + "\"\n");
+            }
+        }
+
+        Iterator<Object[]> posts = CsvDataProvider.objects(file.toString(), RowMappers::toPost);
+        long idSum = 0;
+        int count = 0;
+        while (posts.hasNext()) {
+            idSum += ((Post) posts.next()[0]).getId();
+            count++;
+        }
+
+        assertEquals(count, records);
+        assertEquals(idSum, (long) records * (records - 1) / 2);
+    }
+}
@@ -6,10 +6,6 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.ITestContext;
@@ -37,6 +33,7 @@ import java.util.*;
  * 12. Test Context
  * 13. Builder Pattern
  */
+@Listeners(ParallelDataProviderListener.class)
 public class DataProvidersIntegrationTest {
     
     private static final Logger logger = LoggerFactory.getLogger(DataProvidersIntegrationTest.class);
@@ -89,41 +86,22 @@ public class DataProvidersIntegrationTest {
     // 3. DATA PROVIDER - CSV Data
     // ========================================
     
+    // Sequential on purpose: TestNG reads a parallel provider's whole iterator up front,
+    // which would load every CSV record instead of streaming them
     @DataProvider(name = "csvData")
-    public Object[][] csvDataProvider() {
+    public Iterator<Object[]> csvDataProvider() {
         logger.info("Loading CSV data provider");
-        return loadCsvData("src/test/resources/testdata.csv");
+        return ShardedDataProvider.shard(loadCsvData("src/test/resources/testdata.csv"));
     }
     
-    private Object[][] loadCsvData(String filePath) {
-        List<Object[]> data = new ArrayList<>();
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isHeader = true;
-            
-            while ((line = br.readLine()) != null) {
-                if (isHeader) {
-                    isHeader = false;
-                    continue;
-                }
-                
-                String[] values = line.split(",");
-                if (values.length >= 3) {
-                    data.add(new Object[] {
-                        values[0].trim(),      // email
-                        values[1].trim(),      // password
-                        values[2].trim(),      // role
-                        Boolean.parseBoolean(values[3].trim())  // enabled
-                    });
-                }
-            }
-            logger.info("Loaded {} records from CSV file", data.size());
-        } catch (IOException e) {
-            logger.error("Error loading CSV data: {}", e.getMessage());
-        }
-        
-        return data.toArray(new Object[0][]);
+    private Iterator<Object[]> loadCsvData(String filePath) {
+        // Records are parsed lazily as TestNG consumes them
+        return CsvDataProvider.rows(filePath, row -> new Object[] {
+            row.get("email"),
+            row.get("password"),
+            row.get("role"),
+            row.getBoolean("enabled")
+        });
     }
     
     @Test(dataProvider = "csvData", groups = "csvData")
@@ -137,10 +115,10 @@ public class DataProvidersIntegrationTest {
     // 4. DATA PROVIDER - JSON Data
     // ========================================
     
-    @DataProvider(name = "jsonData")
+    @DataProvider(name = "jsonData", parallel = true)
     public Object[][] jsonDataProvider() {
         logger.info("Loading JSON data provider");
-        return loadJsonData("src/test/resources/testdata.json");
+        return ShardedDataProvider.shard(loadJsonData("src/test/resources/testdata.json"));
     }
     
     private Object[][] loadJsonData(String filePath) {
@@ -175,6 +153,28 @@ public class DataProvidersIntegrationTest {
         assert role != null : "Role from JSON should not be null";
     }
     
+    // ========================================
+    // 4a. DATA PROVIDER - Excel Data
+    // ========================================
+    
+    @DataProvider(name = "excelData")
+    public Iterator<Object[]> excelDataProvider() {
+        logger.info("Loading Excel data provider");
+        // Rows are streamed from the sheet XML instead of loading the workbook DOM
+        return ExcelDataProvider.rows("src/test/resources/testdata.xlsx", row -> new Object[] {
+            row.get("email"),
+            row.get("role"),
+            row.getBoolean("enabled")
+        });
+    }
+    
+    @Test(dataProvider = "excelData", groups = "excelData")
+    public void testWithExcelData(String email, String role, boolean enabled) {
+        logger.info("Testing with Excel Data - Email: {}, Role: {}, Enabled: {}", email, role, enabled);
+        assert email != null && !email.isEmpty() : "Email from Excel should not be empty";
+        assert role != null && !role.isEmpty() : "Role from Excel should not be empty";
+    }
+    
     // ========================================
     // 5. TESTNG XML PARAMETERS
     // ========================================
@@ -0,0 +1,83 @@
+package com.api.automation.dataproviders;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * One data file record (CSV line or spreadsheet row) with typed access by column name.
+ * Columns missing from the header, and empty fields read through the typed
+ * accessors, are returned as null.
+ */
+public final class DataRow {
+    private final Map<String, Integer> columns;
+    private final String[] values;
+
+    DataRow(Map<String, Integer> columns, String[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Get a field by position
+     * @param index zero-based column index
+     * @return raw field value, or null if the record is shorter
+     */
+    public String get(int index) {
+        return index < values.length ? values[index] : null;
+    }
+
+    /**
+     * Get a field by column name
+     * @param column header name
+     * @return raw field value, or null if the column does not exist
+     */
+    public String get(String column) {
+        Integer index = columns.get(column);
+        return index != null ? get(index) : null;
+    }
+
+    public Integer getInteger(String column) {
+        String value = trimmed(column);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    public Long getLong(String column) {
+        String value = trimmed(column);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    public boolean getBoolean(String column) {
+        return Boolean.parseBoolean(trimmed(column));
+    }
+
+    /**
+     * Check whether the header contains a column
+     * @param column header name
+     * @return true if present
+     */
+    public boolean hasColumn(String column) {
+        return columns.containsKey(column);
+    }
+
+    /**
+     * Get all fields in file order
+     * @return copy of the record's fields
+     */
+    public String[] values() {
+        return values.clone();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    private String trimmed(String column) {
+        String value = get(column);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+}
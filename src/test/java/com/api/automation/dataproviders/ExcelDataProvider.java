@@ -0,0 +1,66 @@
+package com.api.automation.dataproviders;
+
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Excel-backed TestNG data providers.
+ *
+ * Rows are streamed from the workbook as test invocations consume them (see {@link ExcelReader}),
+ * so spreadsheets with hundreds of thousands of rows feed data-driven tests in bounded memory.
+ * Keep these providers sequential: TestNG reads the whole iterator of a {@code parallel = true}
+ * provider before the first invocation.
+ *
+ * <pre>
+ * &#64;DataProvider(name = "posts")
+ * public Iterator&lt;Object[]&gt; posts() {
+ *     return ExcelDataProvider.objects("src/test/resources/posts.xlsx", RowMappers::toPost);
+ * }
+ * </pre>
+ */
+public final class ExcelDataProvider {
+
+    private ExcelDataProvider() {
+    }
+
+    /**
+     * Provide every row of the first sheet as its cell values, one test parameter per column
+     * @param filePath .xlsx file with a header row
+     * @return lazy parameter iterator
+     */
+    public static Iterator<Object[]> rows(String filePath) {
+        return rows(filePath, null, DataRow::values);
+    }
+
+    /**
+     * Provide every row of the first sheet mapped to test parameters
+     * @param filePath .xlsx file with a header row
+     * @param toParameters builds the parameter array for one row
+     * @return lazy parameter iterator
+     */
+    public static Iterator<Object[]> rows(String filePath, Function<DataRow, Object[]> toParameters) {
+        return rows(filePath, null, toParameters);
+    }
+
+    /**
+     * Provide every row of a sheet mapped to test parameters
+     * @param filePath .xlsx file
+     * @param sheetName sheet name, or null for the first sheet
+     * @param toParameters builds the parameter array for one row
+     * @return lazy parameter iterator
+     */
+    public static Iterator<Object[]> rows(String filePath, String sheetName, Function<DataRow, Object[]> toParameters) {
+        return new ParameterIterator(ExcelReader.open(Paths.get(filePath), sheetName), toParameters);
+    }
+
+    /**
+     * Provide every row of the first sheet mapped to a single typed test parameter
+     * @param filePath .xlsx file with a header row
+     * @param mapper builds the object for one row, e.g. {@code RowMappers::toUser}
+     * @return lazy parameter iterator yielding {@code {T}}
+     */
+    public static <T> Iterator<Object[]> objects(String filePath, Function<DataRow, T> mapper) {
+        return rows(filePath, null, row -> new Object[] { mapper.apply(row) });
+    }
+}
@@ -0,0 +1,303 @@
+package com.api.automation.dataproviders;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy row reader for .xlsx workbooks built on POI's event API.
+ *
+ * The sheet XML is pulled from {@link XSSFReader} one row at a time with StAX instead of building
+ * the {@code XSSFWorkbook} DOM, so memory stays bounded by the shared strings table rather than the
+ * sheet size. Shared strings are resolved once per index and cached. The first non-empty row is
+ * the header; missing cells read as empty strings, booleans as "true"/"false" and numbers in
+ * plain decimal form (e.g. "2019", "1849.99"). Numbers whose cell style has a date format are
+ * formatted with POI's {@link DataFormatter} instead of being returned as Excel serial numbers.
+ */
+public final class ExcelReader implements Iterator<DataRow>, Closeable {
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final Path path;
+    private final OPCPackage workbook;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final DataFormatter dataFormatter = new DataFormatter();
+    private final String[] sharedStringCache;
+    private final InputStream sheet;
+    private final XMLStreamReader xml;
+    private final Map<String, Integer> columns;
+    private final List<String> header;
+
+    private final List<String> cells = new ArrayList<>();
+    private DataRow next;
+    private boolean closed;
+
+    private ExcelReader(Path path, String sheetName) throws Exception {
+        this.path = path;
+        this.workbook = OPCPackage.open(path.toFile(), PackageAccess.READ);
+        try {
+            XSSFReader reader = new XSSFReader(workbook);
+            this.sharedStrings = new ReadOnlySharedStringsTable(workbook);
+            this.sharedStringCache = new String[sharedStrings.getUniqueCount()];
+            this.styles = reader.getStylesTable();
+            this.sheet = openSheet(reader, sheetName);
+            this.xml = XML_INPUT_FACTORY.createXMLStreamReader(sheet);
+            String[] headerCells = readRow();
+            this.header = headerCells != null ? List.of(headerCells) : Collections.emptyList();
+        } catch (Exception e) {
+            workbook.revert();
+            throw e;
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.putIfAbsent(header.get(i).trim(), i);
+        }
+        this.columns = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Open the first sheet of a workbook
+     * @param path .xlsx file whose first row is the header
+     * @return reader positioned at the first data row
+     */
+    public static ExcelReader open(Path path) {
+        return open(path, null);
+    }
+
+    /**
+     * Open a named sheet of a workbook
+     * @param path .xlsx file
+     * @param sheetName sheet name, or null for the first sheet
+     * @return reader positioned at the first data row
+     */
+    public static ExcelReader open(Path path, String sheetName) {
+        try {
+            return new ExcelReader(path, sheetName);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to open workbook: " + path, e);
+        }
+    }
+
+    /**
+     * Get the header cells
+     * @return column names in sheet order
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        String[] values;
+        try {
+            values = readRow();
+        } catch (XMLStreamException | RuntimeException e) {
+            close();
+            throw new IllegalStateException("Failed to read workbook: " + path, e);
+        }
+        if (values == null) {
+            close();
+            return false;
+        }
+        next = new DataRow(columns, values);
+        return true;
+    }
+
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        DataRow row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Release the workbook. Called automatically once the last row has been read.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            xml.close();
+            sheet.close();
+        } catch (XMLStreamException | IOException e) {
+            throw new IllegalStateException("Failed to close workbook: " + path, e);
+        } finally {
+            workbook.revert();
+        }
+    }
+
+    private static InputStream openSheet(XSSFReader reader, String sheetName) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        throw new IllegalArgumentException("Sheet not found: " + sheetName);
+    }
+
+    /**
+     * Read the next row that has at least one cell
+     * @return cell values, or null at the end of the sheet
+     */
+    private String[] readRow() throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                readCells();
+                if (!cells.isEmpty()) {
+                    int width = Math.max(cells.size(), header != null ? header.size() : 0);
+                    String[] values = new String[width];
+                    for (int i = 0; i < width; i++) {
+                        String value = i < cells.size() ? cells.get(i) : null;
+                        values[i] = value != null ? value : "";
+                    }
+                    return values;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void readCells() throws XMLStreamException {
+        cells.clear();
+        int column = -1;
+        String type = null;
+        String style = null;
+        StringBuilder text = new StringBuilder();
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("c".equals(name)) {
+                    String reference = xml.getAttributeValue(null, "r");
+                    column = reference != null ? columnIndex(reference) : column + 1;
+                    type = xml.getAttributeValue(null, "t");
+                    style = xml.getAttributeValue(null, "s");
+                    text.setLength(0);
+                } else if ("v".equals(name) || "t".equals(name)) {
+                    text.append(xml.getElementText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("c".equals(name)) {
+                    while (cells.size() <= column) {
+                        cells.add(null);
+                    }
+                    cells.set(column, cellValue(type, style, text.toString()));
+                } else if ("row".equals(name)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private String cellValue(String type, String style, String text) {
+        if ("s".equals(type)) {
+            return sharedString(Integer.parseInt(text.trim()));
+        }
+        if ("b".equals(type)) {
+            return "1".equals(text.trim()) ? "true" : "false";
+        }
+        if ((type == null || "n".equals(type)) && !text.isEmpty()) {
+            return style != null ? styledNumber(Integer.parseInt(style), text) : plainNumber(text);
+        }
+        return text;
+    }
+
+    /**
+     * Dates are stored as serial numbers, e.g. "45122"; format them the way the cell style shows them
+     */
+    private String styledNumber(int styleIndex, String text) {
+        XSSFCellStyle cellStyle = styles != null && styleIndex < styles.getNumCellStyles()
+                ? styles.getStyleAt(styleIndex) : null;
+        if (cellStyle == null || !DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString())) {
+            return plainNumber(text);
+        }
+        try {
+            return dataFormatter.formatRawCellContents(Double.parseDouble(text.trim()),
+                    cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+        } catch (NumberFormatException e) {
+            return text;
+        }
+    }
+
+    /**
+     * Numbers are stored as doubles, e.g. "2019.0"; present them as written: "2019"
+     */
+    private static String plainNumber(String text) {
+        try {
+            return new BigDecimal(text.trim()).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            return text;
+        }
+    }
+
+    private String sharedString(int index) {
+        String value = index < sharedStringCache.length ? sharedStringCache[index] : null;
+        if (value == null) {
+            value = sharedStrings.getItemAt(index).getString();
+            if (index < sharedStringCache.length) {
+                sharedStringCache[index] = value;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Convert a cell reference such as "AB12" to a zero-based column index
+     */
+    static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+}
@@ -0,0 +1,192 @@
+package com.api.automation.dataproviders;
+
+import com.api.automation.models.Post;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for ExcelReader and ExcelDataProvider
+ */
+public class ExcelReaderTest {
+    private Path file;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file = Files.createTempFile("data", ".xlsx");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private void write(Workbook workbook) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            workbook.write(out);
+        }
+        workbook.close();
+    }
+
+    @Test
+    public void testCellTypesAndSparseRows() throws IOException {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("objects");
+        Row header = sheet.createRow(0);
+        String[] columns = {"id", "name", "year", "price", "enabled", "note"};
+        for (int i = 0; i < columns.length; i++) {
+            header.createCell(i).setCellValue(columns[i]);
+        }
+        Row first = sheet.createRow(1);
+        first.createCell(0).setCellValue("7");
+        first.createCell(1).setCellValue("Apple MacBook Pro 16");
+        first.createCell(2).setCellValue(2019);
+        first.createCell(3).setCellValue(1849.99);
+        first.createCell(4).setCellValue(true);
+        Row sparse = sheet.createRow(4);
+        sparse.createCell(1).setCellValue("Apple MacBook Pro 16");
+        sparse.createCell(5).setCellValue("only note");
+        write(workbook);
+
+        try (ExcelReader reader = ExcelReader.open(file)) {
+            assertEquals(reader.getHeader(), List.of(columns));
+
+            DataRow row = reader.next();
+            assertEquals(row.get("id"), "7");
+            assertEquals(row.get("name"), "Apple MacBook Pro 16");
+            assertEquals(row.getInteger("year"), Integer.valueOf(2019));
+            assertEquals(row.get("price"), "1849.99");
+            assertTrue(row.getBoolean("enabled"));
+            assertEquals(row.get("note"), "");
+
+            row = reader.next();
+            assertEquals(row.get("id"), "");
+            assertEquals(row.get("name"), "Apple MacBook Pro 16");
+            assertEquals(row.get("note"), "only note");
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testDateFormattedCellsAreFormatted() throws IOException {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+        CellStyle priceStyle = workbook.createCellStyle();
+        priceStyle.setDataFormat(workbook.createDataFormat().getFormat("0.00"));
+        Sheet sheet = workbook.createSheet("orders");
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("created");
+        header.createCell(1).setCellValue("price");
+        Row row = sheet.createRow(1);
+        Cell created = row.createCell(0);
+        created.setCellValue(LocalDate.of(2023, 7, 15));
+        created.setCellStyle(dateStyle);
+        Cell price = row.createCell(1);
+        price.setCellValue(1849.5);
+        price.setCellStyle(priceStyle);
+        write(workbook);
+
+        try (ExcelReader reader = ExcelReader.open(file)) {
+            DataRow first = reader.next();
+            assertEquals(first.get("created"), "2023-07-15");
+            assertEquals(first.get("price"), "1849.5");
+        }
+    }
+
+    @Test
+    public void testNamedSheetAndInlineStrings() throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook();
+        workbook.createSheet("first").createRow(0).createCell(0).setCellValue("ignored");
+        Sheet posts = workbook.createSheet("posts");
+        Row header = posts.createRow(0);
+        header.createCell(0).setCellValue("userId");
+        header.createCell(1).setCellValue("id");
+        header.createCell(2).setCellValue("title");
+        header.createCell(3).setCellValue("body");
+        Row row = posts.createRow(1);
+        row.createCell(0).setCellValue(1);
+        row.createCell(1).setCellValue(2);
+        row.createCell(2).setCellValue("inline, title");
+        row.createCell(3).setCellValue("body");
+        write(workbook);
+
+        Iterator<Object[]> rows = ExcelDataProvider.rows(file.toString(), "posts",
+                r -> new Object[] { RowMappers.toPost(r) });
+
+        assertEquals(rows.next()[0], Post.builder().userId(1).id(2).title("inline, title").body("body").build());
+        assertFalse(rows.hasNext());
+        expectThrows(IllegalArgumentException.class, () -> ExcelReader.open(file, "missing"));
+    }
+
+    @Test
+    public void testRepositoryWorkbookDrivesProviders() {
+        Iterator<Object[]> rows = ExcelDataProvider.rows("src/test/resources/testdata.xlsx",
+                row -> new Object[] { row.get("email"), row.getBoolean("enabled") });
+
+        assertEquals(rows.next(), new Object[] { "admin@example.com", true });
+        int count = 1;
+        while (rows.hasNext()) {
+            rows.next();
+            count++;
+        }
+        assertEquals(count, 7);
+    }
+
+    @Test
+    public void testLargeSheetIsStreamedWithSharedStrings() throws IOException {
+        int records = 100_000;
+        SXSSFWorkbook workbook = new SXSSFWorkbook(new XSSFWorkbook(), 100, false, true);
+        Sheet sheet = workbook.createSheet("posts");
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("userId");
+        header.createCell(1).setCellValue("id");
+        header.createCell(2).setCellValue("title");
+        for (int i = 0; i < records; i++) {
+            Row row = sheet.createRow(i + 1);
+            row.createCell(0).setCellValue(i % 10);
+            row.createCell(1).setCellValue(i);
+            row.createCell(2).setCellValue("title " + (i % 100));
+        }
+        write(workbook);
+
+        Iterator<Object[]> posts = ExcelDataProvider.objects(file.toString(), RowMappers::toPost);
+        long idSum = 0;
+        int count = 0;
+        Post last = null;
+        while (posts.hasNext()) {
+            last = (Post) posts.next()[0];
+            idSum += last.getId();
+            count++;
+        }
+
+        assertEquals(count, records);
+        assertEquals(idSum, (long) records * (records - 1) / 2);
+        assertEquals(last.getTitle(), "title 99");
+    }
+
+    @Test
+    public void testColumnIndex() {
+        assertEquals(ExcelReader.columnIndex("A1"), 0);
+        assertEquals(ExcelReader.columnIndex("Z9"), 25);
+        assertEquals(ExcelReader.columnIndex("AA10"), 26);
+        assertEquals(ExcelReader.columnIndex("AB200"), 27);
+    }
+}
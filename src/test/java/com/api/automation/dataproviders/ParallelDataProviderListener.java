@@ -0,0 +1,30 @@
+package com.api.automation.dataproviders;
+
+import com.api.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Sizes the thread pool TestNG uses for {@code @DataProvider(parallel = true)} invocations.
+ *
+ * TestNG reads the pool size from the suite when a parallel data provider starts running, so
+ * setting it here applies to every suite, including runs without a suite XML. The size comes
+ * from {@code dataprovider.thread.count}, replacing the suite's data-provider-thread-count.
+ */
+public class ParallelDataProviderListener implements ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelDataProviderListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        ConfigManager config = ConfigManager.getInstance();
+        int threadCount = config.getDataProviderThreadCount();
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("dataprovider.thread.count must be at least 1 but was " + threadCount);
+        }
+        suite.getXmlSuite().setDataProviderThreadCount(threadCount);
+        logger.info("Suite '{}': {} data provider threads, shard.index={} shard.count={}", suite.getName(),
+                threadCount, config.getShardIndex(), config.getShardCount());
+    }
+}
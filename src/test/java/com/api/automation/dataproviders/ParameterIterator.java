@@ -0,0 +1,27 @@
+package com.api.automation.dataproviders;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Adapts a lazy row iterator to the {@code Iterator<Object[]>} a TestNG data provider returns
+ */
+final class ParameterIterator implements Iterator<Object[]> {
+    private final Iterator<DataRow> rows;
+    private final Function<DataRow, Object[]> toParameters;
+
+    ParameterIterator(Iterator<DataRow> rows, Function<DataRow, Object[]> toParameters) {
+        this.rows = rows;
+        this.toParameters = toParameters;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return rows.hasNext();
+    }
+
+    @Override
+    public Object[] next() {
+        return toParameters.apply(rows.next());
+    }
+}
@@ -0,0 +1,57 @@
+package com.api.automation.dataproviders;
+
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+
+/**
+ * Header-based mapping of data file rows onto the API models.
+ * Usable with any data provider, e.g. {@code CsvDataProvider.objects(path, RowMappers::toPost)}.
+ */
+public final class RowMappers {
+
+    private RowMappers() {
+    }
+
+    /**
+     * Map a row to a User. Recognized columns: id, name, username, email, phone, website,
+     * address.street, address.suite, address.city, address.zipcode, address.geo.lat,
+     * address.geo.lng, company.name, company.catchPhrase and company.bs.
+     * @param row data row
+     * @return User object
+     */
+    public static User toUser(DataRow row) {
+        User.UserBuilder user = User.builder()
+                .id(row.getInteger("id"))
+                .name(row.get("name"))
+                .username(row.get("username"))
+                .email(row.get("email"))
+                .phone(row.get("phone"))
+                .website(row.get("website"));
+        if (row.hasColumn("address.street") || row.hasColumn("address.city")) {
+            User.Address.Geo geo = row.hasColumn("address.geo.lat")
+                    ? new User.Address.Geo(row.get("address.geo.lat"), row.get("address.geo.lng"))
+                    : null;
+            user.address(new User.Address(row.get("address.street"), row.get("address.suite"),
+                    row.get("address.city"), row.get("address.zipcode"), geo));
+        }
+        if (row.hasColumn("company.name")) {
+            user.company(new User.Company(row.get("company.name"), row.get("company.catchPhrase"),
+                    row.get("company.bs")));
+        }
+        return user.build();
+    }
+
+    /**
+     * Map a row to a Post. Recognized columns: userId, id, title and body.
+     * @param row data row
+     * @return Post object
+     */
+    public static Post toPost(DataRow row) {
+        return Post.builder()
+                .userId(row.getInteger("userId"))
+                .id(row.getInteger("id"))
+                .title(row.get("title"))
+                .body(row.get("body"))
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.api.automation.dataproviders;
+
+import com.api.automation.config.ConfigManager;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits data provider rows across JVMs.
+ *
+ * Row {@code i} belongs to shard {@code i % shardCount}; a JVM started with
+ * {@code -Dshard.index=k -Dshard.count=N} runs only shard {@code k}, so N machines (or N forks on
+ * one machine) together run every row exactly once. Round-robin assignment keeps the shards
+ * balanced and works on lazy iterators without knowing the row count up front. With the default
+ * shard count of 1 rows are passed through unchanged.
+ *
+ * A sharded iterator stays lazy only under a sequential provider. TestNG reads the whole iterator
+ * of a {@code parallel = true} provider before running any invocation, so use parallel providers
+ * for in-memory rows and keep streaming ones sequential.
+ *
+ * <pre>
+ * &#64;DataProvider(name = "userIds", parallel = true)
+ * public Object[][] userIds() {
+ *     return ShardedDataProvider.shard(TestDataProvider.getUserIds());
+ * }
+ * </pre>
+ */
+public final class ShardedDataProvider {
+
+    private ShardedDataProvider() {
+    }
+
+    /**
+     * Keep the rows of the shard configured for this JVM
+     * @param rows all data provider rows
+     * @return rows of shard {@code shard.index} of {@code shard.count}
+     */
+    public static Object[][] shard(Object[][] rows) {
+        ConfigManager config = ConfigManager.getInstance();
+        return shard(rows, config.getShardIndex(), config.getShardCount());
+    }
+
+    /**
+     * Keep the rows of one shard
+     * @param rows all data provider rows
+     * @param shardIndex zero-based shard to keep
+     * @param shardCount number of shards
+     * @return every row whose index modulo shardCount equals shardIndex
+     */
+    public static Object[][] shard(Object[][] rows, int shardIndex, int shardCount) {
+        checkShard(shardIndex, shardCount);
+        if (shardCount == 1) {
+            return rows;
+        }
+        int size = rows.length > shardIndex ? (rows.length - shardIndex - 1) / shardCount + 1 : 0;
+        Object[][] shard = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            shard[i] = rows[shardIndex + i * shardCount];
+        }
+        return shard;
+    }
+
+    /**
+     * Lazily keep the rows of the shard configured for this JVM
+     * @param rows all data provider rows
+     * @return iterator over rows of shard {@code shard.index} of {@code shard.count}
+     */
+    public static Iterator<Object[]> shard(Iterator<Object[]> rows) {
+        ConfigManager config = ConfigManager.getInstance();
+        return shard(rows, config.getShardIndex(), config.getShardCount());
+    }
+
+    /**
+     * Lazily keep the rows of one shard. Rows of other shards are still read from the source,
+     * but are dropped without being handed to TestNG.
+     * @param rows all data provider rows
+     * @param shardIndex zero-based shard to keep
+     * @param shardCount number of shards
+     * @return iterator over every row whose index modulo shardCount equals shardIndex
+     */
+    public static Iterator<Object[]> shard(Iterator<Object[]> rows, int shardIndex, int shardCount) {
+        checkShard(shardIndex, shardCount);
+        if (shardCount == 1) {
+            return rows;
+        }
+        return new ShardIterator(rows, shardIndex, shardCount);
+    }
+
+    private static void checkShard(int shardIndex, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1 but was " + shardCount);
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    "Shard index must be between 0 and " + (shardCount - 1) + " but was " + shardIndex);
+        }
+    }
+
+    private static final class ShardIterator implements Iterator<Object[]> {
+        private final Iterator<Object[]> rows;
+        private final int shardIndex;
+        private final int shardCount;
+        private long rowIndex;
+        private Object[] next;
+
+        ShardIterator(Iterator<Object[]> rows, int shardIndex, int shardCount) {
+            this.rows = rows;
+            this.shardIndex = shardIndex;
+            this.shardCount = shardCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && rows.hasNext()) {
+                Object[] row = rows.next();
+                if (rowIndex++ % shardCount == shardIndex) {
+                    next = row;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = next;
+            next = null;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.api.automation.dataproviders;
+
+import com.api.automation.config.ConfigManager;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for ShardedDataProvider and ParallelDataProviderListener
+ */
+@Listeners(ParallelDataProviderListener.class)
+public class ShardedDataProviderTest {
+    private static final Set<String> invocationThreads = ConcurrentHashMap.newKeySet();
+
+    @AfterMethod
+    public void clearShardProperties() {
+        System.clearProperty("shard.index");
+        System.clearProperty("shard.count");
+        ConfigManager.getInstance().reload();
+    }
+
+    @Test
+    public void testSingleShardReturnsAllRows() {
+        Object[][] rows = rows(5);
+        assertSame(ShardedDataProvider.shard(rows, 0, 1), rows);
+    }
+
+    @Test
+    public void testShardsPartitionRows() {
+        Object[][] rows = rows(10);
+        Set<Object> seen = new HashSet<>();
+        int total = 0;
+        for (int shard = 0; shard < 3; shard++) {
+            Object[][] part = ShardedDataProvider.shard(rows, shard, 3);
+            for (Object[] row : part) {
+                assertEquals((int) row[0] % 3, shard);
+                seen.add(row[0]);
+            }
+            total += part.length;
+        }
+        assertEquals(total, 10);
+        assertEquals(seen.size(), 10);
+        assertEquals(ShardedDataProvider.shard(rows, 0, 3).length, 4);
+        assertEquals(ShardedDataProvider.shard(rows, 2, 3).length, 3);
+    }
+
+    @Test
+    public void testMoreShardsThanRows() {
+        assertEquals(ShardedDataProvider.shard(rows(2), 1, 4).length, 1);
+        assertEquals(ShardedDataProvider.shard(rows(2), 3, 4).length, 0);
+        assertEquals(ShardedDataProvider.shard(new Object[0][], 0, 2).length, 0);
+    }
+
+    @Test
+    public void testIteratorShardMatchesArrayShard() {
+        Object[][] rows = rows(11);
+        for (int shard = 0; shard < 4; shard++) {
+            List<Object[]> lazy = new ArrayList<>();
+            ShardedDataProvider.shard(Arrays.asList(rows).iterator(), shard, 4).forEachRemaining(lazy::add);
+            assertEquals(lazy.toArray(new Object[0][]), ShardedDataProvider.shard(rows, shard, 4));
+        }
+    }
+
+    @Test
+    public void testEmptyIteratorShard() {
+        Iterator<Object[]> shard = ShardedDataProvider.shard(Collections.<Object[]>emptyIterator(), 1, 2);
+        assertFalse(shard.hasNext());
+    }
+
+    @Test
+    public void testShardFromSystemProperties() {
+        System.setProperty("shard.index", "1");
+        System.setProperty("shard.count", "2");
+        ConfigManager.getInstance().reload();
+        Object[][] shard = ShardedDataProvider.shard(rows(5));
+        assertEquals(shard.length, 2);
+        assertEquals(shard[0][0], 1);
+        assertEquals(shard[1][0], 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testShardIndexOutOfRange() {
+        ShardedDataProvider.shard(rows(3), 2, 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testShardCountMustBePositive() {
+        ShardedDataProvider.shard(rows(3), 0, 0);
+    }
+
+    @Test
+    public void testListenerSetsDataProviderThreadCount(ITestContext context) {
+        assertEquals(context.getSuite().getXmlSuite().getDataProviderThreadCount(),
+                ConfigManager.getInstance().getDataProviderThreadCount());
+    }
+
+    @DataProvider(name = "parallelRows", parallel = true)
+    public Object[][] parallelRows() {
+        return rows(16);
+    }
+
+    @Test(dataProvider = "parallelRows")
+    public void testParallelDataProviderInvocation(int row) throws InterruptedException {
+        invocationThreads.add(Thread.currentThread().getName());
+        Thread.sleep(20);
+    }
+
+    @Test(dependsOnMethods = "testParallelDataProviderInvocation")
+    public void testParallelDataProviderUsesPool() {
+        assertTrue(invocationThreads.size() > 1, "Expected invocations on several threads: " + invocationThreads);
+    }
+
+    private static Object[][] rows(int count) {
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new Object[] { i };
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,94 @@
+package com.api.automation.load;
+
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the open and closed model load engines
+ */
+public class LoadEngineTest {
+
+    @Test
+    public void testLoadFactorFollowsPhases() {
+        LoadProfile profile = new LoadProfile(Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        assertEquals(profile.loadFactorAt(0), 0.0, 0.001);
+        assertEquals(profile.loadFactorAt(Duration.ofSeconds(5).toNanos()), 0.5, 0.001);
+        assertEquals(profile.loadFactorAt(Duration.ofSeconds(15).toNanos()), 1.0, 0.001);
+        assertEquals(profile.loadFactorAt(Duration.ofSeconds(25).toNanos()), 0.5, 0.001);
+        assertEquals(profile.loadFactorAt(Duration.ofSeconds(30).toNanos()), 0.0, 0.001);
+    }
+
+    @Test
+    public void testArrivalScheduleMatchesRate() {
+        LoadProfile profile = new LoadProfile(Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        // 100/s: 500 arrivals during ramp-up, 1000 steady, 500 during ramp-down
+        assertEquals(profile.secondsUntilArrival(500, 100), 10.0, 0.001);
+        assertEquals(profile.secondsUntilArrival(1000, 100), 15.0, 0.001);
+        assertEquals(profile.secondsUntilArrival(1500, 100), 20.0, 0.001);
+        assertTrue(profile.secondsUntilArrival(2001, 100) < 0);
+    }
+
+    @Test
+    public void testOpenModelReportsThroughputAndErrors() {
+        AtomicInteger calls = new AtomicInteger();
+        Scenario scenario = Scenario.builder("open")
+                .operation(new LoadOperation("op", () -> null, response -> calls.incrementAndGet() % 2 == 0))
+                .build();
+
+        LoadReport report = LoadEngine.openModel(scenario, 200, LoadProfile.steady(Duration.ofSeconds(1))).run();
+        OperationStats stats = report.getOperation("op");
+
+        assertEquals(stats.getRequestCount(), 200, 2);
+        assertEquals(stats.getErrorRate(), 0.5, 0.02);
+        assertTrue(stats.getThroughputPerSecond() > 150);
+    }
+
+    @Test
+    public void testOpenModelChargesSchedulingDelayToLatency() {
+        Scenario scenario = Scenario.builder("slow")
+                .operation(new LoadOperation("sleep", () -> {
+                    sleep(50);
+                    return null;
+                }, response -> true))
+                .build();
+
+        LoadReport report = LoadEngine.openModel(scenario, 20, LoadProfile.steady(Duration.ofMillis(500))).run();
+
+        assertTrue(report.getOperation("sleep").getLatency().getP50() >= Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    public void testClosedModelRunsVirtualUsers() {
+        AtomicInteger calls = new AtomicInteger();
+        Scenario scenario = Scenario.builder("closed")
+                .operation(new LoadOperation("first", () -> {
+                    calls.incrementAndGet();
+                    return null;
+                }, response -> true))
+                .operation(new LoadOperation("second", () -> {
+                    throw new IllegalStateException("boom");
+                }, response -> true))
+                .build();
+
+        LoadReport report = LoadEngine.closedModel(scenario, 4, Duration.ofMillis(20),
+                LoadProfile.steady(Duration.ofMillis(500))).run();
+
+        assertTrue(calls.get() > 4);
+        assertEquals(report.getOperation("first").getErrorCount(), 0);
+        assertEquals(report.getOperation("second").getErrorRate(), 1.0, 0.001);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.api.automation.load;
+
+import com.api.automation.capture.CaptureLogWriter;
+import com.api.automation.capture.CapturedExchange;
+import com.api.automation.stub.StubServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for TrafficReplayer
+ */
+public class TrafficReplayerTest {
+    private StubServer server;
+    private Path log;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = StubServer.start(0, 1);
+        log = Files.createTempFile("traffic-replayer-test", ".bin");
+        Files.delete(log);
+        try (CaptureLogWriter writer = new CaptureLogWriter(log, true)) {
+            writer.append(exchange(0, "GET", "https://jsonplaceholder.typicode.com/users/1", null, 200));
+            writer.append(exchange(200_000, "GET", "https://jsonplaceholder.typicode.com/users/2", null, 200));
+            writer.append(exchange(400_000, "POST", "https://api.restful-api.dev/objects", "{\"name\":\"x\"}", 200));
+            writer.append(exchange(600_000, "GET", "https://jsonplaceholder.typicode.com/users/3", null, 500));
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() throws IOException {
+        server.close();
+        Files.deleteIfExists(log);
+    }
+
+    @Test
+    public void testReplayAgainstTargetReportsPerEndpoint() {
+        LoadReport report = new TrafficReplayer(log, TrafficReplayer.MAX_SPEED, server.getBaseUri()).run();
+
+        OperationStats users = report.getOperation("GET /users/{id}");
+        assertEquals(users.getRequestCount(), 3);
+        assertEquals(users.getErrorCount(), 1, "status differs from the recorded 500");
+        OperationStats objects = report.getOperation("POST /objects");
+        assertEquals(objects.getRequestCount(), 1);
+        assertEquals(objects.getErrorCount(), 0);
+        assertEquals(report.getLoadModel(), "replay (max speed)");
+    }
+
+    @Test
+    public void testOriginalSpeedPreservesInterArrivalTiming() {
+        LoadReport report = new TrafficReplayer(log, TrafficReplayer.ORIGINAL_SPEED, server.getBaseUri()).run();
+        assertTrue(report.getElapsedNanos() >= 600_000_000L, String.valueOf(report.getElapsedNanos()));
+    }
+
+    @Test
+    public void testSpeedFactorCompressesGaps() {
+        LoadReport report = new TrafficReplayer(log, 4.0, server.getBaseUri()).run();
+        assertTrue(report.getElapsedNanos() >= 150_000_000L, String.valueOf(report.getElapsedNanos()));
+        assertTrue(report.getElapsedNanos() < 600_000_000L, String.valueOf(report.getElapsedNanos()));
+    }
+
+    @Test
+    public void testUnreachableTargetCountsAsErrors() {
+        LoadReport report = new TrafficReplayer(log, TrafficReplayer.MAX_SPEED, "http://127.0.0.1:1").run();
+        assertEquals(report.getOperation("GET /users/{id}").getErrorCount(), 3);
+    }
+
+    @Test
+    public void testRejectsInvalidSpeed() {
+        expectThrows(IllegalArgumentException.class, () -> new TrafficReplayer(log, 0));
+        expectThrows(IllegalArgumentException.class, () -> new TrafficReplayer(log, Double.NaN));
+    }
+
+    private static CapturedExchange exchange(long timestampMicros, String method, String uri, String body,
+                                             int status) {
+        return new CapturedExchange(timestampMicros, method, uri,
+                Map.of("Accept", "*/*", "Content-Type", "application/json"),
+                body == null ? null : body.getBytes(StandardCharsets.UTF_8), status, null, 0L);
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.automation.metrics;
+
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for EndpointLatencyRegistry
+ */
+public class EndpointLatencyRegistryTest {
+
+    @Test
+    public void testNormalizePathReplacesIdentifiers() {
+        assertEquals(EndpointLatencyRegistry.normalizePath("https://jsonplaceholder.typicode.com/users/10"),
+                "/users/{id}");
+        assertEquals(EndpointLatencyRegistry.normalizePath(
+                "https://api.restful-api.dev/objects/ff808181932badb601935e2e48e11a2c"), "/objects/{id}");
+        assertEquals(EndpointLatencyRegistry.normalizePath(
+                "/items/123e4567-e89b-12d3-a456-426614174000/tags"), "/items/{id}/tags");
+        assertEquals(EndpointLatencyRegistry.normalizePath("http://localhost:8080/posts/1/comments"),
+                "/posts/{id}/comments");
+    }
+
+    @Test
+    public void testNormalizePathDropsQueryAndKeepsNames() {
+        assertEquals(EndpointLatencyRegistry.normalizePath("https://api.restful-api.dev/objects?id=3&id=5"),
+                "/objects");
+        assertEquals(EndpointLatencyRegistry.normalizePath("http://localhost:8080"), "/");
+        assertEquals(EndpointLatencyRegistry.normalizePath("http://localhost/posts/"), "/posts");
+        assertEquals(EndpointLatencyRegistry.normalizePath("/v2/users/me"), "/v2/users/me");
+    }
+
+    @Test
+    public void testRecordGroupsByMethodAndNormalizedPath() {
+        EndpointLatencyRegistry registry = new EndpointLatencyRegistry();
+        registry.record("GET", "http://localhost/users/1", 1_000_000L);
+        registry.record("GET", "http://localhost/users/2", 3_000_000L);
+        registry.record("GET", "http://localhost/users/1", 2_000_000L);
+        registry.record("DELETE", "http://localhost/users/1", 5_000_000L);
+
+        Map<String, LatencySnapshot> snapshots = registry.snapshot();
+        assertEquals(snapshots.keySet().toString(), "[DELETE /users/{id}, GET /users/{id}]");
+        assertEquals(registry.snapshot("GET", "/users/{id}").getCount(), 3);
+        assertEquals(registry.snapshot("DELETE", "/users/{id}").getMax(), 5_000_000L, 5_000_000L * 0.02);
+        assertNull(registry.snapshot("POST", "/users"));
+    }
+
+    @Test
+    public void testHighCardinalityIdsShareTheirTemplate() {
+        EndpointLatencyRegistry registry = new EndpointLatencyRegistry();
+        for (int id = 0; id < 20_000; id++) {
+            registry.record("GET", "http://localhost/users/" + id, 1_000L);
+            registry.record("GET", "http://localhost/users/" + id + "/posts?page=2", 1_000L);
+        }
+        registry.record("GET", "http://localhost//users/me/", 1_000L);
+        registry.record("GET", "http://localhost", 1_000L);
+
+        assertEquals(registry.snapshot().keySet().toString(),
+                "[GET /, GET /users/me, GET /users/{id}, GET /users/{id}/posts]");
+        assertEquals(registry.snapshot("GET", "/users/{id}").getCount(), 20_000);
+        assertEquals(registry.snapshot("GET", "/users/{id}/posts").getCount(), 20_000);
+    }
+
+    @Test
+    public void testResetClearsCounts() {
+        EndpointLatencyRegistry registry = new EndpointLatencyRegistry();
+        registry.record("GET", "http://localhost/posts", 1_000L);
+        registry.reset();
+
+        assertEquals(registry.snapshot("GET", "/posts").getCount(), 0);
+        registry.record("GET", "http://localhost/posts", 1_000L);
+        assertEquals(registry.snapshot("GET", "/posts").getCount(), 1);
+        assertTrue(registry.getSummary().contains("GET /posts"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.api.automation.metrics;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for LatencyHistogram
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBoundariesCoverEveryValue() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = LatencyHistogram.indexFor(value);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestEquivalentValue(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.recordValue(i * 1_000L);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(snapshot.getCount(), 10_000);
+        assertEquals(snapshot.getMin(), 1_000L);
+        assertEquals(snapshot.getMax(), 10_000_000L);
+        assertEquals(snapshot.getP50(), 5_000_000L, 5_000_000L * 0.02);
+        assertEquals(snapshot.getP99(), 9_900_000L, 9_900_000L * 0.02);
+        assertEquals(snapshot.getP999(), 9_990_000L, 9_990_000L * 0.02);
+    }
+
+    @Test
+    public void testCoordinatedOmissionBackFill() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValueWithExpectedInterval(100, 10);
+
+        assertEquals(histogram.getTotalCount(), 10);
+        assertEquals(histogram.snapshot().getMin(), 10);
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(42);
+        histogram.reset();
+
+        assertEquals(histogram.getTotalCount(), 0);
+        assertEquals(histogram.snapshot().getCount(), 0);
+    }
+}
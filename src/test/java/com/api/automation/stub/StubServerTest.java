@@ -0,0 +1,249 @@
+package com.api.automation.stub;
+
+import com.api.automation.config.ConfigManager;
+import com.api.automation.models.ApiObject;
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+import com.api.automation.services.ObjectService;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for StubServer
+ */
+public class StubServerTest {
+    private StubServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = StubServer.start(0, 2);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.close();
+    }
+
+    @AfterMethod
+    public void resetServer() {
+        server.reset();
+    }
+
+    @Test
+    public void testGetUsers() {
+        Response response = get("/users");
+        assertEquals(response.getStatusCode(), 200);
+        assertTrue(response.getContentType().startsWith("application/json"));
+        User[] users = response.as(User[].class);
+        assertEquals(users.length, 10);
+        assertEquals(users[0].getName(), "Leanne Graham");
+        assertEquals(users[0].getAddress().getGeo().getLat(), "-37.3159");
+    }
+
+    @Test
+    public void testGetById() {
+        assertEquals(get("/users/3").as(User.class).getUsername(), "Samantha");
+        assertEquals(get("/posts/50").as(Post.class).getUserId(), Integer.valueOf(5));
+        assertEquals(get("/objects/7").jsonPath().getString("data.'CPU model'"), "Intel Core i9");
+    }
+
+    @Test
+    public void testTrailingSlashIsIgnored() {
+        assertEquals(get("/users/").as(User[].class).length, 10);
+    }
+
+    @Test
+    public void testUnknownIdsAndRoutes() {
+        Response missingPost = get("/posts/1000");
+        assertEquals(missingPost.getStatusCode(), 404);
+        assertEquals(missingPost.asString(), "{}");
+
+        Response missingObject = get("/objects/abc");
+        assertEquals(missingObject.getStatusCode(), 404);
+        assertTrue(missingObject.jsonPath().getString("error").contains("abc"));
+
+        assertEquals(get("/comments").getStatusCode(), 404);
+        assertEquals(get("/users/1/posts").getStatusCode(), 404);
+    }
+
+    @Test
+    public void testQueryFilters() {
+        Post[] posts = get("/posts?userId=2").as(Post[].class);
+        assertEquals(posts.length, 10);
+        for (Post post : posts) {
+            assertEquals(post.getUserId(), Integer.valueOf(2));
+        }
+
+        List<String> ids = get("/objects?id=3&id=5&id=10").jsonPath().getList("id");
+        assertEquals(ids, List.of("3", "5", "10"));
+    }
+
+    @Test
+    public void testJsonPlaceholderCrud() {
+        Response created = given().baseUri(server.getBaseUri()).contentType(ContentType.JSON)
+                .body(Post.builder().userId(1).title("t").body("b").build())
+                .post("/posts");
+        assertEquals(created.getStatusCode(), 201);
+        assertEquals(created.jsonPath().getInt("id"), 101);
+        assertEquals(get("/posts/101").jsonPath().getString("title"), "t");
+
+        Response replaced = given().baseUri(server.getBaseUri()).contentType(ContentType.JSON)
+                .body("{\"userId\":1,\"title\":\"new\"}")
+                .put("/posts/101");
+        assertEquals(replaced.getStatusCode(), 200);
+        assertEquals(replaced.jsonPath().getInt("id"), 101);
+        assertNull(replaced.jsonPath().get("body"), "PUT replaces the whole resource");
+
+        Response patched = given().baseUri(server.getBaseUri()).contentType(ContentType.JSON)
+                .body("{\"body\":\"patched\",\"title\":null}")
+                .patch("/posts/101");
+        assertEquals(patched.jsonPath().getString("title"), "new", "null fields do not overwrite");
+        assertEquals(patched.jsonPath().getString("body"), "patched");
+
+        Response deleted = given().baseUri(server.getBaseUri()).delete("/posts/101");
+        assertEquals(deleted.getStatusCode(), 200);
+        assertEquals(deleted.asString(), "{}");
+        assertEquals(get("/posts/101").getStatusCode(), 404);
+        assertEquals(get("/posts").as(Post[].class).length, 100);
+    }
+
+    @Test
+    public void testRestfulApiCrud() {
+        Response created = given().baseUri(server.getBaseUri()).contentType(ContentType.JSON)
+                .body("{\"name\":\"Phone\",\"data\":{\"price\":10.5,\"color\":\"Red\"}}")
+                .post("/objects");
+        assertEquals(created.getStatusCode(), 200);
+        String id = created.jsonPath().getString("id");
+        assertEquals(id, "14");
+        assertTrue(created.jsonPath().getString("createdAt").matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}Z"));
+
+        Response patched = given().baseUri(server.getBaseUri()).contentType(ContentType.JSON)
+                .body("{\"name\":null,\"data\":{\"color\":\"Blue\"}}")
+                .patch("/objects/" + id);
+        assertEquals(patched.jsonPath().getString("name"), "Phone");
+        assertEquals(patched.jsonPath().getString("data.color"), "Blue");
+        assertEquals(patched.jsonPath().getFloat("data.price"), 10.5f, "data is merged, not replaced");
+        assertNotNull(patched.jsonPath().getString("updatedAt"));
+
+        Response deleted = given().baseUri(server.getBaseUri()).delete("/objects/" + id);
+        assertEquals(deleted.jsonPath().getString("message"), "Object with id = 14, has been deleted.");
+        assertEquals(get("/objects/" + id).getStatusCode(), 404);
+    }
+
+    @Test
+    public void testResetRestoresFixtures() {
+        given().baseUri(server.getBaseUri()).delete("/users/1");
+        assertEquals(get("/users").as(User[].class).length, 9);
+        server.reset();
+        assertEquals(get("/users").as(User[].class).length, 10);
+    }
+
+    @Test
+    public void testCachedGetSeesWrites() {
+        assertEquals(get("/objects/1").jsonPath().getString("name"), "Google Pixel 6 Pro");
+        given().baseUri(server.getBaseUri()).contentType(ContentType.JSON)
+                .body("{\"name\":\"Renamed\"}")
+                .patch("/objects/1");
+        assertEquals(get("/objects/1").jsonPath().getString("name"), "Renamed");
+    }
+
+    @Test
+    public void testMalformedBodyIsBadRequest() {
+        Response response = given().baseUri(server.getBaseUri()).contentType(ContentType.JSON)
+                .body("{not json")
+                .post("/objects");
+        assertEquals(response.getStatusCode(), 400);
+    }
+
+    @Test
+    public void testUnsupportedMethodIsNotAllowed() {
+        assertEquals(given().baseUri(server.getBaseUri()).delete("/users").getStatusCode(), 405);
+        assertEquals(given().baseUri(server.getBaseUri()).contentType(ContentType.JSON).body("{}")
+                .post("/users/1").getStatusCode(), 405);
+    }
+
+    @Test
+    public void testPipelinedRequestsOnOneConnection() throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            String body = "{\"name\":\"x\"}";
+            out.write(("GET /users/1 HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    + "POST /objects HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                    + "Content-Length: " + body.length() + "\r\n\r\n" + body
+                    + "GET /posts/1 HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String responses = readAll(socket.getInputStream());
+            assertEquals(count(responses, "HTTP/1.1 200 OK"), 3, responses);
+            assertTrue(responses.contains("Leanne Graham"));
+            assertTrue(responses.contains("\"name\":\"x\""));
+            assertTrue(responses.endsWith("}"), "server closes after the Connection: close request");
+            assertTrue(responses.contains("Connection: close"));
+        }
+    }
+
+    @Test
+    public void testMalformedRequestLine() throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            socket.getOutputStream().write("NONSENSE\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            assertTrue(readAll(socket.getInputStream()).startsWith("HTTP/1.1 400 Bad Request"));
+        }
+    }
+
+    @Test
+    public void testObjectServiceUsesConfiguredBaseUri() {
+        System.setProperty("objects.base.uri", server.getBaseUri());
+        try {
+            ConfigManager.getInstance().reload();
+            ObjectService objectService = new ObjectService();
+            ApiObject[] objects = objectService.getObjectsByIdsAsArray("10", "11");
+            assertEquals(objects.length, 2);
+            assertEquals(objects[1].getData(), Map.of("Capacity", "254 GB", "Screen size", 7.9));
+        } finally {
+            System.clearProperty("objects.base.uri");
+            ConfigManager.getInstance().reload();
+        }
+    }
+
+    @Test
+    public void testRequestCount() {
+        long before = server.getRequestCount();
+        get("/users/1");
+        get("/users/1");
+        assertEquals(server.getRequestCount() - before, 2);
+    }
+
+    private Response get(String path) {
+        return given().baseUri(server.getBaseUri()).get(path);
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        in.transferTo(bytes);
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -3,6 +3,7 @@ package com.api.automation.tests.endpoints.restfulapi;
 import com.api.automation.models.ApiObject;
 import com.api.automation.services.ObjectService;
 import com.api.automation.tests.utils.BaseTest;
+import com.api.automation.utils.ResponseValidator;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,10 +82,13 @@ public class ObjectGetAllTests extends BaseTest {
         
         logger.info("Validating each object has id and name fields");
         response.then().log().status()
-                .statusCode(200)
-                .body("id", everyItem(notNullValue()))
-                .body("name", everyItem(notNullValue()));
+                .statusCode(200);
+        ResponseValidator.rules()
+                .notNull("id")
+                .notNull("name")
+                .validate(response, softAssert);
         
+        softAssert.assertAll();
         logger.info("Test testGetAllObjectsRequiredFields completed successfully");
     }
 
@@ -1,5 +1,6 @@
 package com.api.automation.tests.jsonplaceholder;
 
+import com.api.automation.dataproviders.ShardedDataProvider;
 import com.api.automation.models.Post;
 import com.api.automation.services.PostService;
 import com.api.automation.tests.utils.BaseTest;
@@ -40,16 +41,16 @@ public class PostTests extends BaseTest {
     // DATA PROVIDERS
     // ============================================================
     
-    @DataProvider(name = "postIds")
+    @DataProvider(name = "postIds", parallel = true)
     public Object[][] providePostIds() {
         logger.info("Loading postIds data provider");
-        return TestDataProvider.getPostIds();
+        return ShardedDataProvider.shard(TestDataProvider.getPostIds());
     }
 
-    @DataProvider(name = "userIds")
+    @DataProvider(name = "userIds", parallel = true)
     public Object[][] provideUserIds() {
         logger.info("Loading userIds data provider");
-        return TestDataProvider.getUserIds();
+        return ShardedDataProvider.shard(TestDataProvider.getUserIds());
     }
 
     @Test(priority = 1, description = "Verify getting all posts")
@@ -98,6 +99,8 @@ public class PostTests extends BaseTest {
         logger.info("Post object received: {}", post.getTitle());
         
         logger.info("Validating Post object fields for postId: {}", postId);
+        // Invocations run in parallel, so each needs its own SoftAssert
+        SoftAssert softAssert = new SoftAssert();
         softAssert.assertNotNull(post, "Post should not be null");
         softAssert.assertEquals((int)post.getId(), (int)postId, "Post ID should match");
         softAssert.assertFalse(post.getTitle().isEmpty(), "Post title should not be empty");
@@ -1,5 +1,6 @@
 package com.api.automation.tests.jsonplaceholder;
 
+import com.api.automation.dataproviders.ShardedDataProvider;
 import com.api.automation.models.User;
 import com.api.automation.services.UserService;
 import com.api.automation.tests.utils.BaseTest;
@@ -40,10 +41,10 @@ public class UserTests extends BaseTest {
     // DATA PROVIDERS
     // ============================================================
     
-    @DataProvider(name = "userIds")
+    @DataProvider(name = "userIds", parallel = true)
     public Object[][] provideUserIds() {
         logger.info("Loading userIds data provider");
-        return TestDataProvider.getUserIds();
+        return ShardedDataProvider.shard(TestDataProvider.getUserIds());
     }
     
     @DataProvider(name = "userCounts")
@@ -97,6 +98,8 @@ public class UserTests extends BaseTest {
         logger.info("User object received: {}", user.getName());
         
         logger.info("Validating User object fields for userId: {}", userId);
+        // Invocations run in parallel, so each needs its own SoftAssert
+        SoftAssert softAssert = new SoftAssert();
         softAssert.assertNotNull(user, "User should not be null");
         softAssert.assertEquals((int)user.getId(), (int)userId, "User ID should match");
         softAssert.assertFalse(user.getName().isEmpty(), "User name should not be empty");
@@ -1,5 +1,11 @@
 package com.api.automation.tests.utils;
 
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonSchemaRegistry;
+import com.api.automation.utils.ResponseValidator;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.testng.asserts.SoftAssert;
@@ -7,6 +13,7 @@ import org.testng.asserts.SoftAssert;
 /**
  * Utility class for common assertion patterns in API tests
  * Reduces code duplication by centralizing repetitive assertion logic
+ * Field assertions share one parsed body per response via {@link JsonDocument}
  */
 public class AssertionHelper {
     private final SoftAssert softAssert;
@@ -90,7 +97,7 @@ public class AssertionHelper {
      * Assert JSON field is not null
      */
     public void assertFieldNotNull(Response response, String fieldPath, String fieldName) {
-        String fieldValue = response.jsonPath().getString(fieldPath);
+        String fieldValue = JsonDocument.of(response).getString(fieldPath);
         softAssert.assertNotNull(fieldValue, fieldName + " should not be null");
     }
 
@@ -98,7 +105,7 @@ public class AssertionHelper {
      * Assert JSON field equals expected value
      */
     public void assertFieldEquals(Response response, String fieldPath, Object expectedValue, String fieldName) {
-        Object actualValue = response.jsonPath().get(fieldPath);
+        Object actualValue = JsonDocument.of(response).get(fieldPath);
         softAssert.assertEquals(actualValue, expectedValue, fieldName + " should equal " + expectedValue);
     }
 
@@ -106,7 +113,7 @@ public class AssertionHelper {
      * Assert string field contains substring
      */
     public void assertFieldContains(Response response, String fieldPath, String substring, String fieldName) {
-        String fieldValue = response.jsonPath().getString(fieldPath);
+        String fieldValue = JsonDocument.of(response).getString(fieldPath);
         softAssert.assertTrue(fieldValue.contains(substring), 
                              fieldName + " should contain '" + substring + "'");
     }
@@ -115,7 +122,7 @@ public class AssertionHelper {
      * Assert string field is not empty
      */
     public void assertFieldNotEmpty(Response response, String fieldPath, String fieldName) {
-        String fieldValue = response.jsonPath().getString(fieldPath);
+        String fieldValue = JsonDocument.of(response).getString(fieldPath);
         softAssert.assertNotNull(fieldValue, fieldName + " should not be null");
         softAssert.assertFalse(fieldValue.isEmpty(), fieldName + " should not be empty");
     }
@@ -124,7 +131,7 @@ public class AssertionHelper {
      * Assert response contains key
      */
     public void assertResponseHasKey(Response response, String key) {
-        boolean hasKey = response.jsonPath().getMap("$").containsKey(key);
+        boolean hasKey = JsonDocument.of(response).has(key);
         softAssert.assertTrue(hasKey, "Response should contain key: " + key);
     }
 
@@ -132,10 +139,32 @@ public class AssertionHelper {
      * Assert response does not contain key
      */
     public void assertResponseDoesNotHaveKey(Response response, String key) {
-        boolean hasKey = response.jsonPath().getMap("$").containsKey(key);
+        boolean hasKey = JsonDocument.of(response).has(key);
         softAssert.assertFalse(hasKey, "Response should not contain key: " + key);
     }
 
+    /**
+     * Assert every rule of a validator in one pass over the response body
+     */
+    public void assertBody(Response response, ResponseValidator validator) {
+        int failures = validator.validate(response, softAssert);
+        logger.info("Response body validated with {} failure(s)", failures);
+    }
+
+    /**
+     * Assert response body matches a schema from the shared schema registry
+     */
+    public void assertMatchesSchema(Response response, String schemaName) {
+        reportSchemaViolations(JsonSchemaRegistry.getInstance().validate(response, schemaName), schemaName);
+    }
+
+    /**
+     * Assert response body is an array whose items all match a schema
+     */
+    public void assertEachMatchesSchema(Response response, String schemaName) {
+        reportSchemaViolations(JsonSchemaRegistry.getInstance().validateEach(response, schemaName), schemaName);
+    }
+
     /**
      * Assert and finalize all soft assertions
      */
@@ -185,4 +214,16 @@ public class AssertionHelper {
         logger.info("Test {} - Response Status: {}, Time: {}ms", 
                    testName, response.getStatusCode(), response.getTime());
     }
+
+    private void reportSchemaViolations(ProcessingReport report, String schemaName) {
+        logger.info("Response validated against schema '{}': {}", schemaName, report.isSuccess() ? "valid" : "invalid");
+        for (ProcessingMessage message : report) {
+            String pointer = message.asJson().path("instance").path("pointer").asText();
+            if (message.getLogLevel().compareTo(LogLevel.ERROR) >= 0) {
+                softAssert.fail("Schema '" + schemaName + "' violation at '" + pointer + "': " + message.getMessage());
+            } else {
+                logger.warn("Schema '{}' {} at '{}': {}", schemaName, message.getLogLevel(), pointer, message.getMessage());
+            }
+        }
+    }
 }
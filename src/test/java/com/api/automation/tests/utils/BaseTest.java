@@ -1,12 +1,15 @@
 package com.api.automation.tests.utils;
 
+import com.api.automation.dataproviders.ParallelDataProviderListener;
 import com.api.automation.utils.RestClient;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
 
 /**
  * Base test class for all test classes
  */
+@Listeners({ParallelDataProviderListener.class, StubServerListener.class})
 public class BaseTest {
 
     @BeforeClass
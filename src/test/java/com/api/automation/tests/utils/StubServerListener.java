@@ -0,0 +1,67 @@
+package com.api.automation.tests.utils;
+
+import com.api.automation.cache.ResponseCache;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.stub.StubServer;
+import com.api.automation.utils.RestClient;
+import org.testng.IClassListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestClass;
+
+/**
+ * Runs the suite against the embedded stub server when stub.enabled=true.
+ *
+ * The server is started before the first test and both base.uri and objects.base.uri are pointed
+ * at it through system properties, so services pick it up from the reloaded configuration.
+ * Stub state is reset before every test class, so each class starts from the fixtures; the
+ * response cache is cleared with it when http.cache.enabled=true.
+ * Enable it for one run with {@code mvn test -Dstub.enabled=true}.
+ */
+public class StubServerListener implements ISuiteListener, IClassListener {
+    private static StubServer server;
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (server != null || !config.isStubEnabled()) {
+            return;
+        }
+        server = StubServer.start();
+        System.setProperty("base.uri", server.getBaseUri());
+        System.setProperty("objects.base.uri", server.getBaseUri());
+        config.reload();
+        RestClient.resetSpecs();
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (server == null) {
+            return;
+        }
+        server.close();
+        server = null;
+        System.clearProperty("base.uri");
+        System.clearProperty("objects.base.uri");
+        ConfigManager.getInstance().reload();
+        RestClient.resetSpecs();
+    }
+
+    @Override
+    public synchronized void onBeforeClass(ITestClass testClass) {
+        if (server != null) {
+            server.reset();
+            if (ConfigManager.getInstance().isHttpCacheEnabled()) {
+                ResponseCache.getInstance().clear();
+            }
+        }
+    }
+
+    /**
+     * Get the stub server started for the current suite
+     * @return running StubServer, or null when the stub is disabled
+     */
+    public static synchronized StubServer getServer() {
+        return server;
+    }
+}
@@ -1,14 +1,24 @@
 package com.api.automation.tests.utils;
 
+import com.api.automation.config.ConfigManager;
+import com.api.automation.dataproviders.CsvDataProvider;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.testng.annotations.DataProvider;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 /**
  * Centralized Test Data Provider for all API tests
@@ -19,8 +29,17 @@ import java.util.Properties;
  * - JSON configuration loading
  * - Properties file reading
  * - Constants for test data
+ *
+ * JSON and properties files are parsed once and cached; set
+ * testdata.reload.on.change=true to pick up edits made while tests run.
  */
 public class TestDataProvider {
+    private static final BooleanSupplier RELOAD_ON_CHANGE =
+            () -> ConfigManager.getInstance().isTestDataReloadOnChange();
+    private static final CachedFile<JsonObject> TEST_DATA_JSON = new CachedFile<>(
+            Paths.get("src/test/resources/testdata.json"), TestDataProvider::parseJson, RELOAD_ON_CHANGE);
+    private static final CachedFile<Properties> TEST_DATA_PROPERTIES = new CachedFile<>(
+            Paths.get("src/test/resources/testdata.properties"), TestDataProvider::parseProperties, RELOAD_ON_CHANGE);
     
     // ============================================================
     // USER TEST DATA PROVIDERS
@@ -86,26 +105,21 @@ public class TestDataProvider {
         return loadTestIdsFromCsv("src/test/resources/testdata.csv");
     }
     
+    /**
+     * Lazily stream test IDs from the CSV file, one record per test invocation
+     */
+    public static Iterator<Object[]> getTestIdsFromCsvLazily() {
+        return CsvDataProvider.rows("src/test/resources/testdata.csv", row -> new Object[] { row.get(0).trim() });
+    }
+    
     private static Object[][] loadTestIdsFromCsv(String filePath) {
         List<Object[]> data = new ArrayList<>();
         
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isHeader = true;
-            
-            while ((line = br.readLine()) != null) {
-                if (isHeader) {
-                    isHeader = false;
-                    continue;
-                }
-                
-                String[] values = line.split(",");
-                if (values.length >= 1) {
-                    // Extract email as a pseudo-identifier
-                    data.add(new Object[] { values[0].trim() });
-                }
-            }
-        } catch (IOException e) {
+        try {
+            Iterator<Object[]> rows = CsvDataProvider.rows(filePath, row -> new Object[] { row.get(0).trim() });
+            // Extract email as a pseudo-identifier
+            rows.forEachRemaining(data::add);
+        } catch (UncheckedIOException | IllegalStateException e) {
             System.err.println("Error loading CSV data: " + e.getMessage());
         }
         
@@ -120,38 +134,70 @@ public class TestDataProvider {
      * Load test configuration from JSON file
      */
     public static JsonObject getTestConfigFromJson() {
-        try (FileReader reader = new FileReader("src/test/resources/testdata.json")) {
-            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
-            return json.getAsJsonObject("testConfig");
-        } catch (IOException e) {
-            System.err.println("Error loading JSON configuration: " + e.getMessage());
-            return null;
-        }
+        JsonObject testConfig = getTestConfigSection();
+        return testConfig != null ? testConfig.deepCopy() : null;
     }
     
     /**
      * Get API endpoints from JSON configuration
      */
     public static String getApiEndpointFromJson(String endpoint) {
-        try (FileReader reader = new FileReader("src/test/resources/testdata.json")) {
-            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
-            JsonObject endpoints = json.getAsJsonObject("endpoints");
-            return endpoints.get(endpoint).getAsString();
-        } catch (IOException e) {
-            System.err.println("Error loading API endpoint: " + e.getMessage());
+        JsonObject json = loadTestDataJson();
+        if (json == null) {
             return null;
         }
+        JsonElement value = json.getAsJsonObject("endpoints").get(endpoint);
+        return value != null ? value.getAsString() : null;
     }
     
     /**
      * Get test users from JSON file
      */
     public static JsonArray getUsersFromJson() {
-        try (FileReader reader = new FileReader("src/test/resources/testdata.json")) {
-            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
-            return json.getAsJsonArray("users");
+        JsonObject json = loadTestDataJson();
+        return json != null ? json.getAsJsonArray("users").deepCopy() : null;
+    }
+    
+    /**
+     * Get a string value from the JSON test configuration
+     */
+    public static String getTestConfigString(String key, String defaultValue) {
+        JsonElement value = getTestConfigValue(key);
+        return value != null ? value.getAsString() : defaultValue;
+    }
+    
+    /**
+     * Get an integer value from the JSON test configuration
+     */
+    public static int getTestConfigInt(String key, int defaultValue) {
+        JsonElement value = getTestConfigValue(key);
+        return value != null ? value.getAsInt() : defaultValue;
+    }
+    
+    /**
+     * Get a boolean value from the JSON test configuration
+     */
+    public static boolean getTestConfigBoolean(String key, boolean defaultValue) {
+        JsonElement value = getTestConfigValue(key);
+        return value != null ? value.getAsBoolean() : defaultValue;
+    }
+    
+    private static JsonObject getTestConfigSection() {
+        JsonObject json = loadTestDataJson();
+        return json != null ? json.getAsJsonObject("testConfig") : null;
+    }
+    
+    private static JsonElement getTestConfigValue(String key) {
+        JsonObject testConfig = getTestConfigSection();
+        JsonElement value = testConfig != null ? testConfig.get(key) : null;
+        return value != null && !value.isJsonNull() ? value : null;
+    }
+    
+    private static JsonObject loadTestDataJson() {
+        try {
+            return TEST_DATA_JSON.get();
         } catch (IOException e) {
-            System.err.println("Error loading users from JSON: " + e.getMessage());
+            System.err.println("Error loading JSON configuration: " + e.getMessage());
             return null;
         }
     }
@@ -171,10 +217,8 @@ public class TestDataProvider {
      * Get property value with default
      */
     public static String getProperty(String key, String defaultValue) {
-        Properties props = new Properties();
         try {
-            props.load(new FileInputStream("src/test/resources/testdata.properties"));
-            return props.getProperty(key, defaultValue);
+            return TEST_DATA_PROPERTIES.get().getProperty(key, defaultValue);
         } catch (IOException e) {
             System.err.println("Error loading properties: " + e.getMessage());
             return defaultValue;
@@ -188,7 +232,7 @@ public class TestDataProvider {
         String value = getProperty(key);
         if (value != null) {
             try {
-                return Integer.parseInt(value);
+                return Integer.parseInt(value.trim());
             } catch (NumberFormatException e) {
                 System.err.println("Error parsing integer property: " + e.getMessage());
             }
@@ -196,12 +240,132 @@ public class TestDataProvider {
         return defaultValue;
     }
     
+    /**
+     * Get long property value
+     */
+    public static long getLongProperty(String key, long defaultValue) {
+        String value = getProperty(key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Error parsing long property: " + e.getMessage());
+            }
+        }
+        return defaultValue;
+    }
+    
     /**
      * Get boolean property value
      */
     public static boolean getBooleanProperty(String key, boolean defaultValue) {
         String value = getProperty(key);
-        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+    
+    /**
+     * Drop the cached JSON and properties documents so the next lookup reads them again
+     */
+    public static void clearCache() {
+        TEST_DATA_JSON.invalidate();
+        TEST_DATA_PROPERTIES.invalidate();
+    }
+    
+    // ============================================================
+    // PARSED FILE CACHE
+    // ============================================================
+    
+    /**
+     * Reads a file on first use and keeps the parsed result for every later lookup.
+     * Safe for concurrent data provider invocations: readers never block once loaded.
+     * When reloading is enabled, a change in the file's modification time or size
+     * triggers a re-read on the next access.
+     */
+    static final class CachedFile<T> {
+        private final Path path;
+        private final Loader<T> loader;
+        private final BooleanSupplier reloadOnChange;
+        private final AtomicInteger loadCount = new AtomicInteger();
+        private volatile Snapshot<T> snapshot;
+        
+        CachedFile(Path path, Loader<T> loader, BooleanSupplier reloadOnChange) {
+            this.path = path;
+            this.loader = loader;
+            this.reloadOnChange = reloadOnChange;
+        }
+        
+        T get() throws IOException {
+            Snapshot<T> current = snapshot;
+            if (current != null && !isStale(current)) {
+                return current.value;
+            }
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || isStale(current)) {
+                    // Take the file's version before parsing: an edit made while loading then
+                    // shows up as a change on the next call instead of being recorded as loaded
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    long lastModified = attributes.lastModifiedTime().toMillis();
+                    long size = attributes.size();
+                    current = new Snapshot<>(loader.load(path), lastModified, size);
+                    loadCount.incrementAndGet();
+                    snapshot = current;
+                }
+                return current.value;
+            }
+        }
+        
+        void invalidate() {
+            snapshot = null;
+        }
+        
+        int getLoadCount() {
+            return loadCount.get();
+        }
+        
+        private boolean isStale(Snapshot<T> current) {
+            if (!reloadOnChange.getAsBoolean()) {
+                return false;
+            }
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return attributes.lastModifiedTime().toMillis() != current.lastModified
+                        || attributes.size() != current.size;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    interface Loader<T> {
+        T load(Path path) throws IOException;
+    }
+    
+    private static final class Snapshot<T> {
+        private final T value;
+        private final long lastModified;
+        private final long size;
+        
+        Snapshot(T value, long lastModified, long size) {
+            this.value = value;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+    
+    private static JsonObject parseJson(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+    
+    private static Properties parseProperties(Path path) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            props.load(in);
+        }
+        return props;
     }
     
     // ============================================================
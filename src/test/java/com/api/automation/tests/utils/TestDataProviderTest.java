@@ -0,0 +1,162 @@
+package com.api.automation.tests.utils;
+
+import com.google.gson.JsonArray;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for TestDataProvider
+ */
+public class TestDataProviderTest {
+
+    @Test
+    public void testJsonAccessors() {
+        assertEquals(TestDataProvider.getApiEndpointFromJson("users"), "/users");
+        assertNull(TestDataProvider.getApiEndpointFromJson("missing"));
+        assertEquals(TestDataProvider.getUsersFromJson().size(), 4);
+        assertEquals(TestDataProvider.getTestConfigFromJson().get("environment").getAsString(), "staging");
+        assertEquals(TestDataProvider.getTestConfigString("environment", null), "staging");
+        assertEquals(TestDataProvider.getTestConfigInt("timeout", 0), 30);
+        assertFalse(TestDataProvider.getTestConfigBoolean("debugMode", true));
+        assertEquals(TestDataProvider.getTestConfigInt("missing", 7), 7);
+    }
+
+    @Test
+    public void testPropertyAccessors() {
+        assertEquals(TestDataProvider.getProperty("admin.username"), "admin@example.com");
+        assertEquals(TestDataProvider.getProperty("missing", "fallback"), "fallback");
+        assertEquals(TestDataProvider.getIntProperty("db.port", 0), 5432);
+        assertEquals(TestDataProvider.getLongProperty("retry.delay", 0L), 2000L);
+        assertTrue(TestDataProvider.getBooleanProperty("debug.mode", false));
+        assertEquals(TestDataProvider.getIntProperty("browser", 42), 42);
+    }
+
+    @Test
+    public void testReturnedJsonIsIsolatedFromCache() {
+        JsonArray users = TestDataProvider.getUsersFromJson();
+        users.remove(0);
+
+        assertEquals(TestDataProvider.getUsersFromJson().size(), 4);
+    }
+
+    @Test
+    public void testFileIsParsedOnceAcrossLookups() throws IOException {
+        Path file = Files.createTempFile("testdata", ".properties");
+        try {
+            Files.writeString(file, "key=value\n");
+            TestDataProvider.CachedFile<String> cached = new TestDataProvider.CachedFile<>(
+                    file, Files::readString, () -> false);
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(cached.get(), "key=value\n");
+            }
+            assertEquals(cached.getLoadCount(), 1);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testConcurrentFirstAccessLoadsOnce() throws Exception {
+        Path file = Files.createTempFile("testdata", ".json");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Files.writeString(file, "{}");
+            TestDataProvider.CachedFile<String> cached = new TestDataProvider.CachedFile<>(
+                    file, Files::readString, () -> false);
+
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return cached.get();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }, executor));
+            }
+            for (CompletableFuture<String> result : results) {
+                assertEquals(result.get(), "{}");
+            }
+            assertEquals(cached.getLoadCount(), 1);
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testModifiedFileIsReloadedOnlyWhenEnabled() throws IOException {
+        Path file = Files.createTempFile("testdata", ".properties");
+        try {
+            Files.writeString(file, "v1");
+            TestDataProvider.CachedFile<String> reloading = new TestDataProvider.CachedFile<>(
+                    file, Files::readString, () -> true);
+            TestDataProvider.CachedFile<String> fixed = new TestDataProvider.CachedFile<>(
+                    file, Files::readString, () -> false);
+            assertEquals(reloading.get(), "v1");
+            assertEquals(fixed.get(), "v1");
+
+            Files.writeString(file, "v2-changed");
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5_000));
+
+            assertEquals(reloading.get(), "v2-changed");
+            assertEquals(reloading.getLoadCount(), 2);
+            assertEquals(fixed.get(), "v1");
+            assertEquals(fixed.getLoadCount(), 1);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testEditDuringLoadIsReloaded() throws IOException {
+        Path file = Files.createTempFile("testdata", ".properties");
+        try {
+            Files.writeString(file, "v1");
+            TestDataProvider.CachedFile<String> cached = new TestDataProvider.CachedFile<>(file, path -> {
+                String content = Files.readString(path);
+                if (content.equals("v1")) {
+                    Files.writeString(path, "v2-edited");
+                }
+                return content;
+            }, () -> true);
+
+            assertEquals(cached.get(), "v1");
+            assertEquals(cached.get(), "v2-edited");
+            assertEquals(cached.getLoadCount(), 2);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testInvalidateForcesReload() throws IOException {
+        Path file = Files.createTempFile("testdata", ".properties");
+        try {
+            Files.writeString(file, "v1");
+            TestDataProvider.CachedFile<String> cached = new TestDataProvider.CachedFile<>(
+                    file, Files::readString, () -> false);
+            cached.get();
+            Files.writeString(file, "v2");
+
+            cached.invalidate();
+
+            assertEquals(cached.get(), "v2");
+            assertEquals(cached.getLoadCount(), 2);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.api.automation.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for AsyncLogWriter
+ */
+public class AsyncLogWriterTest {
+
+    @Test
+    public void testEntriesWrittenInOrder() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(100, new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        for (int i = 0; i < 50; i++) {
+            assertTrue(writer.append("entry-" + i));
+        }
+
+        assertTrue(writer.flush(5_000L));
+        String[] lines = buffer.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(lines.length, 50);
+        assertEquals(lines[0], "entry-0");
+        assertEquals(lines[49], "entry-49");
+        writer.shutdown(1_000L);
+    }
+
+    @Test
+    public void testFullQueueDropsInsteadOfBlocking() throws InterruptedException {
+        Object lock = new Object();
+        PrintStream blockingOut = new PrintStream(new ByteArrayOutputStream()) {
+            @Override
+            public void print(Object obj) {
+                synchronized (lock) {
+                    super.print(obj);
+                }
+            }
+        };
+        AsyncLogWriter writer = new AsyncLogWriter(2, blockingOut);
+        synchronized (lock) {
+            writer.append("first");
+            Thread.sleep(100);
+            for (int i = 0; i < 10; i++) {
+                writer.append("entry-" + i);
+            }
+            assertTrue(writer.getDroppedCount() >= 8);
+        }
+        assertTrue(writer.flush(5_000L));
+        writer.shutdown(1_000L);
+        assertFalse(writer.append("after-shutdown"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.LoggingMode;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for AsyncLoggingFilter
+ */
+public class AsyncLoggingFilterTest {
+    private static final String BODY = "{\"id\":1,\"name\":\"" + "x".repeat(500) + "\"}";
+
+    private HttpServer server;
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users", exchange -> {
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testFullModeTruncatesBodies() {
+        String log = runRequests(LoggingMode.FULL, 1, 1);
+
+        assertTrue(log.contains(">>> GET http://127.0.0.1:" + server.getAddress().getPort() + "/users/1"));
+        assertTrue(log.contains("<<< HTTP/1.1 200 OK"));
+        assertTrue(log.toLowerCase().contains("content-type: application/json"));
+        assertTrue(log.contains("... [truncated " + (BODY.length() - 100) + " chars]"));
+    }
+
+    @Test
+    public void testHeadersModeOmitsBodies() {
+        String log = runRequests(LoggingMode.HEADERS, 1, 1);
+
+        assertTrue(log.contains("<<< HTTP/1.1 200 OK"));
+        assertFalse(log.contains("\"id\":1"));
+    }
+
+    @Test
+    public void testSampledModeLogsOneInInterval() {
+        String log = runRequests(LoggingMode.SAMPLED, 4, 8);
+
+        assertEquals(log.split(">>> GET", -1).length - 1, 2);
+        assertTrue(log.contains("\"id\":1"));
+    }
+
+    private String runRequests(LoggingMode mode, int sampleInterval, int requests) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(100, new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri("http://127.0.0.1:" + server.getAddress().getPort())
+                .addFilter(new AsyncLoggingFilter(mode, sampleInterval, 100, writer))
+                .addFilter(new ConnectionReleaseFilter())
+                .build();
+        for (int i = 0; i < requests; i++) {
+            assertEquals(given().spec(spec).get("/users/1").statusCode(), 200);
+        }
+        assertTrue(writer.flush(5_000L));
+        writer.shutdown(1_000L);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,119 @@
+package com.api.automation.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for JsonDocument and CompiledJsonPath
+ */
+public class JsonDocumentTest {
+    private static final String JSON = "{\"id\":\"7\",\"name\":\"Apple MacBook Pro 16\","
+            + "\"data\":{\"year\":2019,\"price\":1849.99,\"huge\":1.0E40,\"big\":12345678901,"
+            + "\"bigger\":123456789012345678901234567890,\"CPU model\":\"Intel Core i9\",\"flag\":true,"
+            + "\"nothing\":null,\"tags\":[\"a\",\"b\",\"c\"],\"nested\":{\"x\":[1,2]}},"
+            + "\"items\":[{\"id\":1,\"name\":\"first\"},{\"id\":2,\"name\":\"second\"},{\"id\":3}]}";
+
+    @DataProvider
+    public Object[][] paths() {
+        return new Object[][] {
+                {"id"}, {"name"}, {"data.year"}, {"data.price"}, {"data.huge"}, {"data.big"},
+                {"data.bigger"}, {"data.flag"}, {"data.nothing"}, {"data.tags"}, {"data.tags[1]"},
+                {"data.tags[-1]"}, {"data.tags[9]"}, {"data.nested"}, {"data.nested.x[0]"},
+                {"items.id"}, {"items.name"}, {"items[0].name"}, {"items[-1].id"}, {"missing"},
+                {"missing.deeper"}, {"$"}, {""}, {"items.size()"}, {"items.find { it.id == 2 }.name"},
+                {"data.'CPU model'"}
+        };
+    }
+
+    @Test(dataProvider = "paths")
+    public void testGetMatchesRestAssured(String path) {
+        JsonPath expected = new JsonPath(JSON);
+        JsonDocument document = JsonDocument.of(new String(JSON));
+
+        assertEquals(document.<Object>get(path), expected.get(path), "get(" + path + ")");
+        assertEquals(document.getString(path), expected.getString(path), "getString(" + path + ")");
+    }
+
+    @Test
+    public void testValueTypesMatchRestAssured() {
+        JsonDocument document = JsonDocument.of(new String(JSON));
+
+        assertEquals(document.<Object>get("data.year").getClass(), Integer.class);
+        assertEquals(document.<Object>get("data.big").getClass(), Long.class);
+        assertEquals(document.<Object>get("data.price").getClass(), Float.class);
+        assertEquals(document.<Object>get("data.huge").getClass(), Double.class);
+        assertEquals(document.<Object>get("data.flag").getClass(), Boolean.class);
+    }
+
+    @Test
+    public void testRootLevelArray() {
+        String json = "[{\"id\":\"1\"},{\"id\":\"2\"}]";
+        JsonDocument document = JsonDocument.of(json);
+
+        assertEquals(document.getString("[1].id"), "2");
+        assertEquals(document.getList("id"), new JsonPath(json).getList("id"));
+    }
+
+    @Test
+    public void testHasChecksRootFields() {
+        JsonDocument document = JsonDocument.of("{\"id\":\"7\",\"data\":null}");
+
+        assertTrue(document.has("id"));
+        assertTrue(document.has("data"));
+        assertFalse(document.has("name"));
+        assertFalse(JsonDocument.of("[{\"id\":\"1\"}]").has("id"));
+    }
+
+    @Test
+    public void testSimplePathsCompileAndComplexPathsFallBack() {
+        assertTrue(CompiledJsonPath.compile("data.tags[-1]").isSupported());
+        assertTrue(CompiledJsonPath.compile("$").isSupported());
+        assertFalse(CompiledJsonPath.compile("items.findAll { it.id > 1 }").isSupported());
+        assertFalse(CompiledJsonPath.compile("data.'CPU model'").isSupported());
+        assertSame(CompiledJsonPath.compile("items[0].name"), CompiledJsonPath.compile("items[0].name"));
+    }
+
+    @Test
+    public void testResponseBodyIsParsedOncePerResponse() {
+        Response response = new ResponseBuilder().setStatusCode(200)
+                .setContentType("application/json").setBody(JSON).build();
+
+        long before = JsonDocument.getParseCount();
+        for (int i = 0; i < 20; i++) {
+            JsonDocument document = JsonDocument.of(response);
+            assertEquals(document.getString("items[" + (i % 3) + "].id"), String.valueOf(i % 3 + 1));
+        }
+        Map<String, Object> root = JsonDocument.of(response).getMap("$");
+
+        assertEquals(JsonDocument.getParseCount() - before, 1);
+        assertTrue(root.containsKey("data"));
+    }
+
+    @Test
+    public void testDistinctResponsesAreParsedSeparately() {
+        Response first = new ResponseBuilder().setStatusCode(200).setBody("{\"id\":1}").build();
+        Response second = new ResponseBuilder().setStatusCode(200).setBody("{\"id\":2}").build();
+
+        assertEquals(JsonDocument.of(first).<Integer>get("id"), Integer.valueOf(1));
+        assertEquals(JsonDocument.of(second).<Integer>get("id"), Integer.valueOf(2));
+        assertNotSame(JsonDocument.of(first), JsonDocument.of(second));
+    }
+
+    @Test
+    public void testGetValueFromJsonReusesParsedDocument() {
+        String json = new String(JSON);
+
+        long before = JsonDocument.getParseCount();
+        assertEquals(JsonUtils.getValueFromJson(json, "data.price"), "1849.99");
+        assertEquals(JsonUtils.getValueFromJson(json, "items[1].name"), "second");
+
+        assertEquals(JsonDocument.getParseCount() - before, 1);
+    }
+}
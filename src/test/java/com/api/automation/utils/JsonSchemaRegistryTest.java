@@ -0,0 +1,105 @@
+package com.api.automation.utils;
+
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for JsonSchemaRegistry
+ */
+public class JsonSchemaRegistryTest {
+    private static final String POST = "{\"userId\":1,\"id\":1,\"title\":\"title\",\"body\":\"body\"}";
+    private static final String USER = "{\"id\":1,\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\",\"address\":{\"city\":\"Gwenborough\",\"geo\":{\"lat\":\"-37.3159\"}}}";
+
+    private static Response response(String body) {
+        return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+    }
+
+    private static List<String> pointers(ProcessingReport report) {
+        List<String> pointers = new ArrayList<>();
+        for (ProcessingMessage message : report) {
+            pointers.add(message.asJson().path("instance").path("pointer").asText());
+        }
+        return pointers;
+    }
+
+    @Test
+    public void testValidDocumentsPass() {
+        JsonSchemaRegistry registry = JsonSchemaRegistry.getInstance();
+
+        assertTrue(registry.validate(response(POST), "post").isSuccess());
+        assertTrue(registry.validate(response(USER), "user").isSuccess());
+        assertTrue(registry.validate(response("{\"id\":\"7\",\"name\":\"Apple\",\"data\":null}"), "api-object").isSuccess());
+    }
+
+    @Test
+    public void testViolationsAreReportedWithPointers() {
+        ProcessingReport report = JsonSchemaRegistry.getInstance()
+                .validate("{\"userId\":\"one\",\"id\":1,\"title\":\"title\"}", "post");
+
+        assertFalse(report.isSuccess());
+        List<String> pointers = pointers(report);
+        assertTrue(pointers.contains("/userId"), pointers.toString());
+        assertTrue(pointers.contains(""), "missing 'body' is reported on the root: " + pointers);
+    }
+
+    @Test
+    public void testValidateEachReportsItemIndex() {
+        ProcessingReport report = JsonSchemaRegistry.getInstance()
+                .validateEach(response("[" + POST + ",{\"userId\":1,\"id\":\"2\",\"title\":\"t\",\"body\":\"b\"}]"), "post");
+
+        assertFalse(report.isSuccess());
+        assertEquals(pointers(report), List.of("/1/id"));
+    }
+
+    @Test
+    public void testSchemaIsCompiledOnce() {
+        JsonSchemaRegistry registry = JsonSchemaRegistry.getInstance();
+        registry.getSchema("post");
+
+        int compiled = registry.getCompileCount();
+        for (int i = 0; i < 50; i++) {
+            registry.validate(response(POST), "post");
+        }
+
+        assertEquals(registry.getCompileCount(), compiled);
+        assertSame(registry.getSchema("post"), registry.getSchema("post"));
+    }
+
+    @Test
+    public void testSharedSchemaIsSafeAcrossThreads() {
+        JsonSchemaRegistry registry = JsonSchemaRegistry.getInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String body = i % 2 == 0 ? POST : "{\"userId\":1}";
+                results.add(CompletableFuture.supplyAsync(() -> registry.validate(body, "post").isSuccess(), executor));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i).join().booleanValue(), i % 2 == 0, "result " + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUnknownSchemaIsRejected() {
+        IllegalArgumentException error = expectThrows(IllegalArgumentException.class,
+                () -> JsonSchemaRegistry.getInstance().getSchema("missing"));
+
+        assertTrue(error.getMessage().contains("schemas/missing.json"), error.getMessage());
+    }
+}
@@ -0,0 +1,139 @@
+package com.api.automation.utils;
+
+import com.api.automation.models.Post;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for JsonUtils
+ */
+public class JsonUtilsTest {
+    private static final int STREAMED_POSTS = 50_000;
+
+    private HttpServer server;
+    private CountDownLatch firstElementRead;
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/posts", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write('[');
+                for (int i = 1; i <= STREAMED_POSTS; i++) {
+                    if (i > 1) {
+                        out.write(',');
+                    }
+                    out.write(post(i).getBytes(StandardCharsets.UTF_8));
+                    if (i == 1_000) {
+                        out.flush();
+                        // Hold the rest of the body until the client has parsed an element
+                        awaitQuietly(firstElementRead);
+                    }
+                }
+                out.write(']');
+            }
+        });
+        server.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testSerializeIsCompactByDefault() {
+        Post post = Post.builder().userId(1).id(7).title("title").body("body").build();
+
+        String json = JsonUtils.serialize(post);
+        assertEquals(json, "{\"userId\":1,\"id\":7,\"title\":\"title\",\"body\":\"body\"}");
+        assertTrue(JsonUtils.serializePretty(post).contains("\n"));
+    }
+
+    @Test
+    public void testByteAndStreamRoundTrip() {
+        Post post = Post.builder().userId(2).id(3).title("t").body("b").build();
+        byte[] bytes = JsonUtils.serializeToBytes(post);
+
+        assertEquals(JsonUtils.deserialize(bytes, Post.class), post);
+        assertEquals(JsonUtils.deserialize(new ByteArrayInputStream(bytes), Post.class), post);
+        assertEquals(JsonUtils.deserialize(new String(bytes, StandardCharsets.UTF_8), Post.class), post);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(post, out);
+        assertEquals(out.toByteArray(), bytes);
+    }
+
+    @Test
+    public void testReadersAndWritersAreCached() {
+        assertSame(JsonUtils.readerFor(Post.class), JsonUtils.readerFor(Post.class));
+        assertSame(JsonUtils.writerFor(Post[].class), JsonUtils.writerFor(Post[].class));
+    }
+
+    @Test
+    public void testStreamParsesArrayElements() {
+        String json = "[" + post(1) + "," + post(2) + "," + post(3) + "]";
+        try (Stream<Post> posts = JsonUtils.stream(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), Post.class)) {
+            assertEquals(posts.mapToInt(Post::getId).sum(), 6);
+        }
+    }
+
+    @Test
+    public void testIterateEmptyArray() {
+        Iterator<Post> posts = JsonUtils.iterate(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), Post.class);
+        assertFalse(posts.hasNext());
+    }
+
+    @Test(timeOut = 30_000)
+    public void testStreamResponseWithoutBuffering() {
+        firstElementRead = new CountDownLatch(1);
+        Response response = RestClient.withoutBodyBuffering(given()
+                        .spec(RestClient.getPooledTransportSpec()))
+                .baseUri("http://127.0.0.1:" + server.getAddress().getPort())
+                .when()
+                .get("/posts");
+
+        try (Stream<Post> posts = JsonUtils.stream(response.asInputStream(), Post.class)) {
+            Iterator<Post> iterator = posts.iterator();
+            assertEquals(iterator.next().getId(), 1);
+            firstElementRead.countDown();
+            int count = 1;
+            while (iterator.hasNext()) {
+                assertEquals(iterator.next().getId(), ++count);
+            }
+            assertEquals(count, STREAMED_POSTS);
+        }
+    }
+
+    private static String post(int id) {
+        return "{\"userId\":1,\"id\":" + id + ",\"title\":\"title " + id + "\",\"body\":\"body " + id + "\"}";
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(20, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
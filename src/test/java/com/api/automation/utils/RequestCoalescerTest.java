@@ -0,0 +1,194 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+import com.api.automation.services.PostService;
+import com.api.automation.services.UserService;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for RequestCoalescer and service-level GET coalescing
+ */
+public class RequestCoalescerTest {
+
+    @AfterMethod
+    public void resetCounters() {
+        RequestCoalescer.getInstance().reset();
+    }
+
+    @Test
+    public void testConcurrentIdenticalCallsShareOneRequest() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Response>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(callers.submit(() -> coalescer.execute("/users", "GET /users/1", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return response("{\"id\":1}");
+                })));
+            }
+            waitUntil(() -> coalescer.getStats("/users").getCoalesced() == 7);
+            release.countDown();
+
+            for (Future<Response> response : responses) {
+                assertEquals(response.get(5, TimeUnit.SECONDS).jsonPath().getInt("id"), 1);
+            }
+            assertEquals(executions.get(), 1);
+            assertEquals(coalescer.getStats("/users").getExecutions(), 1);
+            assertEquals(coalescer.getStats().getCoalescedRate(), 7 / 8.0, 0.001);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSequentialAndDistinctCallsAreNotCoalesced() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        coalescer.execute("/users", "GET /users/1", () -> response("{}"));
+        coalescer.execute("/users", "GET /users/1", () -> response("{}"));
+        coalescer.execute("/posts", "GET /posts/1", () -> response("{}"));
+
+        assertEquals(coalescer.getStats().getExecutions(), 3);
+        assertEquals(coalescer.getStats().getCoalesced(), 0);
+        assertEquals(coalescer.getStats("/posts").getExecutions(), 1);
+        assertTrue(coalescer.getSummary().contains("/posts: executions=1"));
+    }
+
+    @Test
+    public void testFailureIsSharedWithWaiters() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Response> leader = callers.submit(() -> coalescer.execute("/users", "GET /users/1", () -> {
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            waitUntil(() -> coalescer.getStats("/users").getExecutions() == 1);
+            Future<Response> waiter = callers.submit(() -> coalescer.execute("/users", "GET /users/1",
+                    () -> response("{}")));
+            waitUntil(() -> coalescer.getStats("/users").getCoalesced() == 1);
+            release.countDown();
+
+            for (Future<Response> call : List.of(leader, waiter)) {
+                Exception e = expectThrows(Exception.class, () -> call.get(5, TimeUnit.SECONDS));
+                assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+            }
+            assertEquals(coalescer.execute("/users", "GET /users/1", () -> response("{\"ok\":true}"))
+                    .jsonPath().getBoolean("ok"), true, "the key is released after a failure");
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testServiceCoalescesConcurrentGets() throws IOException {
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/users", exchange -> {
+            requests.incrementAndGet();
+            sleep(300);
+            byte[] body = "{\"id\":1,\"name\":\"Leanne Graham\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        System.setProperty("base.uri", "http://127.0.0.1:" + server.getAddress().getPort());
+        try {
+            ConfigManager.getInstance().reload();
+            UserService userService = new UserService();
+            assertFalse(userService.isCoalescing(), "off unless configured");
+            userService.setCoalescing(true);
+
+            List<CompletableFuture<Response>> responses = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                responses.add(userService.getUserByIdAsync(1));
+            }
+            for (CompletableFuture<Response> response : responses) {
+                assertEquals(response.join().jsonPath().getString("name"), "Leanne Graham");
+            }
+
+            assertTrue(requests.get() < 10, "requests sent: " + requests.get());
+            assertEquals(RequestCoalescer.getInstance().getStats("/users").getExecutions(), requests.get());
+            assertEquals(RequestCoalescer.getInstance().getStats("/users").getCoalesced(), 10 - requests.get());
+        } finally {
+            System.clearProperty("base.uri");
+            ConfigManager.getInstance().reload();
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoalescingFollowsConfigurationPerService() {
+        System.setProperty("request.coalescing.services", "/users, /objects");
+        try {
+            ConfigManager.getInstance().reload();
+            UserService userService = new UserService();
+            assertTrue(userService.isCoalescing());
+            assertFalse(new PostService().isCoalescing());
+            userService.setCoalescing(false);
+            assertFalse(userService.isCoalescing(), "the per-instance toggle wins");
+        } finally {
+            System.clearProperty("request.coalescing.services");
+            ConfigManager.getInstance().reload();
+        }
+    }
+
+    private static Response response(String body) {
+        return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.api.automation.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+import org.testng.asserts.SoftAssert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for ResponseValidator
+ */
+public class ResponseValidatorTest {
+    private static final String OBJECTS = "[{\"id\":\"1\",\"name\":\"Google Pixel 6 Pro\",\"data\":{\"color\":\"Cloudy White\"}},"
+            + "{\"id\":\"2\",\"name\":null,\"data\":null},"
+            + "{\"id\":\"3\",\"data\":{\"CPU model\":\"Intel Core i9\",\"price\":1849.99,\"tags\":[\"a\",\"b\"]}}]";
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testArrayBodyAppliesRulesToEveryElement() {
+        List<String> failures = ResponseValidator.rules()
+                .size(greaterThan(0))
+                .notNull("id")
+                .notNull("name")
+                .validate(bytes(OBJECTS));
+
+        assertEquals(failures.size(), 2, failures.toString());
+        assertEquals(failures.get(0), "[1].name expected not null but was null");
+        assertEquals(failures.get(1), "[2].name expected not null but was null");
+    }
+
+    @Test
+    public void testObjectBodyAppliesRulesToRoot() {
+        String json = "{\"id\":\"7\",\"name\":\"Apple MacBook Pro 16\",\"data\":{\"year\":2019,\"price\":1849.99,"
+                + "\"CPU model\":\"Intel Core i9\"}}";
+
+        List<String> failures = ResponseValidator.rules()
+                .field("id", equalTo("7"))
+                .field("data.year", equalTo(2019))
+                .field("data.price", equalTo(1849.99f))
+                .field("data.'CPU model'", equalTo("Intel Core i9"))
+                .field("data.missing", nullValue())
+                .validate(bytes(json));
+
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
+    @Test
+    public void testAllFailuresAreReported() {
+        String json = "{\"id\":\"7\",\"name\":\"\",\"data\":{\"year\":2019}}";
+
+        List<String> failures = ResponseValidator.rules()
+                .field("id", equalTo("8"))
+                .field("name", not(emptyString()))
+                .field("data.year", greaterThan(2020))
+                .size(greaterThan(0))
+                .validate(bytes(json));
+
+        assertEquals(failures.size(), 4, failures.toString());
+        assertTrue(failures.get(0).startsWith("id expected \"8\""), failures.get(0));
+        assertTrue(failures.get(2).startsWith("data.year expected a value greater than <2020>"), failures.get(2));
+        assertEquals(failures.get(3), "size() expected an array body but was an object");
+    }
+
+    @Test
+    public void testContainerAndIndexedPaths() {
+        List<String> failures = ResponseValidator.rules()
+                .field("data", anyOf(nullValue(), instanceOf(java.util.Map.class)))
+                .field("data.tags", anyOf(nullValue(), hasSize(2)))
+                .validate(bytes(OBJECTS));
+        assertTrue(failures.isEmpty(), failures.toString());
+
+        failures = ResponseValidator.rules()
+                .field("data.tags[1]", equalTo("b"))
+                .validate(bytes(OBJECTS));
+        assertEquals(failures.size(), 2, failures.toString());
+        assertTrue(failures.get(0).startsWith("[0].data.tags[1]"), failures.get(0));
+    }
+
+    @Test
+    public void testSizeRuleOnArrayBody() {
+        List<String> failures = ResponseValidator.rules().size(greaterThanOrEqualTo(13)).validate(bytes(OBJECTS));
+
+        assertEquals(failures.size(), 1);
+        assertTrue(failures.get(0).startsWith("size() expected a value equal to or greater than <13>"), failures.get(0));
+    }
+
+    @Test
+    public void testMalformedBodyIsReportedAsFailure() {
+        List<String> failures = ResponseValidator.rules().notNull("id").validate(bytes("[{\"id\":"));
+
+        assertEquals(failures.size(), 1);
+        assertTrue(failures.get(0).startsWith("Body could not be parsed"), failures.get(0));
+    }
+
+    @Test
+    public void testValidateReportsIntoSoftAssert() {
+        Response response = new ResponseBuilder().setStatusCode(200)
+                .setContentType("application/json").setBody(OBJECTS).build();
+        SoftAssert softAssert = new SoftAssert();
+
+        int failures = ResponseValidator.rules().notNull("id").notNull("name").validate(response, softAssert);
+
+        assertEquals(failures, 2);
+        AssertionError error = expectThrows(AssertionError.class, softAssert::assertAll);
+        assertTrue(error.getMessage().contains("[1].name expected not null"), error.getMessage());
+        assertTrue(error.getMessage().contains("[2].name expected not null"), error.getMessage());
+    }
+
+    @Test
+    public void testLargeArrayIsValidatedInOnePass() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100_000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":").append(i)
+                    .append(",\"name\":\"n\",\"skipped\":{\"deep\":[1,2,3]}}");
+        }
+        json.append(']');
+
+        List<String> failures = ResponseValidator.rules()
+                .size(equalTo(100_000))
+                .field("id", greaterThanOrEqualTo(0))
+                .notNull("name")
+                .validate(bytes(json.toString()));
+
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+}
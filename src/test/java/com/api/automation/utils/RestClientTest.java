@@ -0,0 +1,65 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for RestClient request spec caching and pool rebuilding
+ */
+public class RestClientTest {
+
+    @AfterMethod
+    public void resetSpecs() {
+        RestClient.resetSpecs();
+    }
+
+    @Test
+    public void testOneSpecPerBaseUri() {
+        RequestSpecification first = RestClient.getRequestSpec("http://127.0.0.1:8081");
+        RequestSpecification second = RestClient.getRequestSpec("http://127.0.0.1:8082");
+
+        assertSame(RestClient.getRequestSpec("http://127.0.0.1:8081"), first);
+        assertNotSame(second, first);
+        assertEquals(((FilterableRequestSpecification) first).getBaseUri(), "http://127.0.0.1:8081");
+        assertEquals(((FilterableRequestSpecification) second).getBaseUri(), "http://127.0.0.1:8082");
+    }
+
+    @Test
+    public void testSpecCarriesTransportFilters() {
+        FilterableRequestSpecification spec =
+                (FilterableRequestSpecification) RestClient.getRequestSpec("http://127.0.0.1:8081");
+
+        assertTrue(spec.getDefinedFilters().stream().anyMatch(filter -> filter instanceof ConnectionReleaseFilter));
+        assertTrue(spec.getContentType().startsWith("application/json"));
+    }
+
+    @Test
+    public void testResetRebuildsSpecs() {
+        RequestSpecification before = RestClient.getRequestSpec("http://127.0.0.1:8081");
+        RestClient.resetSpecs();
+
+        assertNotSame(RestClient.getRequestSpec("http://127.0.0.1:8081"), before);
+    }
+
+    @Test
+    public void testReloadRebuildsPoolWithNewSettings() {
+        RequestSpecification before = RestClient.getRequestSpec("http://127.0.0.1:8081");
+        int maxTotal = RestClient.getPoolMaxTotal();
+        try {
+            System.setProperty("http.pool.max.total", String.valueOf(maxTotal + 7));
+            ConfigManager.getInstance().reload();
+
+            assertEquals(RestClient.getPoolMaxTotal(), maxTotal + 7);
+            assertNotSame(RestClient.getRequestSpec("http://127.0.0.1:8081"), before);
+        } finally {
+            System.clearProperty("http.pool.max.total");
+            ConfigManager.getInstance().reload();
+        }
+        assertEquals(RestClient.getPoolMaxTotal(), maxTotal);
+    }
+}
@@ -0,0 +1,86 @@
+package com.api.automation.workflow;
+
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for WorkflowExecutionHistory
+ */
+public class WorkflowExecutionHistoryTest {
+
+    @Test
+    public void testAppendAndQueryByWorkflow() {
+        WorkflowExecutionHistory history = new WorkflowExecutionHistory(100, 0);
+        for (int i = 0; i < 30; i++) {
+            history.add(result("wf-" + (i % 3), i));
+        }
+
+        assertEquals(history.size(), 30);
+        List<WorkflowExecutionResult> wf1 = history.getForWorkflow("wf-1");
+        assertEquals(wf1.size(), 10);
+        assertEquals(wf1.get(0).getExecutionDurationMs(), 1);
+        assertEquals(wf1.get(9).getExecutionDurationMs(), 28);
+        assertTrue(history.getForWorkflow("unknown").isEmpty());
+    }
+
+    @Test
+    public void testOldestEvictedWhenFull() {
+        WorkflowExecutionHistory history = new WorkflowExecutionHistory(5, 0);
+        for (int i = 0; i < 12; i++) {
+            history.add(result(i < 6 ? "early" : "late", i));
+        }
+
+        List<WorkflowExecutionResult> all = history.getAll();
+        assertEquals(all.size(), 5);
+        assertEquals(all.get(0).getExecutionDurationMs(), 7);
+        assertEquals(all.get(4).getExecutionDurationMs(), 11);
+        assertTrue(history.getForWorkflow("early").isEmpty());
+        assertEquals(history.getForWorkflow("late").size(), 5);
+    }
+
+    @Test
+    public void testPerWorkflowIndexGrowsPastInitialCapacity() {
+        WorkflowExecutionHistory history = new WorkflowExecutionHistory(50, 0);
+        for (int i = 0; i < 200; i++) {
+            history.add(result(i % 5 == 0 ? "sparse" : "dense", i));
+        }
+
+        List<WorkflowExecutionResult> dense = history.getForWorkflow("dense");
+        assertEquals(dense.size(), 40);
+        assertEquals(dense.get(39).getExecutionDurationMs(), 199);
+        assertEquals(history.getForWorkflow("sparse").size(), 10);
+    }
+
+    @Test
+    public void testExpiredResultsEvicted() throws InterruptedException {
+        WorkflowExecutionHistory history = new WorkflowExecutionHistory(100, 100);
+        history.add(result("old", 1));
+        Thread.sleep(200);
+        history.add(result("new", 2));
+
+        assertEquals(history.size(), 1);
+        assertTrue(history.getForWorkflow("old").isEmpty());
+        assertEquals(history.getForWorkflow("new").size(), 1);
+    }
+
+    @Test
+    public void testClear() {
+        WorkflowExecutionHistory history = new WorkflowExecutionHistory(10, 0);
+        history.add(result("wf", 1));
+        history.clear();
+
+        assertEquals(history.size(), 0);
+        assertTrue(history.getForWorkflow("wf").isEmpty());
+        history.add(result("wf", 2));
+        assertEquals(history.getForWorkflow("wf").size(), 1);
+    }
+
+    private static WorkflowExecutionResult result(String workflowId, long durationMs) {
+        return new WorkflowExecutionResult(workflowId, workflowId, true, WorkflowStatus.COMPLETED,
+                LocalDateTime.now(), durationMs, null);
+    }
+}
@@ -3,7 +3,19 @@ package com.api.automation.workflow;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 import static org.testng.Assert.*;
 
@@ -165,6 +177,340 @@ public class WorkflowManagerTest {
         assertEquals("test-1", enabledByPriority.get(1).getWorkflowId());
     }
     
+    @Test
+    public void testParallelExecutionRunsSamePriorityConcurrently() {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        BooleanSupplier awaitPeer = () -> {
+            bothRunning.countDown();
+            try {
+                return bothRunning.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        };
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("p-1", awaitPeer), true, 1));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("p-2", awaitPeer), true, 1));
+        
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<WorkflowExecutionResult> results = manager.executeAllEnabledWorkflowsInParallel(executor, 10_000);
+        executor.shutdownNow();
+        
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getWorkflowId(), "p-1");
+        assertEquals(results.get(1).getWorkflowId(), "p-2");
+        assertTrue(results.stream().allMatch(WorkflowExecutionResult::isSuccess));
+    }
+    
+    @Test
+    public void testParallelExecutionRespectsPriorityBarrier() {
+        AtomicBoolean highFinished = new AtomicBoolean();
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("low", highFinished::get), true, 1));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("high", () -> {
+            sleep(200);
+            highFinished.set(true);
+            return true;
+        }), true, 5));
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<WorkflowExecutionResult> results = manager.executeAllEnabledWorkflowsInParallel(executor, 10_000);
+        executor.shutdownNow();
+        
+        assertEquals(results.get(0).getWorkflowId(), "high");
+        assertEquals(results.get(1).getWorkflowId(), "low");
+        assertTrue(results.get(1).isSuccess());
+    }
+    
+    @Test
+    public void testParallelExecutionTimeout() {
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("slow", () -> {
+            sleep(5_000);
+            return true;
+        }), true, 5));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("later", () -> true), true, 1));
+        
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<WorkflowExecutionResult> results = manager.executeAllEnabledWorkflowsInParallel(executor, 200);
+        executor.shutdownNow();
+        
+        assertEquals(results.get(0).getStatus(), WorkflowStatus.FAILED);
+        assertTrue(results.get(0).getErrorMessage().contains("timed out"));
+        assertEquals(results.get(1).getStatus(), WorkflowStatus.SKIPPED);
+        assertEquals(manager.getExecutionHistoryForWorkflow("slow").size(), 1);
+    }
+    
+    @Test
+    public void testWorkflowGraphRunsDependentsAfterUpstream() {
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch bothTestsRunning = new CountDownLatch(2);
+        BooleanSupplier concurrentTest = () -> {
+            bothTestsRunning.countDown();
+            try {
+                return bothTestsRunning.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        };
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("report", () -> order.add("report")))
+                .dependsOn("tests-a", "tests-b"));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("tests-a", concurrentTest)).dependsOn("data-prep"));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("tests-b", concurrentTest)).dependsOn("data-prep"));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("data-prep", () -> order.add("data-prep"))));
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<WorkflowExecutionResult> results = manager.executeWorkflowGraph(executor, 10_000);
+        executor.shutdownNow();
+        
+        assertEquals(results.size(), 4);
+        assertTrue(results.stream().allMatch(WorkflowExecutionResult::isSuccess));
+        assertEquals(order, List.of("data-prep", "report"));
+    }
+    
+    @Test
+    public void testWorkflowGraphSkipsDownstreamOfFailure() {
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("data-prep", () -> false)));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("tests", () -> true)).dependsOn("data-prep"));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("report", () -> true)).dependsOn("tests"));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("cleanup", () -> true)));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("orphan", () -> true)).dependsOn("missing"));
+        
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        manager.executeWorkflowGraph(executor, 10_000);
+        executor.shutdownNow();
+        
+        assertEquals(manager.getWorkflowStatus("data-prep"), WorkflowStatus.FAILED);
+        assertEquals(manager.getWorkflowStatus("tests"), WorkflowStatus.SKIPPED);
+        assertEquals(manager.getWorkflowStatus("report"), WorkflowStatus.SKIPPED);
+        assertEquals(manager.getWorkflowStatus("cleanup"), WorkflowStatus.COMPLETED);
+        assertEquals(manager.getWorkflowStatus("orphan"), WorkflowStatus.SKIPPED);
+        assertEquals(manager.getExecutionHistory().size(), 5);
+    }
+    
+    @Test
+    public void testRegisterWorkflowWithCycleFails() {
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("a", () -> true)).dependsOn("c"));
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("b", () -> true)).dependsOn("a"));
+        
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () ->
+                manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("c", () -> true)).dependsOn("b")));
+        assertTrue(e.getMessage().contains("c -> b -> a -> c"));
+        assertNull(manager.getWorkflow("c"));
+    }
+    
+    @Test
+    public void testDependsOnAfterRegistrationFails() {
+        WorkflowConfig a = new WorkflowConfig(new LambdaWorkflow("a", () -> true));
+        manager.registerWorkflow(a);
+        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow("b", () -> true)).dependsOn("a"));
+        
+        expectThrows(IllegalStateException.class, () -> a.dependsOn("b"));
+        assertTrue(a.getDependencies().isEmpty());
+        
+        manager.unregisterWorkflow("a");
+        a.dependsOn("c");
+        assertEquals(a.getDependencies(), Set.of("c"));
+    }
+    
+    @Test
+    public void testEnabledSnapshotCachedUntilChange() {
+        manager.registerWorkflow(new WorkflowConfig(testWorkflow1, true, 1));
+        manager.registerWorkflow(new WorkflowConfig(testWorkflow2, true, 5));
+        
+        List<WorkflowConfig> first = manager.getEnabledWorkflows();
+        assertSame(manager.getEnabledWorkflows(), first);
+        expectThrows(UnsupportedOperationException.class, () -> first.remove(0));
+        
+        manager.getWorkflowConfig("test-1").setPriority(10);
+        List<WorkflowConfig> reprioritized = manager.getEnabledWorkflows();
+        assertNotSame(reprioritized, first);
+        assertEquals(reprioritized.get(0).getWorkflowId(), "test-1");
+        
+        manager.disableWorkflow("test-2");
+        assertEquals(manager.getEnabledWorkflows().size(), 1);
+        
+        manager.unregisterWorkflow("test-1");
+        assertTrue(manager.getEnabledWorkflows().isEmpty());
+    }
+    
+    @Test
+    public void testSetMetadataKeepsConcurrentMap() {
+        WorkflowConfig config = new WorkflowConfig(testWorkflow1);
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("owner", "qa");
+        config.setMetadata(metadata);
+        metadata.put("owner", "changed");
+        
+        assertTrue(config.getMetadata() instanceof ConcurrentHashMap);
+        assertEquals(config.getMetadataValue("owner"), "qa");
+    }
+    
+    @Test
+    public void testNullMetadataValuesAndKeys() {
+        WorkflowConfig config = new WorkflowConfig(testWorkflow1);
+        config.setMetadataValue("owner", "qa");
+        config.setMetadataValue("owner", null);
+        
+        assertNull(config.getMetadataValue("owner"));
+        assertFalse(config.getMetadata().containsKey("owner"));
+        assertNull(config.getMetadataValue(null));
+        
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("team", null);
+        metadata.put("suite", "smoke");
+        config.setMetadata(metadata);
+        assertEquals(config.getMetadata(), Map.of("suite", "smoke"));
+    }
+    
+    @Test
+    public void testConcurrentRegistrationToggleAndExecution() throws InterruptedException {
+        int threads = 8;
+        int workflowsPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < workflowsPerThread; i++) {
+                        String id = "wf-" + thread + "-" + i;
+                        manager.registerWorkflow(new WorkflowConfig(new LambdaWorkflow(id, () -> true), true, i % 3));
+                        manager.disableWorkflow(id);
+                        manager.enableWorkflow(id);
+                        assertTrue(manager.executeWorkflow(id).isSuccess());
+                        manager.getEnabledWorkflows();
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        
+        assertTrue(errors.isEmpty(), errors.toString());
+        assertEquals(manager.getWorkflowCount(), threads * workflowsPerThread);
+        assertEquals(manager.getEnabledWorkflows().size(), threads * workflowsPerThread);
+        assertEquals(manager.getAllWorkflows().size(), threads * workflowsPerThread);
+    }
+    
+    @Test
+    public void testAsyncListenerDispatchKeepsPerWorkflowOrder() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        WorkflowListener slowListener = new RecordingListener(events, 20);
+        manager.addListener(slowListener);
+        manager.enableAsyncListenerDispatch(2, 64, ListenerOverflowPolicy.BLOCK, 1);
+        try {
+            manager.registerWorkflow(testWorkflow1);
+            long start = System.nanoTime();
+            manager.executeWorkflow("test-1");
+            manager.executeWorkflow("test-1");
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            
+            assertTrue(elapsedMs < 60, "execution waited for listeners: " + elapsedMs + "ms");
+            assertTrue(manager.flushListeners(5_000));
+            assertEquals(events, List.of("registered:test-1", "started:test-1", "executed:test-1",
+                    "started:test-1", "executed:test-1"));
+        } finally {
+            assertTrue(manager.disableAsyncListenerDispatch(5_000));
+            manager.removeListener(slowListener);
+        }
+    }
+    
+    @Test
+    public void testAsyncListenerDispatchDropsOnOverflow() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        WorkflowListener slowListener = new RecordingListener(events, 50);
+        manager.addListener(slowListener);
+        manager.enableAsyncListenerDispatch(1, 2, ListenerOverflowPolicy.DROP, 1);
+        try {
+            manager.registerWorkflow(testWorkflow1);
+            for (int i = 0; i < 10; i++) {
+                manager.executeWorkflow("test-1");
+            }
+            
+            long dropped = manager.getDroppedListenerEventCount();
+            assertTrue(dropped > 0);
+            assertTrue(manager.disableAsyncListenerDispatch(5_000));
+            assertEquals(events.size() + dropped, 21);
+        } finally {
+            manager.disableAsyncListenerDispatch(5_000);
+            manager.removeListener(slowListener);
+        }
+    }
+    
+    @Test
+    public void testAsyncListenerShutdownRacingDispatchLosesNoEvent() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher(2, 1024, ListenerOverflowPolicy.BLOCK, 1);
+            AtomicLong delivered = new AtomicLong();
+            AtomicLong accepted = new AtomicLong();
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService producers = Executors.newFixedThreadPool(4);
+            for (int t = 0; t < 4; t++) {
+                String workflowId = "wf-" + t;
+                producers.submit(() -> {
+                    while (running.get()) {
+                        if (dispatcher.dispatch(workflowId, delivered::incrementAndGet)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            sleep(5);
+            assertTrue(dispatcher.shutdown(5_000));
+            running.set(false);
+            producers.shutdown();
+            assertTrue(producers.awaitTermination(5, TimeUnit.SECONDS));
+            
+            assertEquals(delivered.get(), accepted.get(), "round " + round);
+        }
+    }
+    
+    @Test(timeOut = 10_000)
+    public void testAsyncListenerDispatchFromListenerDoesNotDeadlock() throws InterruptedException {
+        AsyncListenerDispatcher dispatcher = new AsyncListenerDispatcher(1, 1, ListenerOverflowPolicy.BLOCK, 1);
+        AtomicLong delivered = new AtomicLong();
+        CountDownLatch nested = new CountDownLatch(1);
+        dispatcher.dispatch("wf", () -> {
+            // the lane holds one event, so the second nested dispatch finds it full
+            dispatcher.dispatch("wf", delivered::incrementAndGet);
+            dispatcher.dispatch("wf", delivered::incrementAndGet);
+            nested.countDown();
+        });
+        
+        assertTrue(nested.await(5, TimeUnit.SECONDS));
+        assertTrue(dispatcher.shutdown(5_000));
+        assertEquals(delivered.get(), 1);
+        assertEquals(dispatcher.getDroppedCount(), 1);
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Workflow whose execution is supplied as a lambda
+     */
+    private static class LambdaWorkflow extends AbstractWorkflow {
+        private final BooleanSupplier body;
+        
+        public LambdaWorkflow(String id, BooleanSupplier body) {
+            super(id, id, "Lambda workflow for unit testing");
+            this.body = body;
+        }
+        
+        @Override
+        public boolean execute() {
+            return body.getAsBoolean();
+        }
+    }
+    
     /**
      * Test implementation of Workflow
      */
@@ -179,6 +525,37 @@ public class WorkflowManagerTest {
         }
     }
     
+    /**
+     * Listener that records events after a fixed delay
+     */
+    private static class RecordingListener extends TestWorkflowListener {
+        private final List<String> events;
+        private final long delayMs;
+        
+        RecordingListener(List<String> events, long delayMs) {
+            this.events = events;
+            this.delayMs = delayMs;
+        }
+        
+        @Override
+        public void onWorkflowRegistered(WorkflowConfig config) {
+            sleep(delayMs);
+            events.add("registered:" + config.getWorkflowId());
+        }
+        
+        @Override
+        public void onWorkflowStarted(WorkflowConfig config) {
+            sleep(delayMs);
+            events.add("started:" + config.getWorkflowId());
+        }
+        
+        @Override
+        public void onWorkflowExecuted(WorkflowExecutionResult result) {
+            sleep(delayMs);
+            events.add("executed:" + result.getWorkflowId());
+        }
+    }
+    
     /**
      * Test implementation of WorkflowListener
      */